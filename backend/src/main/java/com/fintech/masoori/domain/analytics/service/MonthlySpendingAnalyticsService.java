@@ -9,12 +9,17 @@ import com.fintech.masoori.global.rabbitMQ.dto.MonthlySpendingAndCreditcard;
 
 public interface MonthlySpendingAnalyticsService {
 	/**
-	 * 월간 분석 전체 조회 by 유저 이메일 &
+	 * 월간 분석 전체 조회 by 유저 id &
 	 */
-	MonthlySpendingAnalyticsRes selectAll(String userEmail, LocalDateTime time);
+	MonthlySpendingAnalyticsRes selectAll(long userId, LocalDateTime time);
 
 	void saveMonthlySpendingAnalytics(MonthlySpendingAndCreditcard monthlySpendingAndCreditcard);
 
 	void updateCreatedDateAnalytics(MonthlySpendingAndCreditcard monthlySpendingAndCreditcard);
 
+	/**
+	 * 월간 분석 결과의 소비 내역과 카드 추천을 한 트랜잭션으로 등록한다. 하나라도 실패하면 모두 되돌린다.
+	 */
+	void registerMonthlyAnalytics(MonthlySpendingAndCreditcard monthlySpendingAndCreditcard);
+
 }
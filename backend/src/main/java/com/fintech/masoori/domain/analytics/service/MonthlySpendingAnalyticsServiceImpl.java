@@ -10,6 +10,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.fintech.masoori.domain.analytics.dto.MonthlySpendingAnalyticsRes;
 import com.fintech.masoori.domain.analytics.entity.MonthlySpendingAnalytics;
 import com.fintech.masoori.domain.analytics.repository.MonthlySpendingAnalyticsRepository;
+import com.fintech.masoori.domain.credit.service.CreditCardService;
 import com.fintech.masoori.domain.user.entity.User;
 import com.fintech.masoori.domain.user.repository.UserRepository;
 import com.fintech.masoori.global.rabbitMQ.dto.GeneratedSpending;
@@ -26,15 +27,14 @@ import lombok.extern.slf4j.Slf4j;
 public class MonthlySpendingAnalyticsServiceImpl implements MonthlySpendingAnalyticsService {
 	private final UserRepository userRepository;
 	private final MonthlySpendingAnalyticsRepository monthlySpendingAnalyticsRepository;
+	private final CreditCardService creditCardService;
 
 	@Override
-	public MonthlySpendingAnalyticsRes selectAll(String userEmail, LocalDateTime time) {
-		User user = userRepository.findUserByEmail(userEmail);
-
+	public MonthlySpendingAnalyticsRes selectAll(long userId, LocalDateTime time) {
 		CalcDate.StartEndDate calcDate = CalcDate.calcDate(time, time);
 
 		List<MonthlySpendingAnalytics> monthlySpendingAnalyticsList = monthlySpendingAnalyticsRepository.findMonthlySpendingAnalyticsByUserId(
-			user.getId(), calcDate.getStartDate(), calcDate.getEndDate());
+			userId, calcDate.getStartDate(), calcDate.getEndDate());
 
 		List<MonthlySpendingAnalyticsRes.MonthlySpendingAnalytics> monthlySpendingAnalyticsResList = monthlySpendingAnalyticsList.stream()
 																																 .map(
@@ -88,4 +88,18 @@ public class MonthlySpendingAnalyticsServiceImpl implements MonthlySpendingAnaly
 
 	}
 
+	@Override
+	@Transactional
+	public void registerMonthlyAnalytics(MonthlySpendingAndCreditcard monthlySpendingAndCreditcard) {
+		log.info("소비 내역 등록");
+		saveMonthlySpendingAnalytics(monthlySpendingAndCreditcard);
+		log.info("소비 내역 내용 업데이트");
+		updateCreatedDateAnalytics(monthlySpendingAndCreditcard);
+
+		log.info("카드 추천 등록");
+		creditCardService.saveRecommendedCreditCard(monthlySpendingAndCreditcard);
+		log.info("카드 추천 등록 업데이트");
+		creditCardService.updateRecommendedCreditCardCreatedDate(monthlySpendingAndCreditcard);
+	}
+
 }
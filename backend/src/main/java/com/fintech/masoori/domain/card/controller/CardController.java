@@ -13,12 +13,17 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.fintech.masoori.domain.card.dto.BasicCardRes;
+import com.fintech.masoori.domain.card.dto.CardTimelineRes;
 import com.fintech.masoori.domain.card.dto.ChallengeCardRes;
+import com.fintech.masoori.domain.card.dto.GenerationJob;
+import com.fintech.masoori.domain.card.dto.GenerationJobType;
 import com.fintech.masoori.domain.card.dto.ProfileCardReq;
 import com.fintech.masoori.domain.card.dto.UserCardListRes;
 import com.fintech.masoori.domain.card.exception.AlreadyInProgressException;
 import com.fintech.masoori.domain.card.exception.CanCreateException;
 import com.fintech.masoori.domain.card.service.CardService;
+import com.fintech.masoori.domain.card.service.GenerationJobService;
+import com.fintech.masoori.global.config.jwt.LoginUser;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -32,13 +37,34 @@ import lombok.RequiredArgsConstructor;
 @Tag(name = "Card", description = "소비카드 및 챌린지카드 API")
 public class CardController {
 	private final CardService cardService;
+	private final GenerationJobService generationJobService;
 
 	//소비 카드 생성
-	@Operation(summary = "소비 카드 생성 API", description = "사용자 최초 등록 시 소비카드를 생성한다.")
+	@Operation(summary = "소비 카드 생성 API", description = "사용자 최초 등록 시 소비카드를 생성한다. 생성 작업을 반환하며, 이미 생성 중이면 400('C009'), 지난 주 거래내역이 없으면 400('C011')에러 발생")
 	@PostMapping("/consume")
-	public ResponseEntity<?> createConsumeCard(Principal principal) {
-		cardService.createSpendingCard(principal.getName());
-		return ResponseEntity.ok().build();
+	public ResponseEntity<GenerationJob> createConsumeCard(LoginUser loginUser) {
+		GenerationJob job = cardService.createSpendingCard(loginUser.getId());
+		return ResponseEntity.ok(job);
+	}
+
+	//카드 생성 작업 조회
+	@Operation(summary = "카드 생성 작업 조회 API", description = "생성 작업의 상태(QUEUED, RUNNING, DONE, FAILED)를 조회한다. DONE 이 되면 카드를 조회한다.")
+	@GetMapping("/job/{jobId}")
+	public ResponseEntity<GenerationJob> selectGenerationJob(
+		@Parameter(name = "jobId", description = "생성 작업 id", required = true, in = ParameterIn.PATH) @PathVariable String jobId,
+		LoginUser loginUser) {
+		return ResponseEntity.ok(generationJobService.getJob(loginUser.getId(), jobId));
+	}
+
+	//진행 중인 카드 생성 작업 조회
+	@Operation(summary = "진행 중인 카드 생성 작업 조회 API", description = "카드 종류별로 진행 중인 생성 작업을 조회한다. 없으면 204")
+	@GetMapping("/job")
+	public ResponseEntity<GenerationJob> selectActiveGenerationJob(
+		@Parameter(description = "카드 종류 (SPENDING, CHALLENGE)", required = true, example = "SPENDING") @RequestParam("type") GenerationJobType type,
+		LoginUser loginUser) {
+		return generationJobService.getActiveJob(loginUser.getId(), type)
+		                           .map(ResponseEntity::ok)
+		                           .orElseGet(() -> ResponseEntity.noContent().build());
 	}
 
 	//소비 카드 범위 조회
@@ -47,18 +73,28 @@ public class CardController {
 	public ResponseEntity<UserCardListRes> selectConsumeCard(
 		@Parameter(description = "조회를 시작할 연, 월", required = true, example = "2023-09-16T07:42:34.76") @RequestParam("startDate") LocalDateTime startDate,
 		@Parameter(description = "조회를 종료할 연, 월", required = true, example = "2023-09-26T07:42:34.76") @RequestParam("endDate") LocalDateTime endDate,
-		Principal principal) {
-		UserCardListRes basicCardList = cardService.selectRangeBasicCard(principal.getName(), startDate, endDate);
+		LoginUser loginUser) {
+		UserCardListRes basicCardList = cardService.selectRangeBasicCard(loginUser.getId(), startDate, endDate);
 		return ResponseEntity.ok(basicCardList);
 	}
 
+	//소비 카드 타임라인 조회
+	@Operation(summary = "소비 카드 타임라인 조회 API", description = "유저의 소비 카드를 최신순으로 size 장씩 조회한다. 다음 페이지는 응답의 nextCursor 를 cursor 로 넘겨 조회하며, 잘못된 cursor 는 400('C001')에러 발생")
+	@GetMapping("/consume/timeline")
+	public ResponseEntity<CardTimelineRes> selectConsumeCardTimeline(
+		@Parameter(description = "이전 응답의 nextCursor. 첫 페이지는 생략") @RequestParam(value = "cursor", required = false) String cursor,
+		@Parameter(description = "페이지 크기 (최대 50)", example = "20") @RequestParam(value = "size", defaultValue = "20") int size,
+		LoginUser loginUser) {
+		return ResponseEntity.ok(cardService.selectBasicCardTimeline(loginUser.getId(), cursor, size));
+	}
+
 	//소비 카드 조회
 	@Operation(summary = "소비 카드 조회 API", description = "소비 카드 한 장을 조회한다.")
 	@GetMapping("/consume/{id}")
 	public ResponseEntity<BasicCardRes.BasicCard> detailConsumeCard(
 		@Parameter(name = "id", description = "소비카드 id", required = true, example = "1", in = ParameterIn.PATH) @PathVariable Long id,
-		Principal principal) {
-		BasicCardRes.BasicCard basicCard = cardService.selectBasicCard(principal.getName(), id);
+		LoginUser loginUser) {
+		BasicCardRes.BasicCard basicCard = cardService.selectBasicCard(loginUser.getId(), id);
 		return ResponseEntity.ok(basicCard);
 	}
 
@@ -68,19 +104,29 @@ public class CardController {
 	public ResponseEntity<UserCardListRes> selectChallenge(
 		@Parameter(description = "조회를 시작할 연, 월", required = true, example = "2023-09-16T07:42:34.76") @RequestParam("startDate") LocalDateTime startDate,
 		@Parameter(description = "조회를 종료할 연, 월", required = true, example = "2023-09-26T07:42:34.76") @RequestParam("endDate") LocalDateTime endDate,
-		Principal principal) {
-		UserCardListRes challengeCardList = cardService.selectRangeChallengeCard(principal.getName(), startDate,
+		LoginUser loginUser) {
+		UserCardListRes challengeCardList = cardService.selectRangeChallengeCard(loginUser.getId(), startDate,
 			endDate);
 		return ResponseEntity.ok(challengeCardList);
 	}
 
+	//챌린지 카드 타임라인 조회
+	@Operation(summary = "챌린지 카드 타임라인 조회 API", description = "유저의 챌린지 카드를 최신순으로 size 장씩 조회한다. 다음 페이지는 응답의 nextCursor 를 cursor 로 넘겨 조회하며, 잘못된 cursor 는 400('C001')에러 발생")
+	@GetMapping("/challenge/timeline")
+	public ResponseEntity<CardTimelineRes> selectChallengeCardTimeline(
+		@Parameter(description = "이전 응답의 nextCursor. 첫 페이지는 생략") @RequestParam(value = "cursor", required = false) String cursor,
+		@Parameter(description = "페이지 크기 (최대 50)", example = "20") @RequestParam(value = "size", defaultValue = "20") int size,
+		LoginUser loginUser) {
+		return ResponseEntity.ok(cardService.selectChallengeCardTimeline(loginUser.getId(), cursor, size));
+	}
+
 	//챌린지 카드 조회
 	@Operation(summary = "챌린지 카드 조회 API", description = "챌린지 카드 한 장을 조회한다.")
 	@GetMapping("/challenge/{id}")
 	public ResponseEntity<ChallengeCardRes.ChallengeCard> selectChallengeCard(
 		@Parameter(name = "id", description = "챌린지카드 id", required = true, example = "1", in = ParameterIn.PATH) @PathVariable Long id,
-		Principal principal) {
-		ChallengeCardRes.ChallengeCard challengeCard = cardService.selectChallengeCard(principal.getName(), id);
+		LoginUser loginUser) {
+		ChallengeCardRes.ChallengeCard challengeCard = cardService.selectChallengeCard(loginUser.getId(), id);
 		return ResponseEntity.ok(challengeCard);
 	}
 
@@ -89,8 +135,8 @@ public class CardController {
 	@GetMapping("/consume/recent")
 	public ResponseEntity<BasicCardRes.BasicCard> selectUserLastBasicCard(
 		@Parameter(name = "now", description = "현재 시간", example = "2023-09-26T07:42:34.76") LocalDateTime now,
-		Principal principal) {
-		BasicCardRes.BasicCard basicCard = cardService.selectUserRecentBasicCard(principal.getName(), now);
+		LoginUser loginUser) {
+		BasicCardRes.BasicCard basicCard = cardService.selectUserRecentBasicCard(loginUser.getId(), now);
 		//카드를 만들 수 있는 사용자
 		if (basicCard == null) {
 			throw new CanCreateException("User can create Card");
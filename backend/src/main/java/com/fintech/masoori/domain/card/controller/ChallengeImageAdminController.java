@@ -0,0 +1,34 @@
+package com.fintech.masoori.domain.card.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fintech.masoori.domain.card.dto.ChallengeImageCacheRes;
+import com.fintech.masoori.domain.card.service.ChallengeImageService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/card/challenge-image")
+@RequiredArgsConstructor
+@Tag(name = "Challenge Image Admin", description = "챌린지 카드 이미지 캐시 운영 API")
+public class ChallengeImageAdminController {
+	private final ChallengeImageService challengeImageService;
+
+	@Operation(summary = "챌린지 이미지 캐시 조회 API", description = "챌린지 카드 이름별 이미지 생성 현황과 이미지가 없는 이름을 조회한다.")
+	@GetMapping
+	public ResponseEntity<ChallengeImageCacheRes> selectCacheState() {
+		return ResponseEntity.ok(challengeImageService.selectCacheState());
+	}
+
+	@Operation(summary = "챌린지 이미지 미리 생성 API", description = "이미지가 없는 이름의 이미지 생성을 요청하고 요청한 이름 수를 반환한다.")
+	@PostMapping("/warm-up")
+	public ResponseEntity<Integer> warmUp() {
+		return ResponseEntity.ok(challengeImageService.warmUp());
+	}
+}
@@ -7,6 +7,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
@@ -19,6 +20,7 @@ public class BasicCardRes {
 	@Data
 	@Builder
 	@AllArgsConstructor
+	@NoArgsConstructor
 	public static class BasicCard {
 		@Schema(description = "카드 기본 정보")
 		private Card card;
@@ -0,0 +1,48 @@
+package com.fintech.masoori.domain.card.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.fintech.masoori.domain.card.exception.InvalidCursorException;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 카드 타임라인의 다음 페이지 위치. 마지막으로 내려준 카드의 (createdDate, cardId) 를 URL-safe Base64 로 감싼다.
+ * 클라이언트는 값을 해석하지 않고 그대로 돌려보낸다.
+ */
+@Data
+@AllArgsConstructor
+public class CardCursor {
+	private static final String DELIMITER = "|";
+
+	private LocalDateTime createdDate;
+	private Long cardId;
+
+	public static CardCursor of(UserCardListRes.UserCard userCard) {
+		return new CardCursor(userCard.getCreatedDate(), userCard.getId());
+	}
+
+	public String encode() {
+		return Base64.getUrlEncoder()
+		             .withoutPadding()
+		             .encodeToString((createdDate + DELIMITER + cardId).getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static CardCursor decode(String cursor) {
+		try {
+			String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int index = value.indexOf(DELIMITER);
+			if (index < 0) {
+				throw new InvalidCursorException("Invalid Cursor : " + cursor);
+			}
+			return new CardCursor(LocalDateTime.parse(value.substring(0, index)),
+				Long.parseLong(value.substring(index + 1)));
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new InvalidCursorException("Invalid Cursor : " + cursor);
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package com.fintech.masoori.domain.card.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CardTimelineRes {
+
+	@Builder.Default
+	private List<UserCardListRes.UserCard> userCardList = new ArrayList<>();
+	@Schema(description = "다음 페이지 커서. 마지막 페이지면 null", example = "MjAyMy0wOS0yNlQwNzo0MjozNC43NnwxMjM")
+	private String nextCursor;
+	@Schema(description = "다음 페이지 존재 여부", example = "true")
+	private boolean hasNext;
+}
@@ -7,6 +7,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import lombok.Getter;
 
 @Data
@@ -20,6 +21,7 @@ public class ChallengeCardRes {
 	@Builder
 	@Getter
 	@AllArgsConstructor
+	@NoArgsConstructor
 	public static class ChallengeCard {
 		@Schema(description = "카드 기본 정보")
 		private Card card;
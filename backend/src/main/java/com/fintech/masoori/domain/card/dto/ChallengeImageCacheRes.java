@@ -0,0 +1,24 @@
+package com.fintech.masoori.domain.card.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class ChallengeImageCacheRes {
+	@Schema(description = "챌린지 카드 이름 전체 개수", example = "330")
+	private Integer total;
+	@Schema(description = "이미지가 생성된 이름 개수", example = "312")
+	private Integer cached;
+	@Schema(description = "이미지가 없는 이름")
+	private List<String> missing;
+}
@@ -0,0 +1,33 @@
+package com.fintech.masoori.domain.card.dto;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class GenerationJob {
+	@Schema(description = "생성 작업 ID", example = "4f1c2e1a-8a43-4f4e-b0a6-0d1e7f3b9c21")
+	private String jobId;
+	@Schema(description = "생성할 카드 종류", example = "SPENDING")
+	private GenerationJobType type;
+	@Schema(description = "작업 상태 (QUEUED, RUNNING, DONE, FAILED)", example = "RUNNING")
+	private GenerationJobStatus status;
+	@Schema(hidden = true)
+	private Long userId;
+	@Schema(description = "생성 중인 카드 ID", example = "12")
+	private Long cardId;
+	@Schema(description = "실패 사유")
+	private String message;
+	private LocalDateTime createdDate;
+	private LocalDateTime startedDate;
+	private LocalDateTime finishedDate;
+}
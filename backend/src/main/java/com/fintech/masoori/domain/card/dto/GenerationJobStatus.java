@@ -0,0 +1,15 @@
+package com.fintech.masoori.domain.card.dto;
+
+/**
+ * QUEUED : 생성 요청을 outbox 에 저장함
+ * RUNNING : 요청 큐에 발행되어 워커가 생성 중
+ * DONE : 생성된 카드 등록 완료
+ * FAILED : 발행 실패, 등록 실패 또는 시간 초과
+ */
+public enum GenerationJobStatus {
+	QUEUED, RUNNING, DONE, FAILED;
+
+	public boolean isFinished() {
+		return this == DONE || this == FAILED;
+	}
+}
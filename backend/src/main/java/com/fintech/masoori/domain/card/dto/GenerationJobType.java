@@ -0,0 +1,5 @@
+package com.fintech.masoori.domain.card.dto;
+
+public enum GenerationJobType {
+	SPENDING, CHALLENGE
+}
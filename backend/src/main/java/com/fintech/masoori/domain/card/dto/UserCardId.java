@@ -0,0 +1,13 @@
+package com.fintech.masoori.domain.card.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserCardId {
+	private Long userId;
+	private Long cardId;
+}
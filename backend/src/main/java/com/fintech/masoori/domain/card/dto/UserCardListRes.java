@@ -8,9 +8,12 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@AllArgsConstructor
+@NoArgsConstructor
 public class UserCardListRes {
 
 	@Builder.Default
@@ -19,6 +22,7 @@ public class UserCardListRes {
 	@Data
 	@Builder
 	@AllArgsConstructor
+	@NoArgsConstructor
 	public static class UserCard {
 		@Schema(description = "id(PK)", example = "1")
 		private Long id;
@@ -16,6 +16,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -32,7 +33,7 @@ import lombok.ToString;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "card")
+@Table(name = "card", indexes = @Index(name = "idx_card_user_type_created", columnList = "user_id, card_type, created_date, card_id"))
 @ToString(of = {"id", "name", "imagePath", "description", "cardType"})
 public class Card extends BaseTimeEntity {
 	@Id
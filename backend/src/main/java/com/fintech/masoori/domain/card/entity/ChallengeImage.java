@@ -0,0 +1,41 @@
+package com.fintech.masoori.domain.card.entity;
+
+import com.fintech.masoori.global.util.BaseTimeEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 챌린지 카드 이름별로 한 번 생성한 이미지. 같은 이름의 카드는 이미지를 다시 생성하지 않고 재사용한다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "challenge_image", uniqueConstraints = @UniqueConstraint(name = "uk_challenge_image_name_key", columnNames = "name_key"))
+@ToString(of = {"id", "nameKey", "imagePath"})
+public class ChallengeImage extends BaseTimeEntity {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "challenge_image_id")
+	private Long id;
+
+	// ChallengeCardNames.normalize 로 정규화한 카드 이름
+	@Column(name = "name_key", length = 100, nullable = false)
+	private String nameKey;
+
+	@Column(name = "image_path", nullable = false)
+	private String imagePath;
+}
@@ -0,0 +1,8 @@
+package com.fintech.masoori.domain.card.exception;
+
+import com.fintech.masoori.global.error.ErrorCode;
+import com.fintech.masoori.global.error.exception.BusinessException;
+
+public class GenerationJobNotFound extends BusinessException {
+	public GenerationJobNotFound(String message){super(message, ErrorCode.ENTITY_NOT_FOUND);}
+}
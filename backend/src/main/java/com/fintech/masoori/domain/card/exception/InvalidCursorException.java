@@ -0,0 +1,10 @@
+package com.fintech.masoori.domain.card.exception;
+
+import com.fintech.masoori.global.error.ErrorCode;
+import com.fintech.masoori.global.error.exception.BusinessException;
+
+public class InvalidCursorException extends BusinessException {
+	public InvalidCursorException(String message) {
+		super(message, ErrorCode.INVALID_INPUT_VALUE);
+	}
+}
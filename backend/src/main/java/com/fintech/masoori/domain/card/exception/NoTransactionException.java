@@ -0,0 +1,8 @@
+package com.fintech.masoori.domain.card.exception;
+
+import com.fintech.masoori.global.error.ErrorCode;
+import com.fintech.masoori.global.error.exception.BusinessException;
+
+public class NoTransactionException extends BusinessException {
+	public NoTransactionException(String message){super(message, ErrorCode.NO_TRANSACTION);}
+}
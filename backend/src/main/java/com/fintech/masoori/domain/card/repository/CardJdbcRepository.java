@@ -0,0 +1,81 @@
+package com.fintech.masoori.domain.card.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.fintech.masoori.global.rabbitMQ.dto.GeneratedSpending;
+import com.fintech.masoori.global.rabbitMQ.dto.GeneratedSpendingCard;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 생성 완료된 소비 카드를 묶음 단위로 저장하는 JDBC batch 쿼리.
+ * 엔티티가 IDENTITY 전략이라 JPA 로는 insert 가 batch 로 묶이지 않아 직접 batchUpdate 를 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CardJdbcRepository {
+	private final JdbcTemplate jdbcTemplate;
+
+	public void updateGeneratedCards(List<GeneratedSpendingCard> cards) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.batchUpdate(
+			"UPDATE card SET card_name = ?, image_path = ?, description = ?, modified_date = ? WHERE card_id = ?",
+			cards, cards.size(), (ps, card) -> {
+				ps.setString(1, card.getName());
+				ps.setString(2, card.getImagePath());
+				ps.setString(3, card.getDescription());
+				ps.setTimestamp(4, now);
+				ps.setLong(5, card.getCardId());
+			});
+	}
+
+	public void insertBasics(List<GeneratedSpendingCard> cards) {
+		List<Map.Entry<Long, GeneratedSpending>> rows = cards.stream()
+		                                                     .flatMap(card -> card.getSpendings()
+		                                                                          .stream()
+		                                                                          .map(spending -> Map.entry(
+			                                                                          card.getCardId(), spending)))
+		                                                     .toList();
+		jdbcTemplate.batchUpdate("INSERT INTO basic (card_id, keyword, total_amount, frequency) VALUES (?, ?, ?, ?)",
+			rows, rows.size(), (ps, row) -> {
+				ps.setLong(1, row.getKey());
+				ps.setString(2, row.getValue().getKeyword());
+				ps.setInt(3, row.getValue().getTotalAmount());
+				ps.setInt(4, row.getValue().getFrequency());
+			});
+	}
+
+	/**
+	 * 챌린지를 추가하고 챌린지 카드의 challenge_idx 를 1 올린다.
+	 */
+	public void insertChallenges(List<NewChallenge> challenges) {
+		jdbcTemplate.batchUpdate(
+			"INSERT INTO challenge (card_id, is_success, achievement_condition, start_time, end_time) VALUES (?, ?, ?, ?, ?)",
+			challenges, challenges.size(), (ps, challenge) -> {
+				ps.setLong(1, challenge.getCardId());
+				ps.setBoolean(2, false);
+				ps.setString(3, challenge.getAchievementCondition());
+				ps.setTimestamp(4, Timestamp.valueOf(challenge.getStartTime()));
+				ps.setTimestamp(5, Timestamp.valueOf(challenge.getEndTime()));
+			});
+		jdbcTemplate.batchUpdate("UPDATE card SET challenge_idx = COALESCE(challenge_idx, 0) + 1 WHERE card_id = ?",
+			challenges, challenges.size(), (ps, challenge) -> ps.setLong(1, challenge.getCardId()));
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class NewChallenge {
+		private Long cardId;
+		private String achievementCondition;
+		private LocalDateTime startTime;
+		private LocalDateTime endTime;
+	}
+}
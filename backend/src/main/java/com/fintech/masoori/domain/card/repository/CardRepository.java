@@ -11,6 +11,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.fintech.masoori.domain.card.dto.CardType;
+import com.fintech.masoori.domain.card.dto.UserCardId;
+import com.fintech.masoori.domain.card.dto.UserCardListRes;
 import com.fintech.masoori.domain.card.entity.Card;
 
 public interface CardRepository extends JpaRepository<Card, Long> {
@@ -19,9 +21,45 @@ public interface CardRepository extends JpaRepository<Card, Long> {
 		@Param("startDate") LocalDateTime startDate,
 		@Param("endDate") LocalDateTime endDate);
 
+	/**
+	 * 카드 목록(갤러리)용. 엔티티를 읽지 않고 목록에 필요한 컬럼만 UserCard 로 바로 만든다.
+	 */
+	@Query("SELECT new com.fintech.masoori.domain.card.dto.UserCardListRes$UserCard(c.id, c.name, c.imagePath, c.createdDate, c.cardType) FROM Card c WHERE c.user.id = :userId AND c.cardType = :type AND c.createdDate >= :startDate AND c.createdDate <= :endDate ORDER BY c.createdDate DESC")
+	List<UserCardListRes.UserCard> findRangeUserCard(@Param("userId") long userId, @Param("type") CardType type,
+		@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+	/**
+	 * 카드 타임라인 첫 페이지. (user_id, card_type, created_date, card_id) 인덱스를 역순으로 읽고 pageable 크기에서 멈춘다.
+	 */
+	@Query("SELECT new com.fintech.masoori.domain.card.dto.UserCardListRes$UserCard(c.id, c.name, c.imagePath, c.createdDate, c.cardType) FROM Card c WHERE c.user.id = :userId AND c.cardType = :type ORDER BY c.createdDate DESC, c.id DESC")
+	List<UserCardListRes.UserCard> findUserCardTimeline(@Param("userId") long userId, @Param("type") CardType type,
+		PageRequest pageable);
+
+	/**
+	 * 카드 타임라인 다음 페이지. 커서 (createdDate, cardId) 보다 오래된 카드부터 읽어 페이지 깊이와 상관없이 비용이 같다.
+	 */
+	@Query("SELECT new com.fintech.masoori.domain.card.dto.UserCardListRes$UserCard(c.id, c.name, c.imagePath, c.createdDate, c.cardType) FROM Card c WHERE c.user.id = :userId AND c.cardType = :type AND (c.createdDate < :createdDate OR (c.createdDate = :createdDate AND c.id < :cardId)) ORDER BY c.createdDate DESC, c.id DESC")
+	List<UserCardListRes.UserCard> findUserCardTimelineAfter(@Param("userId") long userId,
+		@Param("type") CardType type, @Param("createdDate") LocalDateTime createdDate, @Param("cardId") long cardId,
+		PageRequest pageable);
+
 	@Query("SELECT c FROM Card c WHERE c.user.id = :userId AND c.cardType = :type AND c.id = :cardId")
 	Card findCard(@Param("userId") long userId, @Param("type") CardType type, @Param("cardId") long cardId);
 
+	/**
+	 * 소비 카드 상세용. 카드와 소비 항목(basicList)을 fetch join 으로 한 번에 읽는다.
+	 */
+	@Query("SELECT c FROM Card c LEFT JOIN FETCH c.basicList WHERE c.user.id = :userId AND c.cardType = :type AND c.id = :cardId")
+	Card findCardWithBasicList(@Param("userId") long userId, @Param("type") CardType type,
+		@Param("cardId") long cardId);
+
+	/**
+	 * 챌린지 카드 상세용. 카드와 챌린지 목록(challengeList)을 fetch join 으로 한 번에 읽는다.
+	 */
+	@Query("SELECT c FROM Card c LEFT JOIN FETCH c.challengeList WHERE c.user.id = :userId AND c.cardType = :type AND c.id = :cardId")
+	Card findCardWithChallengeList(@Param("userId") long userId, @Param("type") CardType type,
+		@Param("cardId") long cardId);
+
 	@Query("SELECT c FROM Card c WHERE c.user.id = :userId AND c.cardType = :type AND c.createdDate >= :startDate AND c.createdDate <= :endDate ")
 	Card findRecentCard(@Param("userId") long userId, @Param("type") CardType type, @Param("startDate")LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 
@@ -35,4 +73,20 @@ public interface CardRepository extends JpaRepository<Card, Long> {
 
 	@Query("SELECT c FROM Card c WHERE c.user.id = :userId AND c.cardType = :type AND c.createdDate >= :startDate AND c.createdDate <= :endDate")
 	Card findSpecialCardByUserId(@Param("userId") long userId, @Param("type") CardType type, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+	/**
+	 * from 이후에 만든 type 카드가 있는지. 중단된 배치를 이어서 실행할 때 같은 주기의 카드를 다시 만들지 않도록 쓴다.
+	 */
+	@Query("SELECT COUNT(c) > 0 FROM Card c WHERE c.user.id = :userId AND c.cardType = :type AND c.createdDate >= :from")
+	boolean existsCardCreatedSince(@Param("userId") long userId, @Param("type") CardType type,
+		@Param("from") LocalDateTime from);
+
+	@Query("SELECT c.id FROM Card c WHERE c.id IN :cardIds")
+	List<Long> findExistingIds(@Param("cardIds") List<Long> cardIds);
+
+	/**
+	 * 사용자별 카드가 여러 장이면 최근에 만든 카드가 먼저 오도록 정렬한다.
+	 */
+	@Query("SELECT new com.fintech.masoori.domain.card.dto.UserCardId(c.user.id, c.id) FROM Card c WHERE c.user.id IN :userIds AND c.cardType = :type AND c.createdDate >= :startDate AND c.createdDate <= :endDate ORDER BY c.createdDate DESC, c.id DESC")
+	List<UserCardId> findUserCardIds(@Param("userIds") List<Long> userIds, @Param("type") CardType type, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 }
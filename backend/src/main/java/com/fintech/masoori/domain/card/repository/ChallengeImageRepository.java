@@ -0,0 +1,26 @@
+package com.fintech.masoori.domain.card.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.fintech.masoori.domain.card.entity.ChallengeImage;
+
+public interface ChallengeImageRepository extends JpaRepository<ChallengeImage, Long> {
+	Optional<ChallengeImage> findByNameKey(String nameKey);
+
+	@Query("SELECT i.nameKey FROM ChallengeImage i")
+	List<String> findAllNameKeys();
+
+	/**
+	 * 같은 이름의 이미지가 동시에 등록되어도 카드 등록 트랜잭션이 실패하지 않도록 먼저 등록된 이미지를 남긴다.
+	 */
+	@Modifying
+	@Query(value = "INSERT IGNORE INTO challenge_image (name_key, image_path, created_date, modified_date) "
+		+ "VALUES (:nameKey, :imagePath, NOW(), NOW())", nativeQuery = true)
+	int insertIfAbsent(@Param("nameKey") String nameKey, @Param("imagePath") String imagePath);
+}
@@ -0,0 +1,199 @@
+package com.fintech.masoori.domain.card.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카드 목록, 상세 조회 결과 캐시. 서버 메모리(LocalCardCache) -> Redis -> DB 순서로 찾는다.
+ * Redis 에는 사용자별 버전(CARD_CACHE_VERSION:{사용자})과 버전별 hash(CARD_CACHE:{사용자}:{버전}) 를 둔다.
+ * 카드가 바뀌면 커밋 후 버전을 올려 이전 hash 를 버리고, 버전을 pub/sub 으로 알려 다른 서버의 메모리 캐시도 비운다.
+ * 버전을 확인한 뒤 DB 에서 읽은 결과만 그 버전에 넣으므로 비우기 전에 읽은 결과가 다시 들어가지 않는다.
+ */
+@Slf4j
+@Component
+public class CardReadCache implements MessageListener {
+	public static final String INVALIDATION_CHANNEL = "CARD_CACHE_INVALIDATION";
+	private static final String VERSION_KEY_PREFIX = "CARD_CACHE_VERSION:";
+	private static final String ENTRIES_KEY_PREFIX = "CARD_CACHE:";
+	// 현재 버전과 그 버전의 결과를 한 번에 읽는다.
+	private static final DefaultRedisScript<List> READ_SCRIPT = new DefaultRedisScript<>(
+		"local version = redis.call('get', KEYS[1]) or '0' "
+			+ "return {version, redis.call('hget', ARGV[1] .. version, ARGV[2])}", List.class);
+	private static final DefaultRedisScript<Long> WRITE_SCRIPT = new DefaultRedisScript<>(
+		"redis.call('hset', KEYS[1], ARGV[1], ARGV[2]) redis.call('expire', KEYS[1], ARGV[3]) return 1", Long.class);
+	private static final DefaultRedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>(
+		"local version = redis.call('incr', KEYS[1]) "
+			+ "redis.call('del', ARGV[1] .. (version - 1)) "
+			+ "redis.call('publish', ARGV[2], ARGV[3] .. ':' .. version) "
+			+ "return version", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final LocalCardCache localCache;
+	private final boolean enabled;
+	private final long ttlSeconds;
+	private final Counter localHitCounter;
+	private final Counter redisHitCounter;
+	private final Counter missCounter;
+
+	public CardReadCache(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		@Value("${card.read-cache.enabled:true}") boolean enabled,
+		@Value("${card.read-cache.local-max-users:10000}") int localMaxUsers,
+		@Value("${card.read-cache.local-max-views-per-user:32}") int localMaxViewsPerUser,
+		@Value("${card.read-cache.local-ttl-seconds:60}") long localTtlSeconds,
+		@Value("${card.read-cache.ttl-minutes:30}") long ttlMinutes) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.localCache = new LocalCardCache(localMaxUsers, localMaxViewsPerUser,
+			Duration.ofSeconds(localTtlSeconds).toMillis());
+		this.enabled = enabled;
+		this.ttlSeconds = Duration.ofMinutes(ttlMinutes).toSeconds();
+		this.localHitCounter = Counter.builder("card.read.cache").tag("result", "local").register(meterRegistry);
+		this.redisHitCounter = Counter.builder("card.read.cache").tag("result", "redis").register(meterRegistry);
+		this.missCounter = Counter.builder("card.read.cache").tag("result", "miss").register(meterRegistry);
+		Gauge.builder("card.read.cache.local.users", localCache, LocalCardCache::size).register(meterRegistry);
+	}
+
+	/**
+	 * 사용자의 view 조회 결과를 캐시에서 찾고, 없으면 loader 로 읽어 두 계층에 넣는다.
+	 * Redis 를 쓸 수 없으면 캐시 없이 loader 결과를 돌려준다.
+	 */
+	public <T> T get(long userId, String view, Class<T> type, Supplier<T> loader) {
+		if (!enabled) {
+			return loader.get();
+		}
+		Object cached = localCache.get(userId, view);
+		if (type.isInstance(cached)) {
+			localHitCounter.increment();
+			return type.cast(cached);
+		}
+		long version;
+		try {
+			List<?> result = redisTemplate.execute(READ_SCRIPT, List.of(versionKey(userId)), entriesKeyPrefix(userId),
+				view);
+			version = Long.parseLong(String.valueOf(result.get(0)));
+			Object json = result.size() > 1 ? result.get(1) : null;
+			if (json != null) {
+				T value = objectMapper.readValue(json.toString(), type);
+				localCache.put(userId, version, view, value);
+				redisHitCounter.increment();
+				return value;
+			}
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("카드 조회 캐시 읽기 실패 : {} {}", userId, view, e);
+			return loader.get();
+		}
+		missCounter.increment();
+		T value = loader.get();
+		if (value == null) {
+			return null;
+		}
+		try {
+			redisTemplate.execute(WRITE_SCRIPT, List.of(entriesKeyPrefix(userId) + version), view,
+				objectMapper.writeValueAsString(value), String.valueOf(ttlSeconds));
+			localCache.put(userId, version, view, value);
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("카드 조회 캐시 쓰기 실패 : {} {}", userId, view, e);
+		}
+		return value;
+	}
+
+	/**
+	 * 사용자들의 캐시를 비운다. 트랜잭션 안이면 커밋된 뒤에 비워, 비운 사이에 커밋 전 값을 다시 읽어 넣지 않게 한다.
+	 */
+	public void invalidateAfterCommit(Collection<Long> userIds) {
+		if (!enabled || userIds.isEmpty()) {
+			return;
+		}
+		List<Long> distinctUserIds = new ArrayList<>(new LinkedHashSet<>(userIds));
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					invalidate(distinctUserIds);
+				}
+			});
+			return;
+		}
+		invalidate(distinctUserIds);
+	}
+
+	public void invalidateAfterCommit(Long userId) {
+		invalidateAfterCommit(List.of(userId));
+	}
+
+	/**
+	 * 사용자마다 버전을 올리고 pub/sub 으로 알리는 스크립트를 한 번의 pipeline 으로 보낸다.
+	 */
+	private void invalidate(List<Long> userIds) {
+		List<Object> versions;
+		try {
+			versions = redisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public Object execute(RedisOperations operations) {
+					for (Long userId : userIds) {
+						operations.execute(INVALIDATE_SCRIPT, List.of(versionKey(userId)), entriesKeyPrefix(userId),
+							INVALIDATION_CHANNEL, String.valueOf(userId));
+					}
+					return null;
+				}
+			});
+		} catch (DataAccessException e) {
+			// 다른 서버의 메모리 캐시는 local-ttl-seconds 가 지나면 다시 읽는다.
+			log.error("카드 조회 캐시 비우기 실패 : {}", userIds, e);
+			return;
+		}
+		for (int i = 0; i < userIds.size(); i++) {
+			localCache.invalidate(userIds.get(i), Long.parseLong(String.valueOf(versions.get(i))));
+		}
+	}
+
+	/**
+	 * 다른 서버(자신 포함)가 보낸 "{사용자}:{버전}" 메시지로 메모리 캐시를 비운다.
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int index = body.indexOf(':');
+		try {
+			localCache.invalidate(Long.parseLong(body.substring(0, index)), Long.parseLong(body.substring(index + 1)));
+		} catch (RuntimeException e) {
+			log.warn("카드 조회 캐시 무효화 메시지 무시 : {}", body);
+		}
+	}
+
+	private static String versionKey(long userId) {
+		return VERSION_KEY_PREFIX + userId;
+	}
+
+	private static String entriesKeyPrefix(long userId) {
+		return ENTRIES_KEY_PREFIX + userId + ":";
+	}
+}
@@ -1,27 +1,57 @@
 package com.fintech.masoori.domain.card.service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import com.fintech.masoori.domain.card.dto.BasicCardRes;
+import com.fintech.masoori.domain.card.dto.CardTimelineRes;
 import com.fintech.masoori.domain.card.dto.ChallengeCardRes;
+import com.fintech.masoori.domain.card.dto.GenerationJob;
 import com.fintech.masoori.domain.card.dto.UserCardListRes;
 import com.fintech.masoori.global.rabbitMQ.dto.GeneratedSpendingCard;
 
 public interface CardService {
-	UserCardListRes selectRangeBasicCard(String email, LocalDateTime start, LocalDateTime end);
+	UserCardListRes selectRangeBasicCard(long userId, LocalDateTime start, LocalDateTime end);
 
-	BasicCardRes.BasicCard selectBasicCard(String email, long cardId);
+	BasicCardRes.BasicCard selectBasicCard(long userId, long cardId);
 
-	UserCardListRes selectRangeChallengeCard(String email, LocalDateTime start, LocalDateTime end);
+	UserCardListRes selectRangeChallengeCard(long userId, LocalDateTime start, LocalDateTime end);
 
-	ChallengeCardRes.ChallengeCard selectChallengeCard(String email, long cardId);
+	ChallengeCardRes.ChallengeCard selectChallengeCard(long userId, long cardId);
+
+	/**
+	 * 소비 카드 타임라인. 최신 카드부터 size 장씩, cursor 가 없으면 첫 페이지를 조회한다.
+	 */
+	CardTimelineRes selectBasicCardTimeline(long userId, String cursor, int size);
+
+	/**
+	 * 챌린지 카드 타임라인. 최신 카드부터 size 장씩, cursor 가 없으면 첫 페이지를 조회한다.
+	 */
+	CardTimelineRes selectChallengeCardTimeline(long userId, String cursor, int size);
 
 	/**
 	 * 기본 소비 카드 등록
 	 */
 	void registerSpendingCard(GeneratedSpendingCard generatedSpendingCard);
 
-	void createSpendingCard(String email);
+	/**
+	 * 생성된 소비 카드 여러 장을 한 트랜잭션에서 등록하고 주간 챌린지를 추가한다.
+	 * @return 등록된 카드의 사용자 id
+	 */
+	List<Long> registerSpendingCards(List<GeneratedSpendingCard> generatedSpendingCards);
+
+	/**
+	 * 사용자가 직접 요청한 소비 카드 생성. 진행 중인 생성 작업이 있으면 AlreadyInProgressException,
+	 * 지난 주 거래내역이 없으면 NoTransactionException.
+	 * @return 상태를 조회할 생성 작업
+	 */
+	GenerationJob createSpendingCard(Long userId);
+
+	/**
+	 * 스케줄러 배치용 소비 카드 생성. 생성 요청은 다른 사용자 요청과 묶어서 발행한다.
+	 * 이미 생성 중이거나, 지난 주 소비 카드가 이미 있거나, 지난 주 거래내역이 없는 사용자는 건너뛴다.
+	 */
+	void createScheduledSpendingCard(String email);
 
 	void createSpendingCard(String email, LocalDateTime date);
 
@@ -31,13 +61,16 @@ public interface CardService {
 
 	void addChallenge(Long cardId, String achievementCondition, LocalDateTime date);
 
+	/**
+	 * 스케줄러 배치용 챌린지 카드 생성. 이미 생성 중이거나 이번 달 챌린지 카드가 있는 사용자는 건너뛴다.
+	 */
 	void createChallengeCard(String email);
 
 	void createChallengeCard(String email, LocalDateTime date);
 
-	BasicCardRes.BasicCard selectUserRecentBasicCard(String email, LocalDateTime time);
+	BasicCardRes.BasicCard selectUserRecentBasicCard(long userId, LocalDateTime time);
 
-	Long findTopByUserIdRecentlyChallengeCard(String email);
+	Long findTopByUserIdRecentlyChallengeCard(long userId);
 
 	void updateUserProfileImage(String email, Long id);
 
@@ -1,32 +1,56 @@
 package com.fintech.masoori.domain.card.service;
 
 import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.fintech.masoori.domain.card.dto.Basic;
 import com.fintech.masoori.domain.card.dto.BasicCardRes;
+import com.fintech.masoori.domain.card.dto.CardCursor;
+import com.fintech.masoori.domain.card.dto.CardTimelineRes;
 import com.fintech.masoori.domain.card.dto.CardType;
+import com.fintech.masoori.domain.card.dto.GenerationJob;
+import com.fintech.masoori.domain.card.dto.GenerationJobType;
 import com.fintech.masoori.domain.card.dto.Challenge;
 import com.fintech.masoori.domain.card.dto.ChallengeCardRes;
+import com.fintech.masoori.domain.card.dto.UserCardId;
 import com.fintech.masoori.domain.card.dto.UserCardListRes;
 import com.fintech.masoori.domain.card.entity.Card;
 import com.fintech.masoori.domain.card.exception.CardNotFound;
+import com.fintech.masoori.domain.card.exception.NoTransactionException;
 import com.fintech.masoori.domain.card.repository.BasicRepository;
+import com.fintech.masoori.domain.card.repository.CardJdbcRepository;
 import com.fintech.masoori.domain.card.repository.CardRepository;
 import com.fintech.masoori.domain.card.repository.ChallengeRepository;
 import com.fintech.masoori.domain.deal.service.DealService;
+import com.fintech.masoori.domain.deal.service.MerchantAggregator;
 import com.fintech.masoori.domain.user.entity.User;
 import com.fintech.masoori.domain.user.exception.UserNotFoundException;
 import com.fintech.masoori.domain.user.repository.UserRepository;
+import com.fintech.masoori.global.notification.dto.NotificationType;
+import com.fintech.masoori.global.notification.service.NotificationDispatcher;
 import com.fintech.masoori.global.rabbitMQ.dto.ChallengeRequestMessage;
+import com.fintech.masoori.global.rabbitMQ.dto.GeneratedSpending;
 import com.fintech.masoori.global.rabbitMQ.dto.GeneratedSpendingCard;
+import com.fintech.masoori.global.rabbitMQ.dto.PublishLane;
 import com.fintech.masoori.global.rabbitMQ.dto.SpendingRequestMessage;
 import com.fintech.masoori.global.rabbitMQ.dto.Transaction;
 import com.fintech.masoori.global.rabbitMQ.service.ChallengePubService;
@@ -41,12 +65,8 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Slf4j
 public class CardServiceImpl implements CardService {
-	private final String[] NAME_LIST = {"Fool", "Magician", "High Priestess", "Empress", "Emperor", "Hierophant",
-		"Lovers", "Chariot", "Strength", "Hermit", "Wheel of Fortune", "Justice", "Hanged Man", "Death", "Temperance",
-		"Devil", "Tower", "Star", "Moon", "Sun", "Judgment", "World", "Ace of Wands", "Two of Wands", "Three of Wands",
-		"Four of Wands", "Five of Wands", "Six of Wands", "Seven of Wands", "Eight of Wands"};
-	private final String[] VERSE_LIST = {"Conquering", "Rising", "Falling", "Leaning", "Fleeing", "Despairing",
-		"Rejoicing", "Exploring", "Transforming", "Discovering", "Balancing"};
+	private static final int MAX_TIMELINE_SIZE = 50;
+
 	private final SpendingPubService spendingPubService;
 	private final ChallengePubService challengePubService;
 	private final CardRepository cardRepository;
@@ -54,78 +74,107 @@ public class CardServiceImpl implements CardService {
 	private final DealService dealService;
 	private final ChallengeRepository ChallengeRepository;
 	private final BasicRepository basicRepository;
+	private final CardJdbcRepository cardJdbcRepository;
+	private final GenerationJobService generationJobService;
+	private final ChallengeImageService challengeImageService;
+	private final NotificationDispatcher notificationDispatcher;
+	private final CardReadCache cardReadCache;
+
+	@Value("${rabbitmq.spending.pre-aggregate:false}")
+	private boolean spendingPreAggregate;
+
+	/**
+	 * 카드 조회는 CardReadCache 를 먼저 본다. 캐시에서 찾으면 커넥션을 잡지 않도록 트랜잭션은 열지 않고
+	 * DB 조회는 repository 호출마다 읽기 전용 트랜잭션으로 한다. 사용자는 토큰에서 꺼낸 id 로 받아 user 를 조회하지 않는다.
+	 */
+	@Override
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public UserCardListRes selectRangeBasicCard(long userId, LocalDateTime start, LocalDateTime end) {
+		CalcDate.StartEndDate calcDate = CalcDate.calcDate(start, end);
+
+		return cardReadCache.get(userId, rangeView(CardType.BASIC, calcDate), UserCardListRes.class, () -> {
+			List<UserCardListRes.UserCard> userBasicCardList = cardRepository.findRangeUserCard(userId,
+				CardType.BASIC, calcDate.getStartDate(), calcDate.getEndDate());
+			return UserCardListRes.builder().userCardList(userBasicCardList).build();
+		});
+	}
 
 	@Override
-	public UserCardListRes selectRangeBasicCard(String email, LocalDateTime start, LocalDateTime end) {
-		User user = userRepository.findByEmail(email).orElseThrow(() -> new UserNotFoundException("존재하지 않는 유저입니다."));
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public BasicCardRes.BasicCard selectBasicCard(long userId, long cardId) {
+		return cardReadCache.get(userId, "DETAIL:" + CardType.BASIC + ":" + cardId, BasicCardRes.BasicCard.class,
+			() -> {
+				Card card = cardRepository.findCardWithBasicList(userId, CardType.BASIC, cardId);
+				return BasicCardRes.BasicCard.builder()
+				                             .card(new com.fintech.masoori.domain.card.dto.Card(card))
+				                             .basicList(card.getBasicList().stream().map(Basic::new).toList())
+				                             .build();
+			});
+	}
 
+	@Override
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public UserCardListRes selectRangeChallengeCard(long userId, LocalDateTime start, LocalDateTime end) {
 		CalcDate.StartEndDate calcDate = CalcDate.calcDate(start, end);
 
-		List<Card> cardList = cardRepository.findRangeCard(user.getId(), CardType.BASIC, calcDate.getStartDate(),
-			calcDate.getEndDate());
-
-		List<UserCardListRes.UserCard> userBasicCardList = cardList.stream()
-		                                                           .map(card -> UserCardListRes.UserCard.builder()
-		                                                                                                .name(
-			                                                                                                card.getName())
-		                                                                                                .cardType(
-			                                                                                                card.getCardType())
-		                                                                                                .id(card.getId())
-		                                                                                                .createdDate(
-			                                                                                                card.getCreatedDate())
-		                                                                                                .imagePath(
-			                                                                                                card.getImagePath())
-		                                                                                                .build())
-		                                                           .toList();
-
-		return UserCardListRes.builder().userCardList(userBasicCardList).build();
+		return cardReadCache.get(userId, rangeView(CardType.SPECIAL, calcDate), UserCardListRes.class, () -> {
+			List<UserCardListRes.UserCard> userChallengeCardList = cardRepository.findRangeUserCard(userId,
+				CardType.SPECIAL, calcDate.getStartDate(), calcDate.getEndDate());
+			return UserCardListRes.builder().userCardList(userChallengeCardList).build();
+		});
 	}
 
 	@Override
-	public BasicCardRes.BasicCard selectBasicCard(String email, long cardId) {
-		User user = userRepository.findByEmail(email).orElseThrow(() -> new UserNotFoundException("존재하지 않는 유저입니다."));
-		Card card = cardRepository.findCard(user.getId(), CardType.BASIC, cardId);
-		return BasicCardRes.BasicCard.builder()
-		                             .card(new com.fintech.masoori.domain.card.dto.Card(card))
-		                             .basicList(card.getBasicList().stream().map(Basic::new).toList())
-		                             .build();
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public ChallengeCardRes.ChallengeCard selectChallengeCard(long userId, long cardId) {
+		return cardReadCache.get(userId, "DETAIL:" + CardType.SPECIAL + ":" + cardId,
+			ChallengeCardRes.ChallengeCard.class, () -> {
+				Card card = cardRepository.findCardWithChallengeList(userId, CardType.SPECIAL, cardId);
+				return ChallengeCardRes.ChallengeCard.builder()
+				                                     .card(new com.fintech.masoori.domain.card.dto.Card(card))
+				                                     .challengeList(
+					                                     card.getChallengeList().stream().map(Challenge::new).toList())
+				                                     .build();
+			});
 	}
 
 	@Override
-	public UserCardListRes selectRangeChallengeCard(String email, LocalDateTime start, LocalDateTime end) {
-		User user = userRepository.findByEmail(email).orElseThrow(() -> new UserNotFoundException("존재하지 않는 유저입니다."));
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public CardTimelineRes selectBasicCardTimeline(long userId, String cursor, int size) {
+		return selectCardTimeline(userId, CardType.BASIC, cursor, size);
+	}
 
-		CalcDate.StartEndDate calcDate = CalcDate.calcDate(start, end);
+	@Override
+	@Transactional(propagation = Propagation.SUPPORTS)
+	public CardTimelineRes selectChallengeCardTimeline(long userId, String cursor, int size) {
+		return selectCardTimeline(userId, CardType.SPECIAL, cursor, size);
+	}
 
-		List<Card> cardList = cardRepository.findRangeCard(user.getId(), CardType.SPECIAL, calcDate.getStartDate(),
-			calcDate.getEndDate());
-
-		List<UserCardListRes.UserCard> userChallengeCardList = cardList.stream()
-		                                                               .map(card -> UserCardListRes.UserCard.builder()
-		                                                                                                    .name(
-			                                                                                                    card.getName())
-		                                                                                                    .cardType(
-			                                                                                                    card.getCardType())
-		                                                                                                    .id(card.getId())
-		                                                                                                    .createdDate(
-			                                                                                                    card.getCreatedDate())
-		                                                                                                    .imagePath(
-			                                                                                                    card.getImagePath())
-		                                                                                                    .build())
-		                                                               .toList();
-
-		return UserCardListRes.builder().userCardList(userChallengeCardList).build();
+	/**
+	 * size + 1 장을 읽어 다음 페이지가 있는지 판단하고, 마지막으로 내려준 카드로 다음 커서를 만든다.
+	 */
+	private CardTimelineRes selectCardTimeline(long userId, CardType type, String cursor, int size) {
+		int pageSize = Math.max(1, Math.min(size, MAX_TIMELINE_SIZE));
+		CardCursor cardCursor = cursor == null || cursor.isBlank() ? null : CardCursor.decode(cursor);
+		String view = "TIMELINE:" + type + ":" + (cardCursor == null ? "" : cursor) + ":" + pageSize;
+		return cardReadCache.get(userId, view, CardTimelineRes.class, () -> {
+			PageRequest pageable = PageRequest.of(0, pageSize + 1);
+			List<UserCardListRes.UserCard> userCards = cardCursor == null ?
+				cardRepository.findUserCardTimeline(userId, type, pageable) :
+				cardRepository.findUserCardTimelineAfter(userId, type, cardCursor.getCreatedDate(),
+					cardCursor.getCardId(), pageable);
+			boolean hasNext = userCards.size() > pageSize;
+			List<UserCardListRes.UserCard> page = hasNext ? userCards.subList(0, pageSize) : userCards;
+			return CardTimelineRes.builder()
+			                      .userCardList(page)
+			                      .nextCursor(hasNext ? CardCursor.of(page.get(pageSize - 1)).encode() : null)
+			                      .hasNext(hasNext)
+			                      .build();
+		});
 	}
 
-	@Override
-	public ChallengeCardRes.ChallengeCard selectChallengeCard(String email, long cardId) {
-		User user = userRepository.findByEmail(email).orElseThrow(() -> new UserNotFoundException("존재하지 않는 유저입니다."));
-		Card card = cardRepository.findCard(user.getId(), CardType.SPECIAL, cardId);
-		return ChallengeCardRes.ChallengeCard.builder()
-		                                     .card(new com.fintech.masoori.domain.card.dto.Card(card))
-		                                     .challengeList(
-			                                     card.getChallengeList().stream().map(Challenge::new).toList())
-		                                     .build();
+	private String rangeView(CardType type, CalcDate.StartEndDate calcDate) {
+		return "RANGE:" + type + ":" + calcDate.getStartDate() + ":" + calcDate.getEndDate();
 	}
 
 	@Override
@@ -135,6 +184,7 @@ public class CardServiceImpl implements CardService {
 		                          .orElseThrow(() -> new CardNotFound("Card Is Not Found"));
 		card.cardUpdate(generatedSpendingCard.getName(), generatedSpendingCard.getImagePath(),
 			generatedSpendingCard.getDescription());
+		cardReadCache.invalidateAfterCommit(card.getUser().getId());
 
 		cardRepository.save(card);
 		List<com.fintech.masoori.domain.card.entity.Basic> list = generatedSpendingCard.getSpendings()
@@ -157,14 +207,139 @@ public class CardServiceImpl implements CardService {
 
 	@Override
 	@Transactional
-	public void createSpendingCard(String email) {
-		// 이미 생성중인 사용자면 throw하기
-		// 사용자 찾기.
+	public List<Long> registerSpendingCards(List<GeneratedSpendingCard> generatedSpendingCards) {
+		Set<Long> existingIds = new HashSet<>(cardRepository.findExistingIds(
+			generatedSpendingCards.stream().map(GeneratedSpendingCard::getCardId).toList()));
+		List<GeneratedSpendingCard> cards = new ArrayList<>();
+		for (GeneratedSpendingCard generatedSpendingCard : generatedSpendingCards) {
+			if (existingIds.contains(generatedSpendingCard.getCardId())) {
+				cards.add(generatedSpendingCard);
+			} else {
+				log.warn("Card Is Not Found : {}", generatedSpendingCard.getCardId());
+			}
+		}
+		if (cards.isEmpty()) {
+			return List.of();
+		}
+		cardJdbcRepository.updateGeneratedCards(cards);
+		cardJdbcRepository.insertBasics(cards);
+		cardJdbcRepository.insertChallenges(createWeeklyChallenges(cards));
+		List<Long> userIds = cards.stream().map(GeneratedSpendingCard::getUserId).toList();
+		cardReadCache.invalidateAfterCommit(userIds);
+		return userIds;
+	}
+
+	/**
+	 * 가장 많이 소비한 항목으로 주간 챌린지를 만든다. 챌린지 카드는 조회 기간별로 묶어 사용자들 것을 한 번에 조회한다.
+	 */
+	private List<CardJdbcRepository.NewChallenge> createWeeklyChallenges(List<GeneratedSpendingCard> cards) {
+		Map<CalcDate.StartEndDate, List<GeneratedSpendingCard>> cardsByMonth = new HashMap<>();
+		for (GeneratedSpendingCard card : cards) {
+			LocalDateTime date = parseCardDate(card.getDate());
+			CalcDate.StartEndDate month = date == null ? CalcDate.calcLastMonth() : CalcDate.calcMonth(date);
+			cardsByMonth.computeIfAbsent(month, key -> new ArrayList<>()).add(card);
+		}
+
+		List<CardJdbcRepository.NewChallenge> challenges = new ArrayList<>();
+		cardsByMonth.forEach((month, monthCards) -> {
+			List<Long> userIds = monthCards.stream().map(GeneratedSpendingCard::getUserId).distinct().toList();
+			// 최근 카드 순으로 오므로 한 달에 챌린지 카드가 여러 장이면 가장 최근 카드에 챌린지를 붙인다.
+			Map<Long, Long> challengeCardIds = cardRepository.findUserCardIds(userIds, CardType.SPECIAL,
+				                                                 month.getStartDate(), month.getEndDate())
+			                                                 .stream()
+			                                                 .collect(Collectors.toMap(UserCardId::getUserId,
+				                                                 UserCardId::getCardId, (first, second) -> first));
+			for (GeneratedSpendingCard card : monthCards) {
+				Optional<GeneratedSpending> maxSpending = card.getSpendings()
+				                                              .stream()
+				                                              .max(Comparator.comparing(
+					                                              GeneratedSpending::getTotalAmount));
+				Long challengeCardId = challengeCardIds.get(card.getUserId());
+				if (maxSpending.isEmpty()) {
+					continue;
+				}
+				if (challengeCardId == null) {
+					log.info("이번 달 챌린지 카드 없음 - userId : {}", card.getUserId());
+					continue;
+				}
+				int ap = (int)(maxSpending.get().getTotalAmount() * 0.15);
+				String achievementCondition = maxSpending.get().getKeyword() + "에서 아껴서 " + ap + "원 저축 하기";
+				LocalDateTime date = parseCardDate(card.getDate());
+				CalcDate.StartEndDate week = date == null ? CalcDate.calcLastWeek() : CalcDate.calcThisWeek(date);
+				challenges.add(new CardJdbcRepository.NewChallenge(challengeCardId, achievementCondition,
+					week.getStartDate(), week.getEndDate()));
+			}
+		});
+		return challenges;
+	}
+
+	/**
+	 * 생성 요청에 실어 보낸 "yyyy/M/d" 날짜. 없으면 null
+	 */
+	private LocalDateTime parseCardDate(String date) {
+		if (date == null || date.equals("")) {
+			return null;
+		}
+		String[] splitDate = date.split("/");
+		return LocalDateTime.of(Integer.parseInt(splitDate[0]), Integer.parseInt(splitDate[1]),
+			Integer.parseInt(splitDate[2]), 0, 0);
+	}
+
+	@Override
+	@Transactional
+	public GenerationJob createSpendingCard(Long userId) {
+		// 토큰에서 꺼낸 id 라 사용자를 조회하지 않고 참조만 만든다.
+		User user = userRepository.getReferenceById(userId);
+		// 거래내역이 없으면 카드와 작업을 만들지 않는다.
+		List<Transaction> transactionList = findLastWeekTransactions(user);
+		if (transactionList.isEmpty()) {
+			throw new NoTransactionException("No Transaction Last Week");
+		}
+		// 이미 생성중인 사용자면 AlreadyInProgressException
+		GenerationJob job = generationJobService.start(GenerationJobType.SPENDING, user.getId());
+		SpendingRequestMessage message = saveSpendingCardRequest(user, transactionList);
+		spendingPubService.enqueue(message, PublishLane.INTERACTIVE);
+		generationJobService.queued(job.getJobId(), message.getCardId());
+		job.setCardId(message.getCardId());
+		return job;
+	}
+
+	@Override
+	@Transactional
+	public void createScheduledSpendingCard(String email) {
 		User user = userRepository.findByEmail(email).orElseThrow(() -> new UserNotFoundException("User Is Not Found"));
+		// 지난 주가 끝난 뒤 만든 소비 카드가 있으면 같은 주의 카드다. 중단된 배치가 청크를 다시 돌아도 한 장만 만든다.
+		if (cardRepository.existsCardCreatedSince(user.getId(), CardType.BASIC, CalcDate.calcLastWeek().getEndDate())) {
+			log.info("이미 지난 주 소비 카드가 있어 생성 건너뜀 : {}", user.getId());
+			return;
+		}
+		List<Transaction> transactionList = findLastWeekTransactions(user);
+		if (transactionList.isEmpty()) {
+			log.info("지난 주 거래내역이 없어 소비 카드 생성 건너뜀 : {}", user.getId());
+			return;
+		}
+		// 사용자가 직접 요청한 생성이 진행 중이면 이번 배치에서는 건너뛴다.
+		Optional<GenerationJob> job = generationJobService.tryStart(GenerationJobType.SPENDING, user.getId());
+		if (job.isEmpty()) {
+			return;
+		}
+		SpendingRequestMessage message = saveSpendingCardRequest(user, transactionList);
+		spendingPubService.enqueue(message, PublishLane.BULK);
+		generationJobService.queued(job.get().getJobId(), message.getCardId());
+	}
+
+	private List<Transaction> findLastWeekTransactions(User user) {
+		CalcDate.StartEndDate startEndDate = CalcDate.calcLastWeek();
+		return dealService.findDealsByUserAndDateGreaterThanAndDateLessThan(user, startEndDate.getStartDate(),
+			startEndDate.getEndDate());
+	}
+
+	/**
+	 * 생성 중인 소비 카드를 저장하고 지난 주 거래내역으로 생성 요청 메시지를 만든다.
+	 */
+	private SpendingRequestMessage saveSpendingCardRequest(User user, List<Transaction> transactionList) {
 		Card card = Card.builder().cardType(CardType.BASIC).user(user).build();
 		CalcDate.StartEndDate startEndDate = CalcDate.calcLastWeek();
-		List<Transaction> transactionList = dealService.findDealsByUserAndDateGreaterThanAndDateLessThan(user,
-			startEndDate.getStartDate(), startEndDate.getEndDate());
 
 		String tempDate =
 			startEndDate.getStartDate().getYear() +"/"+
@@ -173,8 +348,16 @@ public class CardServiceImpl implements CardService {
 
 		// 소비 카드 생성 중인지 저장.
 		cardRepository.save(card);
-		spendingPubService.sendMessage(
-			SpendingRequestMessage.builder().userId(user.getId()).cardId(card.getId()).date(tempDate).userWeeklyTransactionList(transactionList).build());
+		cardReadCache.invalidateAfterCommit(user.getId());
+		SpendingRequestMessage.SpendingRequestMessageBuilder message = SpendingRequestMessage.builder()
+		                                                                                     .userId(user.getId())
+		                                                                                     .cardId(card.getId())
+		                                                                                     .date(tempDate);
+		// pre-aggregate 가 켜져 있으면 거래내역 대신 가맹점별 요약만 보낸다.
+		if (spendingPreAggregate) {
+			return message.aggregated(true).merchantAggregates(MerchantAggregator.aggregate(transactionList)).build();
+		}
+		return message.userWeeklyTransactionList(transactionList).build();
 	}
 
 	@Override
@@ -185,6 +368,7 @@ public class CardServiceImpl implements CardService {
 		Card card = Card.builder().cardType(CardType.BASIC).user(user).build();
 		cardRepository.save(card);
 		card.setLocalDateTime(date);
+		cardReadCache.invalidateAfterCommit(user.getId());
 		CalcDate.StartEndDate startEndDate = CalcDate.calcLastWeek(date);
 		log.info(startEndDate.toString());
 		List<Transaction> transactionList = dealService.findDealsByUserAndDateGreaterThanAndDateLessThan(user,
@@ -199,7 +383,8 @@ public class CardServiceImpl implements CardService {
 			return;
 		}
 		String temp = date.getYear()+"/"+date.getMonthValue()+"/"+date.getDayOfMonth();
-		spendingPubService.sendMessage(
+		// 더미/관리자 경로는 스케줄러 배치와 섞지 않고 한 건씩 발행한다.
+		spendingPubService.enqueue(
 			SpendingRequestMessage.builder().userId(user.getId()).cardId(card.getId()).date(temp).userWeeklyTransactionList(transactionList).build());
 	}
 
@@ -208,6 +393,9 @@ public class CardServiceImpl implements CardService {
 	public void registerChallengeCardImage(String imgPath, Long cardId) {
 		Card card = cardRepository.findById(cardId).orElseThrow(() -> new CardNotFound("Card Is Not Found"));
 		card.updateImgPath(imgPath);
+		cardReadCache.invalidateAfterCommit(card.getUser().getId());
+		// 같은 이름의 다음 카드는 이미지를 다시 생성하지 않는다.
+		challengeImageService.saveImagePath(card.getName(), imgPath);
 	}
 
 	@Override
@@ -239,6 +427,7 @@ public class CardServiceImpl implements CardService {
 		challenge.setCard(card);
 		card.updateChallengeIdx(card.getChallengeIdx() + 1);
 		ChallengeRepository.save(challenge);
+		cardReadCache.invalidateAfterCommit(card.getUser().getId());
 	}
 
 	@Override
@@ -270,6 +459,7 @@ public class CardServiceImpl implements CardService {
 		card.updateChallengeIdx(card.getChallengeIdx() + 1);
 		challenge.setCard(card);
 		ChallengeRepository.save(challenge);
+		cardReadCache.invalidateAfterCommit(card.getUser().getId());
 	}
 
 	@Override
@@ -277,13 +467,18 @@ public class CardServiceImpl implements CardService {
 	public void createChallengeCard(String email) {
 		// 사용자 찾기.
 		User user = userRepository.findByEmail(email).orElseThrow(() -> new UserNotFoundException("User Is Not Found"));
+		// 이번 달 챌린지 카드가 이미 있으면 만들지 않는다. 중단된 배치가 청크를 다시 돌아도 한 장만 만든다.
+		LocalDateTime monthStart = LocalDate.now().withDayOfMonth(1).atStartOfDay();
+		if (cardRepository.existsCardCreatedSince(user.getId(), CardType.SPECIAL, monthStart)) {
+			log.info("이미 이번 달 챌린지 카드가 있어 생성 건너뜀 : {}", user.getId());
+			return;
+		}
+		Optional<GenerationJob> job = generationJobService.tryStart(GenerationJobType.CHALLENGE, user.getId());
+		if (job.isEmpty()) {
+			return;
+		}
 		// 카드 이름 정하기
-		// 랜덤한 인덱스 생성
-		Random random = new Random();
-		// 이름과
-		String n = NAME_LIST[random.nextInt(NAME_LIST.length)];
-		String v = VERSE_LIST[random.nextInt(VERSE_LIST.length)];
-		String cardName = v + " " + n;
+		String cardName = ChallengeCardNames.random();
 		Card card = Card.builder()
 		                .cardType(CardType.SPECIAL)
 		                .user(user)
@@ -291,9 +486,14 @@ public class CardServiceImpl implements CardService {
 		                .name(cardName)
 		                .challengeIdx(0)
 		                .build();
-		// 이미지 생성 요청.
 		cardRepository.save(card);
-		challengePubService.sendMessage(ChallengeRequestMessage.builder().cardId(card.getId()).name(cardName).build());
+		cardReadCache.invalidateAfterCommit(user.getId());
+		boolean cached = requestChallengeImage(card);
+		generationJobService.queued(job.get().getJobId(), card.getId());
+		if (cached) {
+			Long cardId = card.getId();
+			afterCommit(() -> generationJobService.done(List.of(cardId)));
+		}
 	}
 
 	@Override
@@ -302,12 +502,7 @@ public class CardServiceImpl implements CardService {
 		// 사용자 찾기.
 		User user = userRepository.findByEmail(email).orElseThrow(() -> new UserNotFoundException("User Is Not Found"));
 		// 카드 이름 정하기
-		// 랜덤한 인덱스 생성
-		Random random = new Random();
-		// 이름과
-		String n = NAME_LIST[random.nextInt(NAME_LIST.length)];
-		String v = VERSE_LIST[random.nextInt(VERSE_LIST.length)];
-		String cardName = v + " " + n;
+		String cardName = ChallengeCardNames.random();
 		Card card = Card.builder()
 		                .cardType(CardType.SPECIAL)
 		                .user(user)
@@ -315,17 +510,49 @@ public class CardServiceImpl implements CardService {
 		                .name(cardName)
 		                .challengeIdx(0)
 		                .build();
-		// 이미지 생성 요청.
 		cardRepository.save(card);
 		card.setLocalDateTime(date);
-		challengePubService.sendMessage(ChallengeRequestMessage.builder().cardId(card.getId()).name(cardName).build());
+		cardReadCache.invalidateAfterCommit(user.getId());
+		requestChallengeImage(card);
+	}
+
+	/**
+	 * 같은 이름으로 생성한 이미지가 있으면 바로 등록하고 커밋 후 알림을 보낸다. 없을 때만 이미지 생성을 요청한다.
+	 * @return 이미지를 바로 등록했는지 여부
+	 */
+	private boolean requestChallengeImage(Card card) {
+		Optional<String> imagePath = challengeImageService.findImagePath(card.getName());
+		if (imagePath.isPresent()) {
+			card.updateImgPath(imagePath.get());
+			Long userId = card.getUser().getId();
+			afterCommit(() -> notificationDispatcher.submit(List.of(userId), NotificationType.CHALLENGE));
+			return true;
+		}
+		// 이미지 생성 요청. (커밋 후 outbox relay 가 발행)
+		challengePubService.enqueue(ChallengeRequestMessage.builder().cardId(card.getId()).name(card.getName()).build());
+		return false;
+	}
+
+	/**
+	 * 트랜잭션이 커밋된 뒤에 실행한다. 롤백되면 실행하지 않는다. (CardReadCache.invalidateAfterCommit 과 같은 방식)
+	 */
+	private void afterCommit(Runnable task) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					task.run();
+				}
+			});
+			return;
+		}
+		task.run();
 	}
 
 	@Override
-	public BasicCardRes.BasicCard selectUserRecentBasicCard(String email, LocalDateTime time) {
-		User user = userRepository.findUserByEmail(email);
+	public BasicCardRes.BasicCard selectUserRecentBasicCard(long userId, LocalDateTime time) {
 		CalcDate.StartEndDate calcDate = CalcDate.calcThisWeek(time);
-		Card recentCard = cardRepository.findRecentCard(user.getId(), CardType.BASIC, calcDate.getStartDate(), calcDate.getEndDate());
+		Card recentCard = cardRepository.findRecentCard(userId, CardType.BASIC, calcDate.getStartDate(), calcDate.getEndDate());
 		if (recentCard == null) {
 			return null;
 		}
@@ -333,10 +560,9 @@ public class CardServiceImpl implements CardService {
 	}
 
 	@Override
-	public Long findTopByUserIdRecentlyChallengeCard(String email) {
-		User loginUser = userRepository.findUserByEmail(email);
+	public Long findTopByUserIdRecentlyChallengeCard(long userId) {
 		LocalDateTime now = LocalDateTime.now();
-		Card recentlyChallengeCard = cardRepository.findTopByUserIdRecentlyChallengeCard(loginUser.getId(),
+		Card recentlyChallengeCard = cardRepository.findTopByUserIdRecentlyChallengeCard(userId,
 			CardType.SPECIAL, now, PageRequest.of(0, 1));
 		if (recentlyChallengeCard == null)
 			return null;
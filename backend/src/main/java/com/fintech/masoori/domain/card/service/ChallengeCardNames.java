@@ -0,0 +1,50 @@
+package com.fintech.masoori.domain.card.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 챌린지 카드 이름은 VERSE x NAME 조합(11 x 30 = 330개)이다.
+ */
+public final class ChallengeCardNames {
+	static final String[] NAME_LIST = {"Fool", "Magician", "High Priestess", "Empress", "Emperor", "Hierophant",
+		"Lovers", "Chariot", "Strength", "Hermit", "Wheel of Fortune", "Justice", "Hanged Man", "Death", "Temperance",
+		"Devil", "Tower", "Star", "Moon", "Sun", "Judgment", "World", "Ace of Wands", "Two of Wands", "Three of Wands",
+		"Four of Wands", "Five of Wands", "Six of Wands", "Seven of Wands", "Eight of Wands"};
+	static final String[] VERSE_LIST = {"Conquering", "Rising", "Falling", "Leaning", "Fleeing", "Despairing",
+		"Rejoicing", "Exploring", "Transforming", "Discovering", "Balancing"};
+
+	private static final List<String> ALL;
+
+	static {
+		List<String> all = new ArrayList<>(VERSE_LIST.length * NAME_LIST.length);
+		for (String verse : VERSE_LIST) {
+			for (String name : NAME_LIST) {
+				all.add(verse + " " + name);
+			}
+		}
+		ALL = Collections.unmodifiableList(all);
+	}
+
+	private ChallengeCardNames() {
+	}
+
+	public static String random() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		return VERSE_LIST[random.nextInt(VERSE_LIST.length)] + " " + NAME_LIST[random.nextInt(NAME_LIST.length)];
+	}
+
+	public static List<String> all() {
+		return ALL;
+	}
+
+	/**
+	 * 이미지 캐시 키. 대소문자와 공백 차이는 같은 이름으로 본다.
+	 */
+	public static String normalize(String cardName) {
+		return cardName.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+	}
+}
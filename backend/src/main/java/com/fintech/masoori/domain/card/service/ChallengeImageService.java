@@ -0,0 +1,22 @@
+package com.fintech.masoori.domain.card.service;
+
+import java.util.Optional;
+
+import com.fintech.masoori.domain.card.dto.ChallengeImageCacheRes;
+
+public interface ChallengeImageService {
+	/**
+	 * 같은 이름으로 이미 생성한 이미지 경로
+	 */
+	Optional<String> findImagePath(String cardName);
+
+	void saveImagePath(String cardName, String imagePath);
+
+	/**
+	 * 이미지가 없는 이름만 이미지 생성을 요청한다.
+	 * @return 요청한 이름 수
+	 */
+	int warmUp();
+
+	ChallengeImageCacheRes selectCacheState();
+}
@@ -0,0 +1,98 @@
+package com.fintech.masoori.domain.card.service;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fintech.masoori.domain.card.dto.ChallengeImageCacheRes;
+import com.fintech.masoori.domain.card.entity.ChallengeImage;
+import com.fintech.masoori.domain.card.repository.ChallengeImageRepository;
+import com.fintech.masoori.global.rabbitMQ.dto.ChallengeRequestMessage;
+import com.fintech.masoori.global.rabbitMQ.service.ChallengePubService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 챌린지 카드 이미지는 카드 이름으로만 정해지므로 이름별로 한 번만 생성한다.
+ * 한 번 등록된 이미지 경로는 바뀌지 않아 찾은 값은 서버 메모리에도 둔다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class ChallengeImageServiceImpl implements ChallengeImageService {
+	private static final String WARM_UP_KEY_PREFIX = "CHALLENGE_IMAGE_WARM_UP:";
+
+	private final ChallengeImageRepository challengeImageRepository;
+	private final ChallengePubService challengePubService;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final Map<String, String> imagePaths = new ConcurrentHashMap<>();
+
+	// 생성 요청 후 이 시간 안에는 같은 이름을 다시 요청하지 않는다.
+	@Value("${card.challenge-image.warm-up-hold-hours:24}")
+	private long warmUpHoldHours;
+
+	@Override
+	public Optional<String> findImagePath(String cardName) {
+		String nameKey = ChallengeCardNames.normalize(cardName);
+		String imagePath = imagePaths.get(nameKey);
+		if (imagePath != null) {
+			return Optional.of(imagePath);
+		}
+		Optional<String> found = challengeImageRepository.findByNameKey(nameKey).map(ChallengeImage::getImagePath);
+		found.ifPresent(path -> imagePaths.put(nameKey, path));
+		return found;
+	}
+
+	@Override
+	@Transactional
+	public void saveImagePath(String cardName, String imagePath) {
+		if (challengeImageRepository.insertIfAbsent(ChallengeCardNames.normalize(cardName), imagePath) > 0) {
+			log.info("챌린지 이미지 등록 : {} {}", cardName, imagePath);
+		}
+	}
+
+	@Override
+	@Transactional
+	public int warmUp() {
+		List<String> missing = findMissingNames();
+		int requested = 0;
+		for (String cardName : missing) {
+			Boolean first = redisTemplate.opsForValue()
+			                             .setIfAbsent(WARM_UP_KEY_PREFIX + ChallengeCardNames.normalize(cardName), "1",
+				                             Duration.ofHours(warmUpHoldHours));
+			if (!Boolean.TRUE.equals(first)) {
+				continue;
+			}
+			challengePubService.enqueue(ChallengeRequestMessage.builder().name(cardName).warmUp(true).build());
+			requested++;
+		}
+		log.info("챌린지 이미지 미리 생성 요청 - 없는 이름 : {}, 요청 : {}", missing.size(), requested);
+		return requested;
+	}
+
+	@Override
+	public ChallengeImageCacheRes selectCacheState() {
+		List<String> missing = findMissingNames();
+		int total = ChallengeCardNames.all().size();
+		return ChallengeImageCacheRes.builder().total(total).cached(total - missing.size()).missing(missing).build();
+	}
+
+	private List<String> findMissingNames() {
+		Set<String> cached = new HashSet<>(challengeImageRepository.findAllNameKeys());
+		return ChallengeCardNames.all()
+		                         .stream()
+		                         .filter(cardName -> !cached.contains(ChallengeCardNames.normalize(cardName)))
+		                         .toList();
+	}
+}
@@ -0,0 +1,42 @@
+package com.fintech.masoori.domain.card.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.fintech.masoori.domain.card.dto.GenerationJob;
+import com.fintech.masoori.domain.card.dto.GenerationJobType;
+
+public interface GenerationJobService {
+	/**
+	 * 사용자별로 같은 종류의 생성 작업은 하나만 진행한다. 진행 중인 작업이 있으면 AlreadyInProgressException.
+	 * 트랜잭션 안에서 호출하면 롤백될 때 작업을 FAILED 로 바꾸고 선점을 푼다.
+	 */
+	GenerationJob start(GenerationJobType type, Long userId);
+
+	/**
+	 * 스케줄러용. 진행 중인 작업이 있으면 빈 값을 돌려준다.
+	 * 발행 구간과 밀린 요청을 기다리도록 RUNNING 전까지는 bulk-timeout-minutes 를 쓴다.
+	 */
+	Optional<GenerationJob> tryStart(GenerationJobType type, Long userId);
+
+	/**
+	 * 생성 요청을 저장한 카드를 작업에 연결한다.
+	 */
+	void queued(String jobId, Long cardId);
+
+	/**
+	 * 발행된 작업을 RUNNING 으로 바꾸고, 시간 초과는 이때부터 timeout-minutes 로 다시 잰다.
+	 */
+	void running(List<Long> cardIds);
+
+	void done(List<Long> cardIds);
+
+	void failed(List<Long> cardIds, String message);
+
+	/**
+	 * userId 의 작업만 돌려준다. 다른 사용자의 작업이면 GenerationJobNotFound.
+	 */
+	GenerationJob getJob(Long userId, String jobId);
+
+	Optional<GenerationJob> getActiveJob(Long userId, GenerationJobType type);
+}
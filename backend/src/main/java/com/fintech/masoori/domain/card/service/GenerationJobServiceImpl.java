@@ -0,0 +1,245 @@
+package com.fintech.masoori.domain.card.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fintech.masoori.domain.card.dto.GenerationJob;
+import com.fintech.masoori.domain.card.dto.GenerationJobStatus;
+import com.fintech.masoori.domain.card.dto.GenerationJobType;
+import com.fintech.masoori.domain.card.exception.AlreadyInProgressException;
+import com.fintech.masoori.domain.card.exception.GenerationJobNotFound;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카드 생성 작업 상태를 Redis hash 로 관리한다.
+ * GENERATION_JOB_ACTIVE:{종류}:{사용자} 키를 SET NX 로 선점해 사용자별 작업을 하나로 제한하고,
+ * 카드 id 로 작업을 찾을 수 있게 GENERATION_JOB_CARD:{카드} 에 작업 id 를 둔다.
+ * 시간 초과는 RUNNING 전에는 생성 시각부터 작업마다 정한 시간(timeoutMinutes 필드)으로,
+ * RUNNING 뒤에는 시작 시각부터 timeout-minutes 로 잰다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class GenerationJobServiceImpl implements GenerationJobService {
+	private static final String JOB_KEY_PREFIX = "GENERATION_JOB:";
+	private static final String ACTIVE_KEY_PREFIX = "GENERATION_JOB_ACTIVE:";
+	private static final String CARD_KEY_PREFIX = "GENERATION_JOB_CARD:";
+	// 끝난 작업의 상태는 바꾸지 않는다.
+	private static final DefaultRedisScript<Long> TRANSITION_SCRIPT = new DefaultRedisScript<>(
+		"local status = redis.call('hget', KEYS[1], 'status') "
+			+ "if not status or status == 'DONE' or status == 'FAILED' then return 0 end "
+			+ "redis.call('hset', KEYS[1], 'status', ARGV[1], ARGV[2], ARGV[3]) "
+			+ "if ARGV[4] ~= '' then redis.call('hset', KEYS[1], 'message', ARGV[4]) end "
+			+ "return 1", Long.class);
+	private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+		Long.class);
+	private static final DefaultRedisScript<Long> REFRESH_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('expire', KEYS[1], ARGV[2]) else return 0 end",
+		Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	// 이 시간이 지나도 끝나지 않은 작업은 실패로 보고 다시 요청할 수 있게 한다.
+	@Value("${card.generation-job.timeout-minutes:30}")
+	private long timeoutMinutes;
+
+	// 스케줄러 작업은 발행 구간(dispatch-window)과 밀린 요청을 기다리는 동안 QUEUED 로 남는다.
+	@Value("${card.generation-job.bulk-timeout-minutes:360}")
+	private long bulkTimeoutMinutes;
+
+	@Value("${card.generation-job.ttl-hours:24}")
+	private long ttlHours;
+
+	@Override
+	public GenerationJob start(GenerationJobType type, Long userId) {
+		return acquire(type, userId, timeoutMinutes).orElseThrow(
+			() -> new AlreadyInProgressException("Creating Card is in progress"));
+	}
+
+	@Override
+	public Optional<GenerationJob> tryStart(GenerationJobType type, Long userId) {
+		return acquire(type, userId, bulkTimeoutMinutes);
+	}
+
+	private Optional<GenerationJob> acquire(GenerationJobType type, Long userId, long queuedTimeoutMinutes) {
+		GenerationJob job = GenerationJob.builder()
+		                                 .jobId(UUID.randomUUID().toString())
+		                                 .type(type)
+		                                 .status(GenerationJobStatus.QUEUED)
+		                                 .userId(userId)
+		                                 .createdDate(LocalDateTime.now())
+		                                 .build();
+		Boolean acquired = redisTemplate.opsForValue()
+		                                .setIfAbsent(activeKey(type, userId), job.getJobId(),
+			                                Duration.ofMinutes(queuedTimeoutMinutes));
+		if (!Boolean.TRUE.equals(acquired)) {
+			log.info("이미 진행 중인 생성 작업 : {} {}", type, userId);
+			return Optional.empty();
+		}
+		Map<String, String> hash = toHash(job);
+		hash.put("timeoutMinutes", String.valueOf(queuedTimeoutMinutes));
+		redisTemplate.opsForHash().putAll(jobKey(job.getJobId()), hash);
+		redisTemplate.expire(jobKey(job.getJobId()), Duration.ofHours(ttlHours));
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					if (status == STATUS_ROLLED_BACK) {
+						finish(job.getJobId(), GenerationJobStatus.FAILED, "생성 요청 저장 실패");
+					}
+				}
+			});
+		}
+		return Optional.of(job);
+	}
+
+	@Override
+	public void queued(String jobId, Long cardId) {
+		redisTemplate.opsForHash().put(jobKey(jobId), "cardId", String.valueOf(cardId));
+		redisTemplate.opsForValue().set(cardKey(cardId), jobId, Duration.ofHours(ttlHours));
+	}
+
+	@Override
+	public void running(List<Long> cardIds) {
+		for (Long cardId : cardIds) {
+			Optional<String> jobId = findJobId(cardId);
+			if (jobId.isEmpty() || !transition(jobId.get(), GenerationJobStatus.RUNNING, "startedDate", "")) {
+				continue;
+			}
+			// 선점 키도 시작 시각부터 timeout-minutes 동안만 유지한다.
+			findActiveKey(jobId.get()).ifPresent(activeKey -> redisTemplate.execute(REFRESH_SCRIPT, List.of(activeKey),
+				jobId.get(), String.valueOf(Duration.ofMinutes(timeoutMinutes).toSeconds())));
+		}
+	}
+
+	@Override
+	public void done(List<Long> cardIds) {
+		for (Long cardId : cardIds) {
+			findJobId(cardId).ifPresent(jobId -> finish(jobId, GenerationJobStatus.DONE, ""));
+		}
+	}
+
+	@Override
+	public void failed(List<Long> cardIds, String message) {
+		for (Long cardId : cardIds) {
+			findJobId(cardId).ifPresent(jobId -> finish(jobId, GenerationJobStatus.FAILED, message));
+		}
+	}
+
+	@Override
+	public GenerationJob getJob(Long userId, String jobId) {
+		return findJob(jobId).filter(job -> userId.equals(job.getUserId()))
+		                     .orElseThrow(() -> new GenerationJobNotFound("Generation Job Is Not Found"));
+	}
+
+	@Override
+	public Optional<GenerationJob> getActiveJob(Long userId, GenerationJobType type) {
+		String jobId = redisTemplate.opsForValue().get(activeKey(type, userId));
+		if (jobId == null) {
+			return Optional.empty();
+		}
+		return findJob(jobId).filter(job -> !job.getStatus().isFinished());
+	}
+
+	/**
+	 * 시간 초과된 작업은 조회할 때 FAILED 로 바꾼다.
+	 */
+	private Optional<GenerationJob> findJob(String jobId) {
+		Map<Object, Object> hash = redisTemplate.opsForHash().entries(jobKey(jobId));
+		if (hash.isEmpty()) {
+			return Optional.empty();
+		}
+		GenerationJob job = fromHash(hash);
+		LocalDateTime deadline = job.getStartedDate() != null ? job.getStartedDate().plusMinutes(timeoutMinutes) :
+			job.getCreatedDate().plusMinutes(hash.containsKey("timeoutMinutes") ?
+				Long.parseLong((String)hash.get("timeoutMinutes")) : timeoutMinutes);
+		if (!job.getStatus().isFinished() && deadline.isBefore(LocalDateTime.now())) {
+			finish(jobId, GenerationJobStatus.FAILED, "시간 초과");
+			job = fromHash(redisTemplate.opsForHash().entries(jobKey(jobId)));
+		}
+		return Optional.of(job);
+	}
+
+	private void finish(String jobId, GenerationJobStatus status, String message) {
+		if (!transition(jobId, status, "finishedDate", message)) {
+			return;
+		}
+		findActiveKey(jobId).ifPresent(activeKey -> redisTemplate.execute(RELEASE_SCRIPT, List.of(activeKey), jobId));
+	}
+
+	private Optional<String> findActiveKey(String jobId) {
+		Object type = redisTemplate.opsForHash().get(jobKey(jobId), "type");
+		Object userId = redisTemplate.opsForHash().get(jobKey(jobId), "userId");
+		if (type == null || userId == null) {
+			return Optional.empty();
+		}
+		return Optional.of(activeKey(GenerationJobType.valueOf(type.toString()), Long.valueOf(userId.toString())));
+	}
+
+	private boolean transition(String jobId, GenerationJobStatus status, String dateField, String message) {
+		Long changed = redisTemplate.execute(TRANSITION_SCRIPT, List.of(jobKey(jobId)), status.name(), dateField,
+			LocalDateTime.now().toString(), message == null ? "" : message);
+		return changed != null && changed == 1L;
+	}
+
+	private Optional<String> findJobId(Long cardId) {
+		return Optional.ofNullable(redisTemplate.opsForValue().get(cardKey(cardId)));
+	}
+
+	private Map<String, String> toHash(GenerationJob job) {
+		Map<String, String> hash = new HashMap<>();
+		hash.put("jobId", job.getJobId());
+		hash.put("type", job.getType().name());
+		hash.put("status", job.getStatus().name());
+		hash.put("userId", String.valueOf(job.getUserId()));
+		hash.put("createdDate", job.getCreatedDate().toString());
+		return hash;
+	}
+
+	private GenerationJob fromHash(Map<Object, Object> hash) {
+		return GenerationJob.builder()
+		                    .jobId((String)hash.get("jobId"))
+		                    .type(GenerationJobType.valueOf((String)hash.get("type")))
+		                    .status(GenerationJobStatus.valueOf((String)hash.get("status")))
+		                    .userId(Long.valueOf((String)hash.get("userId")))
+		                    .cardId(hash.containsKey("cardId") ? Long.valueOf((String)hash.get("cardId")) : null)
+		                    .message((String)hash.get("message"))
+		                    .createdDate(toDate(hash.get("createdDate")))
+		                    .startedDate(toDate(hash.get("startedDate")))
+		                    .finishedDate(toDate(hash.get("finishedDate")))
+		                    .build();
+	}
+
+	private LocalDateTime toDate(Object value) {
+		return value == null ? null : LocalDateTime.parse(value.toString());
+	}
+
+	private String jobKey(String jobId) {
+		return JOB_KEY_PREFIX + jobId;
+	}
+
+	private String activeKey(GenerationJobType type, Long userId) {
+		return ACTIVE_KEY_PREFIX + type + ":" + userId;
+	}
+
+	private String cardKey(Long cardId) {
+		return CARD_KEY_PREFIX + cardId;
+	}
+}
@@ -0,0 +1,107 @@
+package com.fintech.masoori.domain.card.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카드 조회 캐시의 서버 메모리 계층. 사용자별 묶음(bucket)을 최근 사용 순으로 max-users 개까지 두고,
+ * 묶음 안의 조회 결과도 최근 사용 순으로 max-views-per-user 개까지 둔다.
+ * 묶음마다 Redis 캐시 버전을 기억해, 비운 뒤에 늦게 도착한 이전 버전의 결과는 넣지 않는다.
+ */
+class LocalCardCache {
+	private final int maxViewsPerUser;
+	private final long ttlNanos;
+	private final Map<Long, Bucket> buckets;
+
+	LocalCardCache(int maxUsers, int maxViewsPerUser, long ttlMillis) {
+		this.maxViewsPerUser = maxViewsPerUser;
+		this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+		this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, Bucket> eldest) {
+				return size() > maxUsers;
+			}
+		};
+	}
+
+	Object get(long userId, String view) {
+		Bucket bucket;
+		synchronized (buckets) {
+			bucket = buckets.get(userId);
+		}
+		return bucket == null ? null : bucket.get(view, System.nanoTime());
+	}
+
+	/**
+	 * version 은 값을 읽기 전에 확인한 Redis 캐시 버전. 그 사이 비워졌으면 넣지 않는다.
+	 */
+	void put(long userId, long version, String view, Object value) {
+		Bucket bucket = bucket(userId, version);
+		if (bucket.version == version) {
+			bucket.put(view, value, System.nanoTime() + ttlNanos);
+		}
+	}
+
+	/**
+	 * 사용자의 결과를 모두 버리고 version 보다 이전 버전의 결과는 더 받지 않는다.
+	 */
+	void invalidate(long userId, long version) {
+		bucket(userId, version);
+	}
+
+	int size() {
+		synchronized (buckets) {
+			return buckets.size();
+		}
+	}
+
+	private Bucket bucket(long userId, long version) {
+		synchronized (buckets) {
+			return buckets.compute(userId,
+				(key, bucket) -> bucket == null || bucket.version < version ? new Bucket(version, maxViewsPerUser) :
+					bucket);
+		}
+	}
+
+	private static class Bucket {
+		private final long version;
+		private final Map<String, Entry> entries;
+
+		Bucket(long version, int maxViews) {
+			this.version = version;
+			this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+					return size() > maxViews;
+				}
+			};
+		}
+
+		synchronized Object get(String view, long now) {
+			Entry entry = entries.get(view);
+			if (entry == null) {
+				return null;
+			}
+			if (entry.expiresAt - now <= 0) {
+				entries.remove(view);
+				return null;
+			}
+			return entry.value;
+		}
+
+		synchronized void put(String view, Object value, long expiresAt) {
+			entries.put(view, new Entry(value, expiresAt));
+		}
+	}
+
+	private static class Entry {
+		private final Object value;
+		private final long expiresAt;
+
+		Entry(Object value, long expiresAt) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+	}
+}
@@ -17,6 +17,7 @@ import com.fintech.masoori.domain.credit.dto.MonthlyInfoRes;
 import com.fintech.masoori.domain.credit.dto.UserCreditCardRes;
 import com.fintech.masoori.domain.credit.entity.CreditCard;
 import com.fintech.masoori.domain.credit.service.CreditCardService;
+import com.fintech.masoori.global.config.jwt.LoginUser;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -40,11 +41,11 @@ public class CreditCardController {
 	public ResponseEntity<MonthlyInfoRes> selectMonthCreditCardUser(
 		@Parameter(description = "검색 연, 월", example = "2023-09-19T21:11:45")
 		@RequestParam("time") LocalDateTime time,
-		Principal principal) {
+		LoginUser loginUser) {
 		log.debug("Time : {}", time);
-		CreditCardRes creditCardRes = creditCardService.selectMonth(principal.getName(), time);
+		CreditCardRes creditCardRes = creditCardService.selectMonth(loginUser.getId(), time);
 		MonthlySpendingAnalyticsRes monthlySpendingAnalyticsRes = monthlySpendingAnalyticsService.selectAll(
-			principal.getName(), time);
+			loginUser.getId(), time);
 		MonthlyInfoRes monthlyInfoRes = MonthlyInfoRes.builder()
 													  .creditCardRes(creditCardRes)
 													  .monthlySpendingAnalyticsRes(monthlySpendingAnalyticsRes)
@@ -14,7 +14,7 @@ public interface CreditCardService {
 	 */
 	UserCreditCardRes selectAll(String userEmail);
 
-	CreditCardRes selectMonth(String userEmail, LocalDateTime time);
+	CreditCardRes selectMonth(long userId, LocalDateTime time);
 
 	CreditCard selectOne(Long id);
 
@@ -42,11 +42,9 @@ public class CreditCardServiceImpl implements CreditCardService {
 	}
 
 	@Override
-	public CreditCardRes selectMonth(String userEmail, LocalDateTime time) {
-		User user = userRepository.findUserByEmail(userEmail);
-
+	public CreditCardRes selectMonth(long userId, LocalDateTime time) {
 		CalcDate.StartEndDate calcDate = CalcDate.calcDate(time, time);
-		List<CreditCardUser> creditCardList = creditCardUserRepository.findCreditCardsByUserId(user.getId(),
+		List<CreditCardUser> creditCardList = creditCardUserRepository.findCreditCardsByUserId(userId,
 			calcDate.getStartDate(), calcDate.getEndDate());
 
 		List<CreditCardRes.CreditCard> creditCardResList = creditCardList.stream()
@@ -0,0 +1,36 @@
+package com.fintech.masoori.domain.deal.dto;
+
+import java.time.LocalDateTime;
+
+import com.fintech.masoori.global.rabbitMQ.dto.Transaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 거래내역 한 행과 소유자 id. Deal 엔티티를 거치지 않고 JPQL 생성자 프로젝션으로 바로 조회한다.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class UserTransaction {
+	private Long userId;
+	private Long id;
+	private LocalDateTime date;
+	private String content;
+	private Integer amount;
+	private String dealPlaceName;
+
+	public Transaction toTransaction() {
+		return Transaction.builder()
+		                  .id(this.id)
+		                  .date(this.date)
+		                  .content(this.content)
+		                  .amount(this.amount)
+		                  .dealPlaceName(this.dealPlaceName)
+		                  .build();
+	}
+}
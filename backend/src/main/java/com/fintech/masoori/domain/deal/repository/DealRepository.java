@@ -2,13 +2,30 @@ package com.fintech.masoori.domain.deal.repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.fintech.masoori.domain.deal.dto.UserTransaction;
 import com.fintech.masoori.domain.deal.entity.Deal;
 import com.fintech.masoori.domain.user.entity.User;
 
+import jakarta.persistence.QueryHint;
+
 public interface DealRepository extends JpaRepository<Deal, Long> {
 	List<Deal> findDealsByUserAndDateGreaterThanAndDateLessThan(User user, LocalDateTime startTime,
 		LocalDateTime endTime);
+
+	/**
+	 * 여러 사용자의 기간 내 거래내역을 user_id, date 순으로 한 번에 스트리밍 조회한다.
+	 * 트랜잭션 안에서 사용하고 반드시 close 해야 한다.
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+	@Query("SELECT new com.fintech.masoori.domain.deal.dto.UserTransaction(d.user.id, d.id, d.date, d.content, d.amount, d.dealPlaceName) FROM Deal d WHERE d.user.id IN :userIds AND d.date > :startTime AND d.date < :endTime ORDER BY d.user.id ASC, d.date ASC")
+	Stream<UserTransaction> streamUserTransactions(@Param("userIds") List<Long> userIds,
+		@Param("startTime") LocalDateTime startTime, @Param("endTime") LocalDateTime endTime);
 }
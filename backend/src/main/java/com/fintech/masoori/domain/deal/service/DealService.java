@@ -2,6 +2,7 @@ package com.fintech.masoori.domain.deal.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.BiConsumer;
 
 import com.fintech.masoori.domain.deal.dto.DealsReq;
 import com.fintech.masoori.domain.user.entity.User;
@@ -11,5 +12,13 @@ public interface DealService {
 	List<Transaction> findDealsByUserAndDateGreaterThanAndDateLessThan(User user, LocalDateTime startTime,
 		LocalDateTime endTime);
 
+	/**
+	 * userIds 사용자들의 기간 내 거래내역을 한 번의 쿼리로 읽어 사용자 단위로 잘라 consumer 에 넘긴다.
+	 * user_id 오름차순으로 호출되며 거래내역이 없는 사용자도 빈 리스트로 한 번씩 호출된다.
+	 * consumer 는 결과 스트림과 DB 커넥션이 열린 채로 호출되므로 발행 대기처럼 오래 막히는 일을 하면 안 된다.
+	 */
+	void forEachUserTransactions(List<Long> userIds, LocalDateTime startTime, LocalDateTime endTime,
+		BiConsumer<Long, List<Transaction>> consumer);
+
 	void setDealListForUser(DealsReq dealsReq);
 }
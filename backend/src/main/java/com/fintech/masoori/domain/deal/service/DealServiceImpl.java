@@ -1,12 +1,18 @@
 package com.fintech.masoori.domain.deal.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fintech.masoori.domain.deal.dto.DealsReq;
+import com.fintech.masoori.domain.deal.dto.UserTransaction;
 import com.fintech.masoori.domain.deal.repository.DealRepository;
 import com.fintech.masoori.domain.user.entity.User;
 import com.fintech.masoori.domain.user.exception.UserNotFoundException;
@@ -31,6 +37,36 @@ public class DealServiceImpl implements DealService {
 		                     .toList();
 	}
 
+	@Override
+	public void forEachUserTransactions(List<Long> userIds, LocalDateTime startTime, LocalDateTime endTime,
+		BiConsumer<Long, List<Transaction>> consumer) {
+		if (userIds.isEmpty()) {
+			return;
+		}
+		List<Long> sortedUserIds = userIds.stream().sorted().toList();
+		UserCursor cursor = new UserCursor(sortedUserIds, consumer);
+		try (Stream<UserTransaction> stream = dealRepository.streamUserTransactions(sortedUserIds, startTime,
+			endTime)) {
+			Iterator<UserTransaction> iterator = stream.iterator();
+			Long currentUserId = null;
+			List<Transaction> current = new ArrayList<>();
+			while (iterator.hasNext()) {
+				UserTransaction row = iterator.next();
+				// user_id 가 바뀌는 지점에서 이전 사용자의 거래내역을 내보낸다.
+				if (currentUserId != null && !currentUserId.equals(row.getUserId())) {
+					cursor.emit(currentUserId, current);
+					current = new ArrayList<>();
+				}
+				currentUserId = row.getUserId();
+				current.add(row.toTransaction());
+			}
+			if (currentUserId != null) {
+				cursor.emit(currentUserId, current);
+			}
+		}
+		cursor.emitRemaining();
+	}
+
 	@Override
 	@Transactional
 	public void setDealListForUser(DealsReq dealsReq) {
@@ -42,4 +78,34 @@ public class DealServiceImpl implements DealService {
 		});
 
 	}
+
+	/**
+	 * 정렬된 userIds 를 따라가며 거래내역이 없어 스트림에 나타나지 않은 사용자에게 빈 리스트를 채워준다.
+	 */
+	private static class UserCursor {
+		private final List<Long> sortedUserIds;
+		private final BiConsumer<Long, List<Transaction>> consumer;
+		private int idx = 0;
+
+		UserCursor(List<Long> sortedUserIds, BiConsumer<Long, List<Transaction>> consumer) {
+			this.sortedUserIds = sortedUserIds;
+			this.consumer = consumer;
+		}
+
+		void emit(Long userId, List<Transaction> transactionList) {
+			skipUntil(userId);
+			consumer.accept(userId, transactionList);
+			idx++;
+		}
+
+		void emitRemaining() {
+			skipUntil(Long.MAX_VALUE);
+		}
+
+		private void skipUntil(Long userId) {
+			while (idx < sortedUserIds.size() && sortedUserIds.get(idx) < userId) {
+				consumer.accept(sortedUserIds.get(idx++), Collections.emptyList());
+			}
+		}
+	}
 }
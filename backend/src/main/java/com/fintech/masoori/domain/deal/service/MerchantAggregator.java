@@ -0,0 +1,83 @@
+package com.fintech.masoori.domain.deal.service;
+
+import java.text.Normalizer;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import com.fintech.masoori.global.rabbitMQ.dto.MerchantAggregate;
+import com.fintech.masoori.global.rabbitMQ.dto.Transaction;
+
+/**
+ * 거래내역을 정규화한 가맹점 이름별로 묶어 건수, 합계, 첫/마지막 거래일, 대표 내용으로 요약한다.
+ * 결과는 합계가 큰 가맹점부터 정렬한다.
+ */
+public final class MerchantAggregator {
+	public static final String UNKNOWN_PLACE = "기타";
+
+	private static final Pattern CORPORATION = Pattern.compile("\\(주\\)|㈜|주식회사");
+	private static final Pattern BRACKETS = Pattern.compile("\\(.*?\\)|\\[.*?]");
+	private static final Pattern SPACES = Pattern.compile("\\s+");
+
+	private MerchantAggregator() {
+	}
+
+	public static List<MerchantAggregate> aggregate(List<Transaction> transactions) {
+		Map<String, MerchantAggregate> aggregates = new LinkedHashMap<>();
+		for (Transaction transaction : transactions) {
+			String key = normalize(transaction.getDealPlaceName());
+			MerchantAggregate aggregate = aggregates.computeIfAbsent(key, k -> newAggregate(transaction));
+			aggregate.setCount(aggregate.getCount() + 1);
+			if (transaction.getAmount() != null) {
+				aggregate.setTotalAmount(aggregate.getTotalAmount() + transaction.getAmount());
+			}
+			if (transaction.getDate() != null) {
+				if (aggregate.getFirstDate() == null || transaction.getDate().isBefore(aggregate.getFirstDate())) {
+					aggregate.setFirstDate(transaction.getDate());
+				}
+				if (aggregate.getLastDate() == null || transaction.getDate().isAfter(aggregate.getLastDate())) {
+					aggregate.setLastDate(transaction.getDate());
+				}
+			}
+			if (aggregate.getSampleContent() == null) {
+				aggregate.setSampleContent(transaction.getContent());
+			}
+		}
+		return aggregates.values()
+		                 .stream()
+		                 .sorted(Comparator.comparing(MerchantAggregate::getTotalAmount).reversed())
+		                 .toList();
+	}
+
+	private static MerchantAggregate newAggregate(Transaction transaction) {
+		return MerchantAggregate.builder()
+		                        .dealPlaceName(displayName(transaction.getDealPlaceName()))
+		                        .count(0)
+		                        .totalAmount(0L)
+		                        .sampleContent(transaction.getContent())
+		                        .build();
+	}
+
+	/**
+	 * 전각/반각, 법인 표기, 괄호 안 지점명, 공백, 대소문자 차이를 없앤 비교용 이름
+	 */
+	static String normalize(String dealPlaceName) {
+		if (dealPlaceName == null || dealPlaceName.isBlank()) {
+			return UNKNOWN_PLACE;
+		}
+		String name = Normalizer.normalize(dealPlaceName, Normalizer.Form.NFKC);
+		name = CORPORATION.matcher(name).replaceAll("");
+		name = BRACKETS.matcher(name).replaceAll("");
+		name = SPACES.matcher(name).replaceAll("").toLowerCase();
+		return name.isEmpty() ? UNKNOWN_PLACE : name;
+	}
+
+	private static String displayName(String dealPlaceName) {
+		if (dealPlaceName == null || dealPlaceName.isBlank()) {
+			return UNKNOWN_PLACE;
+		}
+		return SPACES.matcher(dealPlaceName.trim()).replaceAll(" ");
+	}
+}
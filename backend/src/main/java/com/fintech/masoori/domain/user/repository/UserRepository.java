@@ -4,12 +4,15 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.fintech.masoori.domain.user.entity.User;
+import com.fintech.masoori.global.scheduler.dto.BatchUser;
+import com.fintech.masoori.global.scheduler.dto.UserIdRange;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -17,12 +20,27 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
 	Optional<User> findByEmail(String email);
 
+	@Query("SELECT u.id FROM User u WHERE u.email = :email")
+	Optional<Long> findIdByEmail(@Param("email") String email);
+
 	User save(User newUser);
 
 	List<User> findUsersByCardGenerationAndIsAuthenticated(Boolean cardGeneration, Boolean isAuthentication);
 
 	List<User> findUsersByIsAuthenticated(Boolean isAuthentication);
 
+	/**
+	 * user_id 기준 keyset 페이지네이션. user_id % shardCount == shard 인 사용자 중
+	 * lastUserId 이후의 사용자를 pageable 크기만큼 id 오름차순으로 조회한다.
+	 */
+	@Query("SELECT new com.fintech.masoori.global.scheduler.dto.BatchUser(u.id, u.email) FROM User u WHERE u.isAuthenticated = :isAuthentication AND MOD(u.id, :shardCount) = :shard AND u.id > :lastUserId ORDER BY u.id ASC")
+	List<BatchUser> findBatchUserChunk(@Param("isAuthentication") Boolean isAuthentication,
+		@Param("shardCount") int shardCount, @Param("shard") int shard, @Param("lastUserId") Long lastUserId,
+		Pageable pageable);
+
+	@Query("SELECT new com.fintech.masoori.global.scheduler.dto.UserIdRange(MIN(u.id), MAX(u.id)) FROM User u WHERE u.isAuthenticated = :isAuthentication")
+	UserIdRange findUserIdRange(@Param("isAuthentication") Boolean isAuthentication);
+
 	@Modifying
 	@Query("UPDATE User u SET u.phoneNumber = :phoneNumber, u.name =:name WHERE u.email = :email")
 	void updateInfo(@Param("email") String email, @Param("name") String name, @Param("phoneNumber") String phoneNumber);
@@ -0,0 +1,51 @@
+package com.fintech.masoori.domain.user.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fintech.masoori.domain.user.exception.UserNotFoundException;
+import com.fintech.masoori.domain.user.repository.UserRepository;
+
+/**
+ * 이메일로 사용자 id 를 찾는다. 사용자 id 클레임이 없는 이전 토큰용.
+ * 이메일과 id 는 바뀌지 않으므로 찾은 id 를 최근 사용 순으로 max-size 개까지 메모리에 둔다.
+ */
+@Component
+public class UserIdResolver {
+	private final UserRepository userRepository;
+	private final Map<String, Long> userIds;
+
+	public UserIdResolver(UserRepository userRepository, @Value("${user.id-cache.max-size:10000}") int maxSize) {
+		this.userRepository = userRepository;
+		this.userIds = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	public Long resolve(String email) {
+		synchronized (userIds) {
+			Long userId = userIds.get(email);
+			if (userId != null) {
+				return userId;
+			}
+		}
+		Long userId = userRepository.findIdByEmail(email)
+		                            .orElseThrow(() -> new UserNotFoundException("User Is Not Found"));
+		synchronized (userIds) {
+			userIds.put(email, userId);
+		}
+		return userId;
+	}
+
+	int size() {
+		synchronized (userIds) {
+			return userIds.size();
+		}
+	}
+}
@@ -11,6 +11,8 @@ import com.fintech.masoori.domain.user.dto.SendSmsReq;
 import com.fintech.masoori.domain.user.dto.SignUpReq;
 import com.fintech.masoori.domain.user.dto.SmsCheckReq;
 import com.fintech.masoori.domain.user.entity.User;
+import com.fintech.masoori.global.scheduler.dto.BatchUser;
+import com.fintech.masoori.global.scheduler.dto.UserIdRange;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -18,6 +20,11 @@ import jakarta.servlet.http.HttpServletResponse;
 public interface UserService {
 	List<User> findUsersByIsAuthenticated(Boolean isAuthentication);
 
+	// 배치용 사용자 청크 조회 (shard 에 속한 사용자 중 lastUserId 이후 size 명)
+	List<BatchUser> findAuthenticatedUserChunk(int shardCount, int shard, Long lastUserId, int size);
+
+	UserIdRange findAuthenticatedUserIdRange();
+
 	boolean checkEmail(String email);
 
 	boolean checkOAuthAccount(String email);
@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
@@ -41,6 +42,8 @@ import com.fintech.masoori.global.config.jwt.JwtTokenProvider;
 import com.fintech.masoori.global.config.jwt.TokenInfo;
 import com.fintech.masoori.global.oauth.ProviderType;
 import com.fintech.masoori.global.redis.RedisService;
+import com.fintech.masoori.global.scheduler.dto.BatchUser;
+import com.fintech.masoori.global.scheduler.dto.UserIdRange;
 import com.fintech.masoori.global.util.CookieUtil;
 
 import jakarta.mail.MessagingException;
@@ -69,6 +72,16 @@ public class UserServiceImpl implements UserService {
 		return userRepository.findUsersByIsAuthenticated(isAuthentication);
 	}
 
+	@Override
+	public List<BatchUser> findAuthenticatedUserChunk(int shardCount, int shard, Long lastUserId, int size) {
+		return userRepository.findBatchUserChunk(true, shardCount, shard, lastUserId, PageRequest.of(0, size));
+	}
+
+	@Override
+	public UserIdRange findAuthenticatedUserIdRange() {
+		return userRepository.findUserIdRange(true);
+	}
+
 	@Override
 	public boolean checkEmail(String email) {
 		return userRepository.findByEmail(email).isPresent();
@@ -108,7 +121,7 @@ public class UserServiceImpl implements UserService {
 
 		Authentication authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
 
-		TokenInfo tokenInfo = jwtTokenProvider.createToken(authentication);
+		TokenInfo tokenInfo = jwtTokenProvider.createToken(authentication, user.getId());
 
 		redisTemplate.opsForValue()
 		             .set("RT:" + authentication.getName(), tokenInfo.getRefreshToken(), tokenInfo.getExpireTime(),
@@ -120,7 +133,7 @@ public class UserServiceImpl implements UserService {
 	@Override
 	public InfoRes getUserInfo(String email) {
 		User user = userRepository.findUserByEmail(email);
-		Long challengeCardId = cardService.findTopByUserIdRecentlyChallengeCard(user.getEmail());
+		Long challengeCardId = cardService.findTopByUserIdRecentlyChallengeCard(user.getId());
 		// 오늘 기준
 		LocalDateTime now = LocalDateTime.now();
 		LocalDateTime nowEnd = now.withHour(23).withMinute(59).withSecond(59);
@@ -0,0 +1,32 @@
+package com.fintech.masoori.global.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 요청 큐별 backpressure 기준. 큐 길이가 high-water 이상이면 배치 발행을 멈추고 low-water 이하로 내려가면 다시 발행한다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rabbitmq.backpressure")
+public class BackpressureProperties {
+	// 큐 길이 조회 주기
+	private long pollMillis = 2000;
+
+	// key : 큐 이름
+	private Map<String, Watermark> queues = new HashMap<>();
+
+	@Getter
+	@Setter
+	public static class Watermark {
+		private int highWater = 10000;
+		private int lowWater = 2000;
+	}
+}
@@ -1,19 +1,35 @@
 package com.fintech.masoori.global.config;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.interceptor.RetryOperationsInterceptor;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fintech.masoori.global.rabbitMQ.service.ClaimCheckService;
+import com.fintech.masoori.global.rabbitMQ.service.RetryTopologyRecoverer;
 
 @Configuration
 public class RabbitMQConfig {
@@ -38,6 +54,9 @@ public class RabbitMQConfig {
 	@Value("${rabbitmq.queue.analytics}")
 	private String queue3;
 
+	@Value("${rabbitmq.queue.spending-interactive}")
+	private String interactiveSpendingQueue;
+
 	@Bean
 	public Queue queue1() {
 		return new Queue(queue1, true);
@@ -53,13 +72,101 @@ public class RabbitMQConfig {
 		return new Queue(queue3, true);
 	}
 
+	/**
+	 * 사용자가 직접 요청한 소비 카드 생성 전용 큐. 전용 워커가 소비하므로 배치 적체와 상관없이 처리된다.
+	 */
+	@Bean
+	public Queue interactiveSpendingQueue() {
+		return new Queue(interactiveSpendingQueue, true);
+	}
+
 	@Bean
-	public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
+	public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, ClaimCheckService claimCheckService) {
 		RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
 		rabbitTemplate.setMessageConverter(messageConverter());
+		// 큰 본문은 발행 직전에 claim check 참조로 바꾼다.
+		rabbitTemplate.setBeforePublishPostProcessors(claimCheckService);
+		// 라우팅되지 않은 메시지는 반송받아 실패로 처리
+		rabbitTemplate.setMandatory(true);
 		return rabbitTemplate;
 	}
 
+	/**
+	 * 결과 큐별 지연 재시도 큐와 parking 큐.
+	 * 재시도 큐는 단계마다 TTL 이 고정되어 있어 앞 메시지의 지연이 뒤 메시지를 막지 않고,
+	 * TTL 이 지나면 기본 exchange 를 통해 원래 큐로 돌아간다.
+	 */
+	@Bean
+	public Declarables retryTopology(RetryTopologyProperties retryTopologyProperties) {
+		DirectExchange retryExchange = new DirectExchange(retryTopologyProperties.getRetryExchange(), true, false);
+		DirectExchange parkingExchange = new DirectExchange(retryTopologyProperties.getParkingExchange(), true, false);
+		List<Declarable> declarables = new ArrayList<>(List.of(retryExchange, parkingExchange));
+		for (String queue : retryTopologyProperties.getQueues()) {
+			for (int retry = 1; retry <= retryTopologyProperties.getMaxRetries(); retry++) {
+				Queue retryQueue = QueueBuilder.durable(retryTopologyProperties.retryQueue(queue, retry))
+				                               .ttl((int)retryTopologyProperties.delayMillis(retry))
+				                               .deadLetterExchange("")
+				                               .deadLetterRoutingKey(queue)
+				                               .build();
+				declarables.add(retryQueue);
+				declarables.add(BindingBuilder.bind(retryQueue).to(retryExchange).with(retryQueue.getName()));
+			}
+			Queue parkingQueue = QueueBuilder.durable(retryTopologyProperties.parkingQueue(queue)).build();
+			declarables.add(parkingQueue);
+			declarables.add(BindingBuilder.bind(parkingQueue).to(parkingExchange).with(queue));
+		}
+		return new Declarables(declarables);
+	}
+
+	/**
+	 * 기본 리스너 컨테이너. 예외가 나면 바로 requeue 하지 않고 RetryTopologyRecoverer 로 지연 재시도 큐에 넘긴다.
+	 */
+	@Bean
+	public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(
+		SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory,
+		RetryTopologyRecoverer retryTopologyRecoverer) {
+		SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+		configurer.configure(factory, connectionFactory);
+		factory.setAdviceChain(retryInterceptor(retryTopologyRecoverer));
+		return factory;
+	}
+
+	private RetryOperationsInterceptor retryInterceptor(MessageRecoverer messageRecoverer) {
+		// 같은 스레드에서 다시 시도하지 않고 한 번 실패하면 바로 recoverer 로 넘긴다.
+		return RetryInterceptorBuilder.stateless().maxAttempts(1).recoverer(messageRecoverer).build();
+	}
+
+	/**
+	 * spending.res 일괄 소비용. batch-size 개가 모이거나 receive-timeout 이 지나면 List 로 한 번에 넘긴다.
+	 * 배치 리스너에는 advice chain 을 두지 않고, SpendingSubService 가 실패한 메시지를 직접 RetryTopologyRecoverer 로 넘긴다.
+	 */
+	@Bean
+	public SimpleRabbitListenerContainerFactory spendingBatchContainerFactory(ConnectionFactory connectionFactory,
+		@Value("${rabbitmq.listener.spending.concurrency:2}") int concurrency,
+		@Value("${rabbitmq.listener.spending.max-concurrency:4}") int maxConcurrency,
+		@Value("${rabbitmq.listener.spending.prefetch:200}") int prefetch,
+		@Value("${rabbitmq.listener.spending.batch-size:50}") int batchSize,
+		@Value("${rabbitmq.listener.spending.receive-timeout-millis:1000}") long receiveTimeoutMillis) {
+		SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+		factory.setConnectionFactory(connectionFactory);
+		factory.setConcurrentConsumers(concurrency);
+		factory.setMaxConcurrentConsumers(maxConcurrency);
+		factory.setPrefetchCount(prefetch);
+		factory.setBatchListener(true);
+		factory.setConsumerBatchEnabled(true);
+		factory.setBatchSize(batchSize);
+		factory.setReceiveTimeout(receiveTimeoutMillis);
+		return factory;
+	}
+
+	/**
+	 * 큐 길이 조회(passive declare)와 큐 선언에 사용
+	 */
+	@Bean
+	public RabbitAdmin rabbitAdmin(ConnectionFactory connectionFactory) {
+		return new RabbitAdmin(connectionFactory);
+	}
+
 	@Bean
 	public ConnectionFactory connectionFactory() {
 		CachingConnectionFactory connectionFactory = new CachingConnectionFactory();
@@ -67,14 +174,24 @@ public class RabbitMQConfig {
 		connectionFactory.setPort(port);
 		connectionFactory.setUsername(username);
 		connectionFactory.setPassword(password);
+		// outbox relay 가 발행 결과를 CorrelationData 로 확인
+		connectionFactory.setPublisherConfirmType(CachingConnectionFactory.ConfirmType.CORRELATED);
+		connectionFactory.setPublisherReturns(true);
 		return connectionFactory;
 	}
 
 	@Bean
 	public MessageConverter messageConverter() {
+		return new Jackson2JsonMessageConverter(messageObjectMapper());
+	}
+
+	/**
+	 * 메시지 본문 직렬화 설정. 컨버터를 거치지 않고 본문을 직접 만드는 곳(outbox, 배치 봉투)도 같은 설정을 쓴다.
+	 */
+	public static ObjectMapper messageObjectMapper() {
 		ObjectMapper objectMapper = new ObjectMapper();
 		objectMapper.registerModule(new JavaTimeModule()); // LocalDate 처리를 위한 모듈 등록
 		objectMapper.enable(DeserializationFeature.ACCEPT_EMPTY_ARRAY_AS_NULL_OBJECT);
-		return new Jackson2JsonMessageConverter(objectMapper);
+		return objectMapper;
 	}
 }
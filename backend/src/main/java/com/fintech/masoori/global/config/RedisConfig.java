@@ -0,0 +1,25 @@
+package com.fintech.masoori.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.fintech.masoori.domain.card.service.CardReadCache;
+
+@Configuration
+public class RedisConfig {
+
+	/**
+	 * 서버 사이 캐시 무효화 알림 구독. 카드 조회 캐시를 비운 서버가 CARD_CACHE_INVALIDATION 으로 보낸다.
+	 */
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+		CardReadCache cardReadCache) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener(cardReadCache, new ChannelTopic(CardReadCache.INVALIDATION_CHANNEL));
+		return container;
+	}
+}
@@ -0,0 +1,43 @@
+package com.fintech.masoori.global.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 결과 큐 소비 실패 시 재시도 토폴로지 설정.
+ * n 번째 재시도는 {큐}.retry.{n} 큐에서 initial-delay * multiplier^(n-1) 만큼 머문 뒤 원래 큐로 돌아가고,
+ * max-retries 를 넘기면 {큐}.parking 큐에 보관된다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rabbitmq.retry")
+public class RetryTopologyProperties {
+	private String retryExchange = "masoori.retry";
+	private String parkingExchange = "masoori.parking";
+	private long initialDelayMillis = 5000;
+	private double multiplier = 3.0;
+	private long maxDelayMillis = 600000;
+	private int maxRetries = 4;
+
+	// 재시도 토폴로지를 붙일 결과 큐 이름
+	private List<String> queues = new ArrayList<>();
+
+	public long delayMillis(int retry) {
+		return Math.min(maxDelayMillis, (long)(initialDelayMillis * Math.pow(multiplier, retry - 1)));
+	}
+
+	public String retryQueue(String queue, int retry) {
+		return queue + ".retry." + retry;
+	}
+
+	public String parkingQueue(String queue) {
+		return queue + ".parking";
+	}
+}
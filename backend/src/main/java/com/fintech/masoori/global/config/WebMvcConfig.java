@@ -0,0 +1,29 @@
+package com.fintech.masoori.global.config;
+
+import java.util.List;
+
+import org.springdoc.core.utils.SpringDocUtils;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fintech.masoori.global.config.jwt.LoginUser;
+import com.fintech.masoori.global.config.jwt.LoginUserArgumentResolver;
+
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+	static {
+		// 요청 파라미터가 아니므로 Swagger 문서에서 뺀다.
+		SpringDocUtils.getConfig().addRequestWrapperToIgnore(LoginUser.class);
+	}
+
+	private final LoginUserArgumentResolver loginUserArgumentResolver;
+
+	@Override
+	public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+		resolvers.add(loginUserArgumentResolver);
+	}
+}
@@ -19,6 +19,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.fintech.masoori.domain.user.repository.UserRepository;
+import com.fintech.masoori.domain.user.service.UserIdResolver;
 import com.fintech.masoori.global.config.jwt.JwtAuthenticationFilter;
 import com.fintech.masoori.global.config.jwt.JwtTokenProvider;
 import com.fintech.masoori.global.config.jwt.TokenAccessDeniedHandler;
@@ -45,6 +46,7 @@ public class WebSecurityConfig {
 	private final CustomOAuth2UserService customOAuth2UserService;
 	private final TokenAccessDeniedHandler tokenAccessDeniedHandler;
 	private final UserRepository userRepository;
+	private final UserIdResolver userIdResolver;
 
 	@Bean
 	public SecurityFilterChain filterChain(HttpSecurity httpSecurity) throws Exception {
@@ -62,6 +64,8 @@ public class WebSecurityConfig {
 		                                               .hasAnyRole("USER")
 		                                               .requestMatchers(AntPathRequestMatcher.antMatcher("/admin/**"))
 		                                               .hasAnyRole("ADMIN")
+		                                               .requestMatchers(AntPathRequestMatcher.antMatcher("/api/admin/**"))
+		                                               .hasAnyRole("ADMIN")
 		                                               .anyRequest()
 		                                               .authenticated())
 
@@ -77,7 +81,7 @@ public class WebSecurityConfig {
 
 		            .exceptionHandling(c -> c.authenticationEntryPoint(new RestAuthenticationEntryPoint())
 		                                     .accessDeniedHandler(tokenAccessDeniedHandler))
-		            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, redisTemplate, userRepository),
+		            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, redisTemplate, userRepository, userIdResolver),
 			            UsernamePasswordAuthenticationFilter.class);
 
 		return httpSecurity.build();
@@ -15,6 +15,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.fintech.masoori.domain.user.repository.UserRepository;
+import com.fintech.masoori.domain.user.service.UserIdResolver;
 import com.fintech.masoori.global.util.CookieUtil;
 
 import io.jsonwebtoken.Claims;
@@ -34,6 +35,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	private final JwtTokenProvider jwtTokenProvider;
 	private final RedisTemplate<String, String> redisTemplate;
 	private final UserRepository userRepository;
+	private final UserIdResolver userIdResolver;
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws
@@ -69,6 +71,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 			Claims claims = jwtTokenProvider.parseClaims(token);
 			String email = claims.getSubject();
 			String role = claims.get(AUTHORITIES_KEY, String.class);
+			Long userId = claims.get(USER_ID_KEY, Long.class);
 
 			String refreshTokenFromRedis = redisTemplate.opsForValue().get("RT" + email);
 			if (refreshTokenFromRedis == null) {
@@ -82,8 +85,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 				return;
 			}
 
-			// 토큰 생성. RTR
-			TokenInfo tokenInfo = jwtTokenProvider.createToken(email, role);
+			// 토큰 생성. RTR. 사용자 id 가 없는 이전 토큰이면 새 토큰부터 id 를 담는다.
+			TokenInfo tokenInfo = jwtTokenProvider.createToken(email, role,
+				userId != null ? userId : userIdResolver.resolve(email));
 			// from Redis 기존 토큰 burn 그리고 새로 생성후 cookie 에 추가
 			redisTemplate.opsForValue().getOperations().delete("RT" + email);
 			redisTemplate.opsForValue()
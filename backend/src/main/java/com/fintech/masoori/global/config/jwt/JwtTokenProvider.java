@@ -11,7 +11,6 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
@@ -30,6 +29,8 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtTokenProvider {
 
 	protected static final String AUTHORITIES_KEY = "Auth";
+	// 사용자 id. 요청마다 이메일로 user 를 조회하지 않도록 access token 에 함께 담는다.
+	protected static final String USER_ID_KEY = "uid";
 	private static final String BEARER_TYPE = "Bearer";
 	private static final long ACCESS_TOKEN_EXPIRE_TIME = 24 * 60 * 60 * 1000L; // 30분
 	private static final long REFRESH_TOKEN_EXPIRE_TIME = 30 * 24 * 60 * 60 * 1000L; // 한달
@@ -46,6 +47,10 @@ public class JwtTokenProvider {
 	}
 
 	public TokenInfo createToken(Authentication authentication) {
+		return createToken(authentication, null);
+	}
+
+	public TokenInfo createToken(Authentication authentication, Long userId) {
 		// 유저의 권한들을 가져옴
 		String authorities = authentication.getAuthorities()
 		                                   .stream()
@@ -57,6 +62,7 @@ public class JwtTokenProvider {
 		String accessToken = Jwts.builder()
 		                         .setSubject(authentication.getName())
 		                         .claim(AUTHORITIES_KEY, authorities)
+		                         .claim(USER_ID_KEY, userId)
 		                         .setExpiration(new Date(now + ACCESS_TOKEN_EXPIRE_TIME))
 		                         .signWith(key, SignatureAlgorithm.HS256)
 		                         .compact();
@@ -77,11 +83,16 @@ public class JwtTokenProvider {
 	}
 
 	public TokenInfo createToken(String id, String role) {
+		return createToken(id, role, null);
+	}
+
+	public TokenInfo createToken(String id, String role, Long userId) {
 		long now = new Date().getTime();
 
 		String accessToken = Jwts.builder()
 		                         .setSubject(id)
 		                         .claim(AUTHORITIES_KEY, role)
+		                         .claim(USER_ID_KEY, userId)
 		                         .signWith(key, SignatureAlgorithm.HS256)
 		                         .setExpiration(new Date(now + ACCESS_TOKEN_EXPIRE_TIME))
 		                         .compact();
@@ -114,8 +125,9 @@ public class JwtTokenProvider {
 		                                                           .map(SimpleGrantedAuthority::new)
 		                                                           .collect(Collectors.toList());
 
-		//UserDetails 객체를 만들어서 Authentication 을 return By security
-		UserDetails principal = new User(claims.getSubject(), "", authorities);
+		//UserDetails 객체를 만들어서 Authentication 을 return By security. 이전 토큰에는 사용자 id 가 없다(null).
+		UserDetails principal = new JwtUserDetails(claims.getSubject(), claims.get(USER_ID_KEY, Long.class),
+			authorities);
 		return new UsernamePasswordAuthenticationToken(principal, "", authorities);
 	}
 
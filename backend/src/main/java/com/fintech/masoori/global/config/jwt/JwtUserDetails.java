@@ -0,0 +1,22 @@
+package com.fintech.masoori.global.config.jwt;
+
+import java.util.Collection;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import lombok.Getter;
+
+/**
+ * access token 으로 만든 principal. 토큰에 담긴 사용자 id 를 함께 가진다.
+ */
+@Getter
+public class JwtUserDetails extends User {
+	// 사용자 id 클레임이 없는 이전 토큰이면 null
+	private final Long userId;
+
+	public JwtUserDetails(String username, Long userId, Collection<? extends GrantedAuthority> authorities) {
+		super(username, "", authorities);
+		this.userId = userId;
+	}
+}
@@ -0,0 +1,14 @@
+package com.fintech.masoori.global.config.jwt;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 컨트롤러에서 받는 로그인 사용자. LoginUserArgumentResolver 가 access token 으로 채운다.
+ */
+@Getter
+@AllArgsConstructor
+public class LoginUser {
+	private Long id;
+	private String email;
+}
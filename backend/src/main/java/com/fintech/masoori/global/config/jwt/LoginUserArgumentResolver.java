@@ -0,0 +1,48 @@
+package com.fintech.masoori.global.config.jwt;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import com.fintech.masoori.domain.user.service.UserIdResolver;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * LoginUser 파라미터를 SecurityContext 의 인증 정보로 채운다.
+ * 사용자 id 는 토큰 클레임에서 꺼내고, 클레임이 없는 이전 토큰만 UserIdResolver 로 찾는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver {
+	private final UserIdResolver userIdResolver;
+
+	@Override
+	public boolean supportsParameter(MethodParameter parameter) {
+		return LoginUser.class.equals(parameter.getParameterType());
+	}
+
+	@Override
+	public LoginUser resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+		NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+			return null;
+		}
+		return resolve(authentication);
+	}
+
+	public LoginUser resolve(Authentication authentication) {
+		String email = authentication.getName();
+		if (authentication.getPrincipal() instanceof JwtUserDetails userDetails && userDetails.getUserId() != null) {
+			return new LoginUser(userDetails.getUserId(), email);
+		}
+		return new LoginUser(userIdResolver.resolve(email), email);
+	}
+}
@@ -28,7 +28,8 @@ public enum ErrorCode {
 	QUERY_TIMEOUT(400, "C007", "Query Timeout"),
 	CAN_CREATE(400, "C008", "Can Create Card"),
 	ALREADY_IN_PROGRESS(400, "C009", "Already In Process"),
-	CARD_NOT_FOUND(400, "C010", "Card not found");
+	CARD_NOT_FOUND(400, "C010", "Card not found"),
+	NO_TRANSACTION(400, "C011", "No Transaction Last Week");
 
 
 	private final String code;
@@ -0,0 +1,27 @@
+package com.fintech.masoori.global.notification.dto;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 카드 생성 완료 알림 종류. 한 사용자에게 쌓인 알림은 문구를 합쳐 한 통으로 보낸다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum NotificationType {
+	TAROT_CARD("타로 카드 생성이 완료되었습니다."),
+	CHALLENGE("이번 주 챌린지가 생성되었습니다.");
+
+	private static final String PREFIX = "[마수리] ";
+	private static final String SUFFIX = "\n홈페이지에서 확인해주세요.";
+
+	private final String line;
+
+	public static String compose(Set<NotificationType> types) {
+		return PREFIX + types.stream().sorted().map(NotificationType::getLine).collect(Collectors.joining("\n"))
+			+ SUFFIX;
+	}
+}
@@ -0,0 +1,51 @@
+package com.fintech.masoori.global.notification.provider;
+
+import java.util.HashMap;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import net.nurigo.java_sdk.api.Message;
+import net.nurigo.java_sdk.exceptions.CoolsmsException;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Coolsms 발송. to 에 번호를 콤마로 이어 붙이면 한 번의 요청으로 여러 명에게 보낸다.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.sms.provider", havingValue = "coolsms", matchIfMissing = true)
+public class CoolsmsSmsProvider implements SmsProvider {
+	@Value("${spring.sms.api}")
+	private String apiKey;
+
+	@Value("${spring.sms.api-secret}")
+	private String apiSecretKey;
+
+	@Value("${spring.sms.from}")
+	private String from;
+
+	private Message message;
+
+	@PostConstruct
+	public void init() {
+		message = new Message(apiKey, apiSecretKey);
+	}
+
+	@Override
+	public void sendGroup(String text, List<String> phoneNumbers) {
+		HashMap<String, String> params = new HashMap<>();
+		params.put("to", String.join(",", phoneNumbers));
+		params.put("from", from);
+		params.put("type", "SMS");
+		params.put("text", text);
+		params.put("app_version", "test app 1.2");
+		try {
+			message.send(params);
+		} catch (CoolsmsException e) {
+			throw new SmsSendException("문자 발송 실패", e);
+		}
+	}
+}
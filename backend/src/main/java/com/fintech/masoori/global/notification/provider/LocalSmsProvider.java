@@ -0,0 +1,35 @@
+package com.fintech.masoori.global.notification.provider;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬, 테스트용. 문자를 보내지 않고 로그로 남기고 보낸 내용을 모아 둔다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.sms.provider", havingValue = "local")
+public class LocalSmsProvider implements SmsProvider {
+	@Getter
+	private final List<SentSms> sent = new CopyOnWriteArrayList<>();
+
+	@Override
+	public void sendGroup(String text, List<String> phoneNumbers) {
+		log.info("문자 발송(local) - 수신자 : {}, 내용 : {}", phoneNumbers.size(), text);
+		sent.add(new SentSms(text, List.copyOf(phoneNumbers)));
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class SentSms {
+		private final String text;
+		private final List<String> phoneNumbers;
+	}
+}
@@ -0,0 +1,13 @@
+package com.fintech.masoori.global.notification.provider;
+
+import java.util.List;
+
+/**
+ * 문자 발송 업체. notification.sms.provider 설정으로 구현체를 고른다.
+ */
+public interface SmsProvider {
+	/**
+	 * 같은 문구를 여러 번호에 한 번의 호출로 보낸다. 실패하면 SmsSendException.
+	 */
+	void sendGroup(String text, List<String> phoneNumbers);
+}
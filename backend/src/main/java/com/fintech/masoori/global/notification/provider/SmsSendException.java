@@ -0,0 +1,7 @@
+package com.fintech.masoori.global.notification.provider;
+
+public class SmsSendException extends RuntimeException {
+	public SmsSendException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -0,0 +1,162 @@
+package com.fintech.masoori.global.notification.service;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.fintech.masoori.domain.user.entity.User;
+import com.fintech.masoori.domain.user.repository.UserRepository;
+import com.fintech.masoori.global.notification.dto.NotificationType;
+import com.fintech.masoori.global.notification.provider.SmsProvider;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카드 생성 완료 문자 발송 파이프라인. 리스너 스레드는 대기열에 넣기만 하고 바로 돌아간다.
+ * linger-millis 마다 대기열을 비워 사용자별 알림을 한 통으로 합치고, 같은 문구끼리 group-size 명씩 묶어 한 번에 보낸다.
+ * 발송에 실패하면 initial-backoff-millis 부터 두 배씩 늘려 max-attempts 까지 다시 보낸다.
+ * 대기열이 가득 차면 submit 이 기다리므로 문자 발송이 밀리면 소비 속도도 자연스럽게 늦춰진다.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+	private final UserRepository userRepository;
+	private final SmsProvider smsProvider;
+	private final BlockingQueue<PendingNotification> queue;
+	private final int groupSize;
+	private final int maxAttempts;
+	private final long initialBackoffMillis;
+	private final ScheduledExecutorService scheduler;
+	private final ThreadPoolExecutor senders;
+	private final Counter sentCounter;
+	private final Counter retryCounter;
+	private final Counter failedCounter;
+
+	public NotificationDispatcher(UserRepository userRepository, SmsProvider smsProvider, MeterRegistry meterRegistry,
+		@Value("${notification.alarm.threads:2}") int threads,
+		@Value("${notification.alarm.queue-capacity:10000}") int queueCapacity,
+		@Value("${notification.alarm.linger-millis:1000}") long lingerMillis,
+		@Value("${notification.sms.group-size:100}") int groupSize,
+		@Value("${notification.alarm.max-attempts:4}") int maxAttempts,
+		@Value("${notification.alarm.initial-backoff-millis:2000}") long initialBackoffMillis) {
+		this.userRepository = userRepository;
+		this.smsProvider = smsProvider;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.groupSize = groupSize;
+		this.maxAttempts = maxAttempts;
+		this.initialBackoffMillis = initialBackoffMillis;
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("notification-drain-"));
+		// 발송 작업이 밀리면 drain 스레드가 직접 보내 대기열 비우는 속도를 늦춘다.
+		this.senders = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(threads * 4), new CustomizableThreadFactory("notification-sender-"),
+			new ThreadPoolExecutor.CallerRunsPolicy());
+		this.sentCounter = Counter.builder("notification.sms.sent").register(meterRegistry);
+		this.retryCounter = Counter.builder("notification.sms.retry").register(meterRegistry);
+		this.failedCounter = Counter.builder("notification.sms.failed").register(meterRegistry);
+		Gauge.builder("notification.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+		scheduler.scheduleWithFixedDelay(this::drain, lingerMillis, lingerMillis, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	public void destroy() throws InterruptedException {
+		scheduler.shutdown();
+		scheduler.awaitTermination(10, TimeUnit.SECONDS);
+		// 남은 알림은 종료 전에 한 번 더 보낸다.
+		drain();
+		senders.shutdown();
+		senders.awaitTermination(30, TimeUnit.SECONDS);
+	}
+
+	public void submit(List<Long> userIds, NotificationType type) {
+		try {
+			for (Long userId : userIds) {
+				queue.put(new PendingNotification(userId, type));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("알림 대기열 등록 중단 - type : {}", type);
+		}
+	}
+
+	void drain() {
+		List<PendingNotification> drained = new ArrayList<>();
+		queue.drainTo(drained);
+		if (drained.isEmpty()) {
+			return;
+		}
+		try {
+			// 사용자별로 알림 종류를 모은다.
+			Map<Long, Set<NotificationType>> typesByUser = new LinkedHashMap<>();
+			for (PendingNotification notification : drained) {
+				typesByUser.computeIfAbsent(notification.userId, id -> EnumSet.noneOf(NotificationType.class))
+				           .add(notification.type);
+			}
+			// 같은 문구끼리 모아 group-size 명씩 보낸다.
+			Map<String, List<String>> phoneNumbersByText = new LinkedHashMap<>();
+			for (User user : userRepository.findAllById(typesByUser.keySet())) {
+				if (user.getPhoneNumber() == null) {
+					continue;
+				}
+				phoneNumbersByText.computeIfAbsent(NotificationType.compose(typesByUser.get(user.getId())),
+					text -> new ArrayList<>()).add(user.getPhoneNumber());
+			}
+			phoneNumbersByText.forEach((text, phoneNumbers) -> {
+				for (int from = 0; from < phoneNumbers.size(); from += groupSize) {
+					List<String> group = List.copyOf(
+						phoneNumbers.subList(from, Math.min(from + groupSize, phoneNumbers.size())));
+					senders.execute(() -> send(text, group, 1));
+				}
+			});
+			log.info("알림 발송 - 알림 : {}, 사용자 : {}", drained.size(), typesByUser.size());
+		} catch (RuntimeException e) {
+			log.error("알림 발송 준비 실패 - 알림 : {}", drained.size(), e);
+		}
+	}
+
+	private void send(String text, List<String> phoneNumbers, int attempt) {
+		try {
+			smsProvider.sendGroup(text, phoneNumbers);
+			sentCounter.increment(phoneNumbers.size());
+		} catch (RuntimeException e) {
+			if (attempt >= maxAttempts) {
+				failedCounter.increment(phoneNumbers.size());
+				log.error("알림 발송 실패 - 수신자 : {}, 시도 : {}", phoneNumbers.size(), attempt, e);
+				return;
+			}
+			long backoffMillis = initialBackoffMillis << (attempt - 1);
+			retryCounter.increment();
+			log.warn("알림 발송 실패, {}ms 뒤 재시도 - 수신자 : {}, 시도 : {}", backoffMillis, phoneNumbers.size(), attempt);
+			if (!scheduler.isShutdown()) {
+				scheduler.schedule(() -> senders.execute(() -> send(text, phoneNumbers, attempt + 1)), backoffMillis,
+					TimeUnit.MILLISECONDS);
+			}
+		}
+	}
+
+	private static class PendingNotification {
+		private final Long userId;
+		private final NotificationType type;
+
+		private PendingNotification(Long userId, NotificationType type) {
+			this.userId = userId;
+			this.type = type;
+		}
+	}
+}
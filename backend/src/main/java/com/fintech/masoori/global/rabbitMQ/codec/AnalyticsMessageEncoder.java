@@ -0,0 +1,87 @@
+package com.fintech.masoori.global.rabbitMQ.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fintech.masoori.global.rabbitMQ.dto.AnalyticsRequestMessage;
+import com.fintech.masoori.global.rabbitMQ.dto.MessageBatch;
+
+/**
+ * analytics.req 메시지의 본문 형식을 정한다.
+ * rabbitmq.wire-format.analytics 가 columnar 면 ColumnarTransactionCodec 으로, json(기본값)이면 기존 JSON 컨버터로 보낸다.
+ * analytics 워커(WireFormat/columnar.py)는 content-type 과 content-encoding 으로 형식을 고른다.
+ * 이전 워커가 남아 있는 동안에는 json 을 유지한다.
+ */
+@Component
+public class AnalyticsMessageEncoder {
+	public static final String GZIP = "gzip";
+
+	private final WireFormat wireFormat;
+	private final boolean compress;
+	private final int compressMinBytes;
+
+	public AnalyticsMessageEncoder(@Value("${rabbitmq.wire-format.analytics:json}") String wireFormat,
+		@Value("${rabbitmq.wire-format.compress:true}") boolean compress,
+		@Value("${rabbitmq.wire-format.compress-min-bytes:1024}") int compressMinBytes) {
+		this.wireFormat = WireFormat.valueOf(wireFormat.toUpperCase());
+		this.compress = compress;
+		this.compressMinBytes = compressMinBytes;
+	}
+
+	public boolean isJson() {
+		return wireFormat == WireFormat.JSON;
+	}
+
+	/**
+	 * batch 가 true 면 MessageBatch 봉투처럼 VERSION_HEADER 를 붙여 여러 요청이 들어 있음을 알린다.
+	 */
+	public Message encode(List<AnalyticsRequestMessage> messages, boolean batch) {
+		byte[] body = ColumnarTransactionCodec.encode(messages);
+		MessageProperties properties = new MessageProperties();
+		properties.setContentType(wireFormat.getContentType());
+		if (compress && body.length >= compressMinBytes) {
+			body = gzip(body);
+			properties.setContentEncoding(GZIP);
+		}
+		if (batch) {
+			properties.setHeader(MessageBatch.VERSION_HEADER, MessageBatch.SCHEMA_VERSION);
+		}
+		return new Message(body, properties);
+	}
+
+	public static List<AnalyticsRequestMessage> decode(Message message) {
+		byte[] body = message.getBody();
+		if (GZIP.equals(message.getMessageProperties().getContentEncoding())) {
+			body = gunzip(body);
+		}
+		return ColumnarTransactionCodec.decode(body);
+	}
+
+	private static byte[] gzip(byte[] body) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.length / 2);
+		try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+			gzip.write(body);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static byte[] gunzip(byte[] body) {
+		try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+			return gzip.readAllBytes();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
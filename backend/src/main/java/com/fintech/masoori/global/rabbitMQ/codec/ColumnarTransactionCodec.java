@@ -0,0 +1,260 @@
+package com.fintech.masoori.global.rabbitMQ.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fintech.masoori.global.rabbitMQ.dto.AnalyticsRequestMessage;
+import com.fintech.masoori.global.rabbitMQ.dto.Transaction;
+
+/**
+ * 월간 분석 요청의 거래내역을 열 단위로 저장하는 이진 형식.
+ * <pre>
+ * "MSRC" | version | 메시지 수 | (userId, date, 거래 수) * 메시지 수
+ * | 가맹점 사전 | 내용 사전 | id 열(delta) | date 열(epoch 초 delta) | amount 열 | 가맹점 열 | 내용 열
+ * </pre>
+ * 정수는 모두 varint 이고, 음수가 나올 수 있는 값은 zigzag 로 바꾼다. null 은 0, 값은 +1 해서 쓴다.
+ * 날짜는 초 단위까지만 보존한다.
+ */
+public final class ColumnarTransactionCodec {
+	private static final byte[] MAGIC = {'M', 'S', 'R', 'C'};
+	public static final int VERSION = 1;
+
+	private ColumnarTransactionCodec() {
+	}
+
+	public static byte[] encode(List<AnalyticsRequestMessage> messages) {
+		Writer out = new Writer();
+		out.raw(MAGIC);
+		out.varint(VERSION);
+		out.varint(messages.size());
+		List<Transaction> rows = new ArrayList<>();
+		for (AnalyticsRequestMessage message : messages) {
+			out.nullableLong(message.getUserId());
+			out.string(message.getDate());
+			out.varint(message.getUserMonthlyTransactionList().size());
+			rows.addAll(message.getUserMonthlyTransactionList());
+		}
+
+		Dictionary places = new Dictionary();
+		Dictionary contents = new Dictionary();
+		int[] placeIndexes = new int[rows.size()];
+		int[] contentIndexes = new int[rows.size()];
+		for (int i = 0; i < rows.size(); i++) {
+			placeIndexes[i] = places.indexOf(rows.get(i).getDealPlaceName());
+			contentIndexes[i] = contents.indexOf(rows.get(i).getContent());
+		}
+		places.writeTo(out);
+		contents.writeTo(out);
+
+		long previousId = 0;
+		for (Transaction row : rows) {
+			if (row.getId() != null) {
+				out.nullableLong(row.getId() - previousId);
+				previousId = row.getId();
+			} else {
+				out.nullableLong(null);
+			}
+		}
+		long previousDate = 0;
+		for (Transaction row : rows) {
+			if (row.getDate() != null) {
+				long epochSecond = row.getDate().toEpochSecond(ZoneOffset.UTC);
+				out.nullableLong(epochSecond - previousDate);
+				previousDate = epochSecond;
+			} else {
+				out.nullableLong(null);
+			}
+		}
+		for (Transaction row : rows) {
+			out.nullableLong(row.getAmount() == null ? null : row.getAmount().longValue());
+		}
+		for (int index : placeIndexes) {
+			out.varint(index);
+		}
+		for (int index : contentIndexes) {
+			out.varint(index);
+		}
+		return out.toByteArray();
+	}
+
+	public static List<AnalyticsRequestMessage> decode(byte[] body) {
+		Reader in = new Reader(body);
+		if (!Arrays.equals(in.raw(MAGIC.length), MAGIC)) {
+			throw new IllegalArgumentException("columnar 형식이 아닙니다.");
+		}
+		int version = (int)in.varint();
+		if (version > VERSION) {
+			throw new IllegalArgumentException("지원하지 않는 columnar 버전 : " + version);
+		}
+		int messageCount = (int)in.varint();
+		List<AnalyticsRequestMessage> messages = new ArrayList<>(messageCount);
+		int[] rowCounts = new int[messageCount];
+		int totalRows = 0;
+		for (int i = 0; i < messageCount; i++) {
+			messages.add(AnalyticsRequestMessage.builder().userId(in.nullableLong()).date(in.string()).build());
+			rowCounts[i] = (int)in.varint();
+			totalRows += rowCounts[i];
+		}
+		List<String> places = Dictionary.readFrom(in);
+		List<String> contents = Dictionary.readFrom(in);
+
+		List<Transaction> rows = new ArrayList<>(totalRows);
+		for (int i = 0; i < totalRows; i++) {
+			rows.add(new Transaction());
+		}
+		long previousId = 0;
+		for (Transaction row : rows) {
+			Long delta = in.nullableLong();
+			if (delta != null) {
+				previousId += delta;
+				row.setId(previousId);
+			}
+		}
+		long previousDate = 0;
+		for (Transaction row : rows) {
+			Long delta = in.nullableLong();
+			if (delta != null) {
+				previousDate += delta;
+				row.setDate(LocalDateTime.ofEpochSecond(previousDate, 0, ZoneOffset.UTC));
+			}
+		}
+		for (Transaction row : rows) {
+			Long amount = in.nullableLong();
+			row.setAmount(amount == null ? null : amount.intValue());
+		}
+		for (Transaction row : rows) {
+			row.setDealPlaceName(Dictionary.lookup(places, (int)in.varint()));
+		}
+		for (Transaction row : rows) {
+			row.setContent(Dictionary.lookup(contents, (int)in.varint()));
+		}
+
+		int from = 0;
+		for (int i = 0; i < messageCount; i++) {
+			messages.get(i).setUserMonthlyTransactionList(new ArrayList<>(rows.subList(from, from + rowCounts[i])));
+			from += rowCounts[i];
+		}
+		return messages;
+	}
+
+	/**
+	 * 반복되는 문자열을 한 번만 쓰고 행에는 번호(+1, null 은 0)만 쓴다.
+	 */
+	private static class Dictionary {
+		private final Map<String, Integer> indexes = new HashMap<>();
+		private final List<String> values = new ArrayList<>();
+
+		int indexOf(String value) {
+			if (value == null) {
+				return 0;
+			}
+			return indexes.computeIfAbsent(value, key -> {
+				values.add(key);
+				return values.size();
+			});
+		}
+
+		void writeTo(Writer out) {
+			out.varint(values.size());
+			values.forEach(out::string);
+		}
+
+		static List<String> readFrom(Reader in) {
+			int size = (int)in.varint();
+			List<String> values = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				values.add(in.string());
+			}
+			return values;
+		}
+
+		static String lookup(List<String> values, int index) {
+			return index == 0 ? null : values.get(index - 1);
+		}
+	}
+
+	private static class Writer {
+		private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		void raw(byte[] value) {
+			bytes.writeBytes(value);
+		}
+
+		void varint(long value) {
+			while ((value & ~0x7FL) != 0) {
+				bytes.write((int)((value & 0x7F) | 0x80));
+				value >>>= 7;
+			}
+			bytes.write((int)value);
+		}
+
+		void nullableLong(Long value) {
+			varint(value == null ? 0 : ((value << 1) ^ (value >> 63)) + 1);
+		}
+
+		void string(String value) {
+			if (value == null) {
+				varint(0);
+				return;
+			}
+			byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+			varint(encoded.length + 1);
+			raw(encoded);
+		}
+
+		byte[] toByteArray() {
+			return bytes.toByteArray();
+		}
+	}
+
+	private static class Reader {
+		private final ByteBuffer buffer;
+
+		Reader(byte[] body) {
+			this.buffer = ByteBuffer.wrap(body);
+		}
+
+		byte[] raw(int length) {
+			byte[] value = new byte[length];
+			buffer.get(value);
+			return value;
+		}
+
+		long varint() {
+			long value = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = buffer.get();
+				value |= (long)(b & 0x7F) << shift;
+				shift += 7;
+			} while ((b & 0x80) != 0);
+			return value;
+		}
+
+		Long nullableLong() {
+			long value = varint();
+			if (value == 0) {
+				return null;
+			}
+			value--;
+			return (value >>> 1) ^ -(value & 1);
+		}
+
+		String string() {
+			int length = (int)varint();
+			if (length == 0) {
+				return null;
+			}
+			return new String(raw(length - 1), StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package com.fintech.masoori.global.rabbitMQ.codec;
+
+import org.springframework.amqp.core.MessageProperties;
+
+/**
+ * 큐 메시지 본문 형식. 소비자는 content-type 헤더로 형식을 구분하고, 설정이 없으면 JSON 으로 보낸다.
+ */
+public enum WireFormat {
+	JSON(MessageProperties.CONTENT_TYPE_JSON),
+	COLUMNAR("application/vnd.masoori.transactions+columnar");
+
+	private final String contentType;
+
+	WireFormat(String contentType) {
+		this.contentType = contentType;
+	}
+
+	public String getContentType() {
+		return contentType;
+	}
+}
@@ -0,0 +1,56 @@
+package com.fintech.masoori.global.rabbitMQ.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fintech.masoori.global.rabbitMQ.dto.ParkedMessage;
+import com.fintech.masoori.global.rabbitMQ.dto.ParkingQueueState;
+import com.fintech.masoori.global.rabbitMQ.dto.QueueGateState;
+import com.fintech.masoori.global.rabbitMQ.service.ParkingLotService;
+import com.fintech.masoori.global.rabbitMQ.service.PublishGateService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/rabbit")
+@RequiredArgsConstructor
+@Tag(name = "RabbitMQ Admin", description = "메시지 큐 운영 API")
+public class RabbitAdminController {
+	private final PublishGateService publishGateService;
+	private final ParkingLotService parkingLotService;
+
+	@Operation(summary = "배치 발행 게이트 상태 조회 API", description = "요청 큐별 길이와 배치 발행 정지 여부를 조회한다.")
+	@GetMapping("/publish-gate")
+	public ResponseEntity<List<QueueGateState>> selectPublishGate() {
+		return ResponseEntity.ok(publishGateService.getStates());
+	}
+
+	@Operation(summary = "parking 큐 상태 조회 API", description = "결과 큐별로 재시도를 모두 실패해 보관된 메시지 수를 조회한다.")
+	@GetMapping("/parking")
+	public ResponseEntity<List<ParkingQueueState>> selectParkingStates() {
+		return ResponseEntity.ok(parkingLotService.getStates());
+	}
+
+	@Operation(summary = "parking 메시지 조회 API", description = "보관된 메시지를 앞에서부터 limit 개 조회한다. 조회한 메시지는 그대로 남는다.")
+	@GetMapping("/parking/{queue}")
+	public ResponseEntity<List<ParkedMessage>> selectParkedMessages(@PathVariable String queue,
+		@RequestParam(defaultValue = "20") int limit) {
+		return ResponseEntity.ok(parkingLotService.peek(queue, limit));
+	}
+
+	@Operation(summary = "parking 메시지 재처리 API", description = "보관된 메시지를 앞에서부터 limit 개 원래 큐로 다시 보낸다.")
+	@PostMapping("/parking/{queue}/replay")
+	public ResponseEntity<Integer> replayParkedMessages(@PathVariable String queue,
+		@RequestParam(defaultValue = "100") int limit) {
+		return ResponseEntity.ok(parkingLotService.replay(queue, limit));
+	}
+}
@@ -14,4 +14,7 @@ import lombok.ToString;
 public class ChallengeRequestMessage {
 	private Long cardId;
 	private String name;
+	// true 면 카드 없이 이름별 이미지만 미리 생성한다. (cardId 없음)
+	@Builder.Default
+	private Boolean warmUp = false;
 }
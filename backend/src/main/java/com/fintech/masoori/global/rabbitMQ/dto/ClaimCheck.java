@@ -0,0 +1,28 @@
+package com.fintech.masoori.global.rabbitMQ.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 큰 본문 대신 큐로 보내는 참조. 본문은 store 에 id 로 저장되어 있고 sha256 으로 무결성을 확인한다.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class ClaimCheck {
+	public static final String CONTENT_TYPE = "application/vnd.masoori.claim-check+json";
+
+	private String id;
+	// redis | file
+	private String store;
+	private String sha256;
+	private Integer size;
+	// 원래 본문의 content-type, content-encoding
+	private String contentType;
+	private String contentEncoding;
+}
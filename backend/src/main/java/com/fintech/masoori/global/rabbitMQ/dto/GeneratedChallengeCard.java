@@ -13,5 +13,7 @@ import lombok.ToString;
 @ToString
 public class GeneratedChallengeCard {
 	private Long cardId;
+	// 미리 생성 요청(warmUp)의 응답은 cardId 없이 이름만 돌려받는다.
+	private String name;
 	private String imagePath;
 }
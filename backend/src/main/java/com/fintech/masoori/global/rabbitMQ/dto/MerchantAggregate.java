@@ -0,0 +1,26 @@
+package com.fintech.masoori.global.rabbitMQ.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 가맹점 하나의 기간 내 거래 요약
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class MerchantAggregate {
+	private String dealPlaceName;
+	private Integer count;
+	private Long totalAmount;
+	private LocalDateTime firstDate;
+	private LocalDateTime lastDate;
+	private String sampleContent;
+}
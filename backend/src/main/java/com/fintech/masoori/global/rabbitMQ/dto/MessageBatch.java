@@ -0,0 +1,42 @@
+package com.fintech.masoori.global.rabbitMQ.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 여러 요청/응답을 하나의 AMQP 메시지로 묶는 봉투.
+ * 봉투 메시지에는 VERSION_HEADER 헤더가 붙고, 헤더가 없는 메시지는 기존처럼 단건으로 취급한다.
+ * 스키마가 바뀌면 SCHEMA_VERSION 을 올리고 소비자는 모르는 버전을 거부한다.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString(of = {"version", "batchId", "createdDate"})
+public class MessageBatch<T> {
+	public static final String VERSION_HEADER = "x-batch-version";
+	public static final int SCHEMA_VERSION = 1;
+
+	private Integer version;
+	private String batchId;
+	private LocalDateTime createdDate;
+	@Builder.Default
+	private List<T> items = new ArrayList<>();
+
+	public static <T> MessageBatch<T> of(List<T> items) {
+		return MessageBatch.<T>builder()
+		                   .version(SCHEMA_VERSION)
+		                   .batchId(UUID.randomUUID().toString())
+		                   .createdDate(LocalDateTime.now())
+		                   .items(items)
+		                   .build();
+	}
+}
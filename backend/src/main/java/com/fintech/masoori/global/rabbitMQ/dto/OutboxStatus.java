@@ -0,0 +1,5 @@
+package com.fintech.masoori.global.rabbitMQ.dto;
+
+public enum OutboxStatus {
+	PENDING, SENDING, PUBLISHED, FAILED
+}
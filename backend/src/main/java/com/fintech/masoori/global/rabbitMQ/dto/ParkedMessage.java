@@ -0,0 +1,27 @@
+package com.fintech.masoori.global.rabbitMQ.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class ParkedMessage {
+	private String messageId;
+	private String queue;
+	private Integer retryCount;
+	private String exceptionType;
+	private String exceptionMessage;
+	private LocalDateTime parkedDate;
+	private String contentType;
+	private Integer bodySize;
+	// 본문 앞부분만 보여준다.
+	private String bodyPreview;
+}
@@ -0,0 +1,18 @@
+package com.fintech.masoori.global.rabbitMQ.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class ParkingQueueState {
+	private String queue;
+	private String parkingQueue;
+	private Integer depth;
+}
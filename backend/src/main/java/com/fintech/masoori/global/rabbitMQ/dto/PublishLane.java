@@ -0,0 +1,21 @@
+package com.fintech.masoori.global.rabbitMQ.dto;
+
+/**
+ * 생성 요청 발행 경로. 사용자가 직접 요청한 생성은 전용 큐와 전용 워커를 쓰는 INTERACTIVE 로,
+ * 스케줄러 배치는 MessageBatch 로 묶어 기본 요청 큐로 보내는 BULK 로 발행한다.
+ */
+public enum PublishLane {
+	INTERACTIVE, BULK;
+
+	public static final String INTERACTIVE_QUEUE_SUFFIX = ".interactive";
+	// 발행 시각(epoch millis). 워커가 응답에 그대로 돌려준다.
+	public static final String REQUESTED_AT_HEADER = "x-requested-at";
+	// 워커가 메시지를 꺼낸 시각(epoch millis)
+	public static final String PICKED_AT_HEADER = "x-picked-at";
+	// 워커가 메시지를 꺼낸 요청 큐
+	public static final String SOURCE_QUEUE_HEADER = "x-source-queue";
+
+	public static PublishLane of(String queue) {
+		return queue != null && queue.endsWith(INTERACTIVE_QUEUE_SUFFIX) ? INTERACTIVE : BULK;
+	}
+}
@@ -0,0 +1,23 @@
+package com.fintech.masoori.global.rabbitMQ.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class QueueGateState {
+	private String queue;
+	private Integer depth;
+	private Integer highWater;
+	private Integer lowWater;
+	private Boolean paused;
+	private LocalDateTime checkedAt;
+}
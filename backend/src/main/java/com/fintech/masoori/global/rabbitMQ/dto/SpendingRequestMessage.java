@@ -20,4 +20,9 @@ public class SpendingRequestMessage {
 	private String date;
 	@Builder.Default
 	private List<Transaction> userWeeklyTransactionList = new ArrayList<>();
+	// true 면 거래내역 대신 가맹점별 요약(merchantAggregates)만 보낸다.
+	@Builder.Default
+	private Boolean aggregated = false;
+	@Builder.Default
+	private List<MerchantAggregate> merchantAggregates = new ArrayList<>();
 }
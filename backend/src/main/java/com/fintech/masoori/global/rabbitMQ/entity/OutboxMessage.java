@@ -0,0 +1,96 @@
+package com.fintech.masoori.global.rabbitMQ.entity;
+
+import java.time.LocalDateTime;
+
+import com.fintech.masoori.global.rabbitMQ.dto.OutboxStatus;
+import com.fintech.masoori.global.util.BaseTimeEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 발행할 메시지를 카드 저장과 같은 트랜잭션에서 기록하는 outbox.
+ * OutboxRelay 가 PENDING 메시지를 SENDING 으로 가져가 발행하고 broker 확인을 받은 뒤 PUBLISHED 로 바꾼다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "outbox_message", indexes = @Index(name = "idx_outbox_message_status", columnList = "status, batched, outbox_message_id"))
+@ToString(of = {"id", "routingKey", "aggregateId", "batched", "status", "attemptCount"})
+public class OutboxMessage extends BaseTimeEntity {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "outbox_message_id")
+	private Long id;
+
+	@Column(name = "routing_key", length = 100, nullable = false)
+	private String routingKey;
+
+	// 소비자 쪽 __TypeId__ 헤더로 쓰는 메시지 클래스 이름
+	@Column(name = "payload_type", length = 200, nullable = false)
+	private String payloadType;
+
+	@Column(name = "payload", columnDefinition = "TEXT", nullable = false)
+	private String payload;
+
+	// 메시지가 가리키는 카드 id
+	@Column(name = "aggregate_id")
+	private Long aggregateId;
+
+	// true 면 같은 큐의 다른 메시지와 MessageBatch 로 묶어서 발행
+	@Column(name = "batched", nullable = false)
+	@Builder.Default
+	private Boolean batched = false;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", length = 20, nullable = false)
+	@Builder.Default
+	private OutboxStatus status = OutboxStatus.PENDING;
+
+	@Column(name = "attempt_count")
+	@Builder.Default
+	private Integer attemptCount = 0;
+
+	@Column(name = "published_date")
+	private LocalDateTime publishedDate;
+
+	public void sending() {
+		this.status = OutboxStatus.SENDING;
+	}
+
+	public void published() {
+		this.attemptCount++;
+		this.status = OutboxStatus.PUBLISHED;
+		this.publishedDate = LocalDateTime.now();
+	}
+
+	/**
+	 * 발행을 시도하지 못함(확인 대기 자리 없음). 시도 횟수를 올리지 않고 다음 relay 주기에 다시 발행한다.
+	 */
+	public void released() {
+		this.status = OutboxStatus.PENDING;
+	}
+
+	/**
+	 * 발행 실패. 다음 relay 주기에 다시 발행하고, maxAttempts 에 도달하면 더 이상 재시도하지 않는다.
+	 */
+	public void failed(int maxAttempts) {
+		this.attemptCount++;
+		this.status = this.attemptCount >= maxAttempts ? OutboxStatus.FAILED : OutboxStatus.PENDING;
+	}
+}
@@ -0,0 +1,11 @@
+package com.fintech.masoori.global.rabbitMQ.exception;
+
+/**
+ * 다른 소비자가 같은 결과를 처리 중(PROCESSING)일 때 던진다.
+ * RetryTopologyRecoverer 는 이 예외를 parking 하지 않고 선점 시간이 지날 때까지 지연 재시도 큐로 돌린다.
+ */
+public class MessageInProgressException extends RuntimeException {
+	public MessageInProgressException(String message) {
+		super(message);
+	}
+}
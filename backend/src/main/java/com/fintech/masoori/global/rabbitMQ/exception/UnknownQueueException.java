@@ -0,0 +1,10 @@
+package com.fintech.masoori.global.rabbitMQ.exception;
+
+import com.fintech.masoori.global.error.ErrorCode;
+import com.fintech.masoori.global.error.exception.BusinessException;
+
+public class UnknownQueueException extends BusinessException {
+	public UnknownQueueException(String message) {
+		super(message, ErrorCode.INVALID_INPUT_VALUE);
+	}
+}
@@ -0,0 +1,42 @@
+package com.fintech.masoori.global.rabbitMQ.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.fintech.masoori.global.rabbitMQ.dto.OutboxStatus;
+import com.fintech.masoori.global.rabbitMQ.entity.OutboxMessage;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+	/**
+	 * 다른 서버의 relay 가 잡고 있는 행은 건너뛰고(SKIP LOCKED) 오래된 순서로 가져온다.
+	 * 배치 발행이 outbox 에 쌓여 있어도 사용자 요청이 뒤로 밀리지 않도록 단건 발행을 먼저 가져온다.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+	@Query("SELECT o FROM OutboxMessage o WHERE o.status = :status ORDER BY o.batched ASC, o.id ASC")
+	List<OutboxMessage> findForRelay(@Param("status") OutboxStatus status, Pageable pageable);
+
+	/**
+	 * 발행 결과를 받지 못하고 SENDING 에 남은 메시지(서버 중단 등)를 다시 PENDING 으로 돌린다.
+	 */
+	@Modifying
+	@Query("UPDATE OutboxMessage o SET o.status = :pending WHERE o.status = :sending AND o.modifiedDate < :before")
+	int releaseSending(@Param("pending") OutboxStatus pending, @Param("sending") OutboxStatus sending,
+		@Param("before") LocalDateTime before);
+
+	@Modifying
+	@Query("DELETE FROM OutboxMessage o WHERE o.status = :status AND o.publishedDate < :before")
+	int deleteByStatusAndPublishedDateBefore(@Param("status") OutboxStatus status,
+		@Param("before") LocalDateTime before);
+}
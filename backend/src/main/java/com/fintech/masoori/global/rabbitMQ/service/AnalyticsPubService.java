@@ -1,11 +1,16 @@
 package com.fintech.masoori.global.rabbitMQ.service;
 
+import java.util.List;
+
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.fintech.masoori.global.rabbitMQ.codec.AnalyticsMessageEncoder;
 import com.fintech.masoori.global.rabbitMQ.dto.AnalyticsRequestMessage;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -14,11 +19,48 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class AnalyticsPubService {
 	private final RabbitTemplate rabbitTemplate;
+	private final AnalyticsMessageEncoder analyticsMessageEncoder;
 	@Value("${rabbitmq.queue.analytics}")
 	private String routingKey;
 
+	@Value("${rabbitmq.batch.max-size:100}")
+	private int batchMaxSize;
+
+	@Value("${rabbitmq.batch.linger-millis:200}")
+	private long batchLingerMillis;
+
+	private BatchingPublisher<AnalyticsRequestMessage> batchingPublisher;
+
+	@PostConstruct
+	public void init() {
+		batchingPublisher = analyticsMessageEncoder.isJson()
+			? new BatchingPublisher<>(rabbitTemplate, routingKey, batchMaxSize, batchLingerMillis)
+			: new BatchingPublisher<>(rabbitTemplate, routingKey, batchMaxSize, batchLingerMillis,
+			items -> analyticsMessageEncoder.encode(items, true));
+	}
+
+	@PreDestroy
+	public void destroy() {
+		batchingPublisher.close();
+	}
+
 	public void sendMessage(AnalyticsRequestMessage analyticsRequestMessage) {
 		log.info("Sent Msg : {}", analyticsRequestMessage);
-		rabbitTemplate.convertAndSend(routingKey, analyticsRequestMessage);
+		if (analyticsMessageEncoder.isJson()) {
+			rabbitTemplate.convertAndSend(routingKey, analyticsRequestMessage);
+			return;
+		}
+		rabbitTemplate.send(routingKey, analyticsMessageEncoder.encode(List.of(analyticsRequestMessage), false));
+	}
+
+	/**
+	 * 스케줄러 배치용 발행. 다른 요청과 묶어 MessageBatch 로 발행한다.
+	 */
+	public void sendBatched(AnalyticsRequestMessage analyticsRequestMessage) {
+		batchingPublisher.add(analyticsRequestMessage);
+	}
+
+	public void flush() {
+		batchingPublisher.flush();
 	}
-}
\ No newline at end of file
+}
@@ -1,13 +1,10 @@
 package com.fintech.masoori.global.rabbitMQ.service;
 
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Service;
 
-import net.nurigo.java_sdk.exceptions.CoolsmsException;
-
 import com.fintech.masoori.domain.analytics.service.MonthlySpendingAnalyticsService;
-import com.fintech.masoori.domain.credit.service.CreditCardService;
-import com.fintech.masoori.domain.user.service.SmsService;
 import com.fintech.masoori.domain.user.service.UserService;
 import com.fintech.masoori.global.rabbitMQ.dto.MonthlySpendingAndCreditcard;
 
@@ -18,29 +15,31 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @RequiredArgsConstructor
 public class AnalyticsSubService {
+	private static final String IDEMPOTENCY_SCOPE = "analytics.res";
+
 	private final UserService userService;
 	private final MonthlySpendingAnalyticsService monthlySpendingAnalyticsService;
-	private final CreditCardService creditCardService;
-	private final SmsService smsService;
+	private final MessageBatchReader messageBatchReader;
+	private final ProcessedMessageRegistry processedMessageRegistry;
 
+	/**
+	 * 단건 메시지와 MessageBatch 봉투를 모두 받는다.
+	 * 분석 결과는 사용자와 분석 월 단위로 한 번만 등록한다.
+	 */
 	@RabbitListener(queues = "analytics.res")
-	public void subscribe(MonthlySpendingAndCreditcard monthlySpendingAndCreditcard) throws CoolsmsException {
-		log.info("MonthlySpendingAndCreditcard : {}", monthlySpendingAndCreditcard);
-		log.info("소비 내역 등록");
-		monthlySpendingAnalyticsService.saveMonthlySpendingAnalytics(monthlySpendingAndCreditcard);
-		log.info("소비 내역 내용 업데이트");
-		monthlySpendingAnalyticsService.updateCreatedDateAnalytics(monthlySpendingAndCreditcard);
+	public void subscribe(Message message) throws Exception {
+		messageBatchReader.forEach(message, MonthlySpendingAndCreditcard.class,
+			monthlySpendingAndCreditcard -> processedMessageRegistry.runOnce(IDEMPOTENCY_SCOPE,
+				monthlySpendingAndCreditcard.getUserId() + ":" + monthlySpendingAndCreditcard.getDate(),
+				() -> registerAnalytics(monthlySpendingAndCreditcard)));
+	}
 
-		log.info("카드 추천 등록");
-		creditCardService.saveRecommendedCreditCard(monthlySpendingAndCreditcard);
-		log.info("카드 추천 등록 업데이트");
-		creditCardService.updateRecommendedCreditCardCreatedDate(monthlySpendingAndCreditcard);
+	private void registerAnalytics(MonthlySpendingAndCreditcard monthlySpendingAndCreditcard) {
+		log.info("MonthlySpendingAndCreditcard : {}", monthlySpendingAndCreditcard);
+		// 네 번의 쓰기를 한 트랜잭션으로 묶어 재시도 때 소비 내역이 두 번 들어가지 않게 한다.
+		monthlySpendingAnalyticsService.registerMonthlyAnalytics(monthlySpendingAndCreditcard);
 
 		log.info("User Id : {}", monthlySpendingAndCreditcard.getUserId());
-		// 문자 보내자
-		// String phoneNumber = userService.findById(monthlySpendingAndCreditcard.getUserId()).getPhoneNumber();
-		// smsService.sendCreditCardAlarm(phoneNumber);
-
 	}
 
 }
@@ -0,0 +1,120 @@
+package com.fintech.masoori.global.rabbitMQ.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import com.fintech.masoori.global.rabbitMQ.dto.MessageBatch;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청을 maxSize 개 또는 lingerMillis 동안 모아 MessageBatch 하나로 발행한다.
+ * 배치 작업처럼 지연보다 처리량이 중요한 발행에만 사용한다.
+ * encoder 가 있으면 JSON 봉투 대신 encoder 가 만든 메시지를 그대로 발행한다.
+ */
+@Slf4j
+public class BatchingPublisher<T> implements AutoCloseable {
+	private final RabbitTemplate rabbitTemplate;
+	private final String routingKey;
+	private final int maxSize;
+	private final long lingerMillis;
+	private final Function<List<T>, Message> encoder;
+	private final ScheduledExecutorService lingerTimer;
+	private List<T> buffer;
+	private ScheduledFuture<?> lingerTask;
+
+	public BatchingPublisher(RabbitTemplate rabbitTemplate, String routingKey, int maxSize, long lingerMillis) {
+		this(rabbitTemplate, routingKey, maxSize, lingerMillis, null);
+	}
+
+	public BatchingPublisher(RabbitTemplate rabbitTemplate, String routingKey, int maxSize, long lingerMillis,
+		Function<List<T>, Message> encoder) {
+		this.rabbitTemplate = rabbitTemplate;
+		this.encoder = encoder;
+		this.routingKey = routingKey;
+		this.maxSize = maxSize;
+		this.lingerMillis = lingerMillis;
+		this.buffer = new ArrayList<>(maxSize);
+		this.lingerTimer = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "batch-publisher-" + routingKey);
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public void add(T item) {
+		List<T> full = null;
+		synchronized (this) {
+			buffer.add(item);
+			if (buffer.size() >= maxSize) {
+				full = drain();
+			} else if (lingerTask == null) {
+				lingerTask = lingerTimer.schedule(this::flush, lingerMillis, TimeUnit.MILLISECONDS);
+			}
+		}
+		if (full != null) {
+			publish(full);
+		}
+	}
+
+	/**
+	 * 모여 있는 요청을 바로 발행한다.
+	 */
+	public void flush() {
+		List<T> items;
+		synchronized (this) {
+			items = drain();
+		}
+		if (!items.isEmpty()) {
+			publish(items);
+		}
+	}
+
+	private List<T> drain() {
+		if (lingerTask != null) {
+			lingerTask.cancel(false);
+			lingerTask = null;
+		}
+		List<T> items = buffer;
+		buffer = new ArrayList<>(maxSize);
+		return items;
+	}
+
+	private void publish(List<T> items) {
+		if (encoder != null) {
+			try {
+				rabbitTemplate.send(routingKey, encoder.apply(items));
+				log.info("Sent Batch : routingKey : {}, size : {}", routingKey, items.size());
+			} catch (RuntimeException e) {
+				log.error("배치 발행 실패 - routingKey : {}, size : {}", routingKey, items.size(), e);
+				throw e;
+			}
+			return;
+		}
+		MessageBatch<T> batch = MessageBatch.of(items);
+		try {
+			rabbitTemplate.convertAndSend(routingKey, batch, message -> {
+				message.getMessageProperties().setHeader(MessageBatch.VERSION_HEADER, MessageBatch.SCHEMA_VERSION);
+				return message;
+			});
+			log.info("Sent Batch : {}, routingKey : {}, size : {}", batch, routingKey, items.size());
+		} catch (RuntimeException e) {
+			log.error("배치 발행 실패 - routingKey : {}, size : {}", routingKey, items.size(), e);
+			throw e;
+		}
+	}
+
+	@Override
+	public void close() {
+		flush();
+		lingerTimer.shutdown();
+	}
+}
@@ -14,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ChallengePubService {
 	private final RabbitTemplate rabbitTemplate;
+	private final OutboxService outboxService;
 	@Value("${rabbitmq.queue.challenge}")
 	private String routingKey;
 
@@ -21,4 +22,11 @@ public class ChallengePubService {
 		log.info("Sent Msg : {}", message);
 		rabbitTemplate.convertAndSend(routingKey, message);
 	}
+
+	/**
+	 * 현재 트랜잭션의 outbox 에 기록한다. 실제 발행은 커밋 후 OutboxRelay 가 한다.
+	 */
+	public void enqueue(ChallengeRequestMessage message) {
+		outboxService.save(routingKey, message.getCardId(), message, false);
+	}
 }
@@ -1,14 +1,18 @@
 package com.fintech.masoori.global.rabbitMQ.service;
 
+import java.util.List;
+
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Service;
 
-import net.nurigo.java_sdk.exceptions.CoolsmsException;
-
 import com.fintech.masoori.domain.card.exception.CardNotFound;
 import com.fintech.masoori.domain.card.repository.CardRepository;
 import com.fintech.masoori.domain.card.service.CardService;
-import com.fintech.masoori.domain.user.service.SmsService;
+import com.fintech.masoori.domain.card.service.ChallengeImageService;
+import com.fintech.masoori.domain.card.service.GenerationJobService;
+import com.fintech.masoori.global.notification.dto.NotificationType;
+import com.fintech.masoori.global.notification.service.NotificationDispatcher;
 import com.fintech.masoori.global.rabbitMQ.dto.GeneratedChallengeCard;
 
 import lombok.RequiredArgsConstructor;
@@ -18,19 +22,43 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @RequiredArgsConstructor
 public class ChallengeSubService {
+	private static final String IDEMPOTENCY_SCOPE = "challenge.res";
+
 	private final CardService cardService;
 	private final CardRepository cardRepository;
-	private final SmsService smsService;
+	private final NotificationDispatcher notificationDispatcher;
+	private final MessageBatchReader messageBatchReader;
+	private final ProcessedMessageRegistry processedMessageRegistry;
+	private final GenerationJobService generationJobService;
+	private final ChallengeImageService challengeImageService;
 
+	/**
+	 * 단건 메시지와 MessageBatch 봉투를 모두 받는다.
+	 * 재전달된 카드는 카드 id 로 걸러내 알림 문자를 다시 보내지 않는다.
+	 */
 	@RabbitListener(queues = "challenge.res")
-	public void subscribeChallengeQueue(GeneratedChallengeCard generatedChallengeCard) throws CoolsmsException {
+	public void subscribeChallengeQueue(Message message) throws Exception {
+		messageBatchReader.forEach(message, GeneratedChallengeCard.class, generatedChallengeCard -> {
+			// 미리 생성 요청의 응답은 이름별 이미지만 등록한다.
+			if (generatedChallengeCard.getCardId() == null) {
+				challengeImageService.saveImagePath(generatedChallengeCard.getName(),
+					generatedChallengeCard.getImagePath());
+				return;
+			}
+			processedMessageRegistry.runOnce(IDEMPOTENCY_SCOPE, String.valueOf(generatedChallengeCard.getCardId()),
+				() -> registerGeneratedChallengeCard(generatedChallengeCard));
+		});
+	}
+
+	private void registerGeneratedChallengeCard(GeneratedChallengeCard generatedChallengeCard) {
 		log.info("생성되어 넘겨받은 챌린지 이미지 등록");
 		cardService.registerChallengeCardImage(generatedChallengeCard.getImagePath(),
 			generatedChallengeCard.getCardId());
-		String phoneNumber = cardRepository.findById(generatedChallengeCard.getCardId())
-		                                   .orElseThrow(() -> new CardNotFound("Card is Not Found"))
-		                                   .getUser()
-		                                   .getPhoneNumber();
-		smsService.sendChallengeAlarm(phoneNumber);
+		generationJobService.done(List.of(generatedChallengeCard.getCardId()));
+		Long userId = cardRepository.findById(generatedChallengeCard.getCardId())
+		                            .orElseThrow(() -> new CardNotFound("Card is Not Found"))
+		                            .getUser()
+		                            .getId();
+		notificationDispatcher.submit(List.of(userId), NotificationType.CHALLENGE);
 	}
 }
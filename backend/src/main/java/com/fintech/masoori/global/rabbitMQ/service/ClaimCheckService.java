@@ -0,0 +1,136 @@
+package com.fintech.masoori.global.rabbitMQ.service;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.Correlation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.masoori.global.config.RabbitMQConfig;
+import com.fintech.masoori.global.rabbitMQ.dto.ClaimCheck;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 본문이 threshold-bytes 를 넘는 메시지는 본문을 ClaimCheckStore 에 두고 큐에는 ClaimCheck 참조만 보낸다.
+ * RabbitTemplate 의 발행 직전 후처리로 등록되어 routing-keys 로 가는 메시지에만 적용되고 (기본값은 없음),
+ * *.res 쪽은 MessageBatchReader 가 resolve 로 원래 본문을 되찾는다.
+ * 요청 큐는 워커가 참조를 풀 수 있는 RESOLVABLE_ROUTING_KEYS 만 routing-keys 에 넣을 수 있다.
+ */
+@Slf4j
+@Service
+public class ClaimCheckService implements MessagePostProcessor {
+	public static final String ID_HEADER = "x-claim-check-id";
+	public static final String SHA256_HEADER = "x-claim-check-sha256";
+	// analytics 워커(WireFormat/claimCheck.py)만 claim check 를 푼다.
+	public static final Set<String> RESOLVABLE_ROUTING_KEYS = Set.of("analytics.req");
+
+	private final ClaimCheckStore claimCheckStore;
+	private final ObjectMapper objectMapper = RabbitMQConfig.messageObjectMapper();
+	private final int thresholdBytes;
+	private final Set<String> routingKeys;
+
+	public ClaimCheckService(ClaimCheckStore claimCheckStore,
+		@Value("${rabbitmq.claim-check.threshold-bytes:262144}") int thresholdBytes,
+		@Value("${rabbitmq.claim-check.routing-keys:}") List<String> routingKeys) {
+		this.claimCheckStore = claimCheckStore;
+		this.thresholdBytes = thresholdBytes;
+		this.routingKeys = new HashSet<>(routingKeys);
+		this.routingKeys.removeIf(String::isBlank);
+		for (String routingKey : this.routingKeys) {
+			if (!RESOLVABLE_ROUTING_KEYS.contains(routingKey)) {
+				throw new IllegalArgumentException("소비자가 claim check 를 풀 수 없는 큐 : " + routingKey);
+			}
+		}
+	}
+
+	@Override
+	public Message postProcessMessage(Message message) throws AmqpException {
+		return message;
+	}
+
+	@Override
+	public Message postProcessMessage(Message message, Correlation correlation, String exchange, String routingKey) {
+		if (!routingKeys.contains(routingKey)) {
+			return message;
+		}
+		return checkIn(message);
+	}
+
+	public Message checkIn(Message message) {
+		byte[] body = message.getBody();
+		if (body.length <= thresholdBytes) {
+			return message;
+		}
+		MessageProperties properties = message.getMessageProperties();
+		ClaimCheck claimCheck = ClaimCheck.builder()
+		                                  .id(UUID.randomUUID().toString())
+		                                  .store(claimCheckStore.getName())
+		                                  .sha256(sha256(body))
+		                                  .size(body.length)
+		                                  .contentType(properties.getContentType())
+		                                  .contentEncoding(properties.getContentEncoding())
+		                                  .build();
+		claimCheckStore.put(claimCheck.getId(), body);
+		log.info("Claim check 저장 : {}", claimCheck);
+
+		properties.setContentType(ClaimCheck.CONTENT_TYPE);
+		properties.setContentEncoding(null);
+		properties.setHeader(ID_HEADER, claimCheck.getId());
+		properties.setHeader(SHA256_HEADER, claimCheck.getSha256());
+		try {
+			return new Message(objectMapper.writeValueAsBytes(claimCheck), properties);
+		} catch (IOException e) {
+			throw new IllegalStateException("Claim check 직렬화 실패", e);
+		}
+	}
+
+	/**
+	 * claim-check 메시지면 저장소에서 본문을 가져와 원래 메시지로 되돌린다. 아니면 그대로 돌려준다.
+	 */
+	public Message resolve(Message message) {
+		MessageProperties properties = message.getMessageProperties();
+		if (!ClaimCheck.CONTENT_TYPE.equals(properties.getContentType())) {
+			return message;
+		}
+		ClaimCheck claimCheck;
+		try {
+			claimCheck = objectMapper.readValue(message.getBody(), ClaimCheck.class);
+		} catch (IOException e) {
+			throw new AmqpRejectAndDontRequeueException("Claim check 변환 실패", e);
+		}
+		if (!claimCheckStore.getName().equals(claimCheck.getStore())) {
+			throw new AmqpRejectAndDontRequeueException("다른 저장소의 claim check : " + claimCheck);
+		}
+		byte[] body = claimCheckStore.get(claimCheck.getId())
+		                             .orElseThrow(() -> new AmqpRejectAndDontRequeueException(
+			                             "만료되었거나 없는 claim check : " + claimCheck));
+		if (!sha256(body).equals(claimCheck.getSha256())) {
+			throw new AmqpRejectAndDontRequeueException("Claim check 체크섬 불일치 : " + claimCheck);
+		}
+		properties.setContentType(claimCheck.getContentType());
+		properties.setContentEncoding(claimCheck.getContentEncoding());
+		return new Message(body, properties);
+	}
+
+	private static String sha256(byte[] body) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
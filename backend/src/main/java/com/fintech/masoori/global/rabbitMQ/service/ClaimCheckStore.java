@@ -0,0 +1,14 @@
+package com.fintech.masoori.global.rabbitMQ.service;
+
+import java.util.Optional;
+
+/**
+ * claim-check 본문 저장소. 저장한 본문은 TTL 이 지나면 사라진다.
+ */
+public interface ClaimCheckStore {
+	String getName();
+
+	void put(String id, byte[] payload);
+
+	Optional<byte[]> get(String id);
+}
@@ -0,0 +1,85 @@
+package com.fintech.masoori.global.rabbitMQ.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 워커와 공유하는 디렉터리에 본문을 파일로 저장한다. ttl 이 지난 파일은 주기적으로 지운다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "rabbitmq.claim-check.store", havingValue = "file")
+public class FileClaimCheckStore implements ClaimCheckStore {
+	private final Path directory;
+	private final long ttlMinutes;
+
+	public FileClaimCheckStore(@Value("${rabbitmq.claim-check.dir}") String directory,
+		@Value("${rabbitmq.claim-check.ttl-minutes:1440}") long ttlMinutes) throws IOException {
+		this.directory = Files.createDirectories(Path.of(directory));
+		this.ttlMinutes = ttlMinutes;
+	}
+
+	@Override
+	public String getName() {
+		return "file";
+	}
+
+	@Override
+	public void put(String id, byte[] payload) {
+		try {
+			// 다 쓰기 전의 파일을 읽지 않도록 임시 파일에 쓴 뒤 이름을 바꾼다.
+			Path temp = Files.write(directory.resolve(id + ".tmp"), payload);
+			Files.move(temp, directory.resolve(id), StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public Optional<byte[]> get(String id) {
+		try {
+			return Optional.of(Files.readAllBytes(directory.resolve(id)));
+		} catch (NoSuchFileException e) {
+			return Optional.empty();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Scheduled(fixedDelay = 3600000)
+	public void cleanUp() {
+		Instant expired = Instant.now().minus(ttlMinutes, ChronoUnit.MINUTES);
+		try (Stream<Path> files = Files.list(directory)) {
+			files.filter(file -> {
+				try {
+					return Files.getLastModifiedTime(file).toInstant().isBefore(expired);
+				} catch (IOException e) {
+					return false;
+				}
+			}).forEach(file -> {
+				try {
+					Files.deleteIfExists(file);
+				} catch (IOException e) {
+					log.warn("claim-check 파일 삭제 실패 : {}", file, e);
+				}
+			});
+		} catch (IOException e) {
+			log.warn("claim-check 디렉터리 정리 실패 : {}", directory, e);
+		}
+	}
+}
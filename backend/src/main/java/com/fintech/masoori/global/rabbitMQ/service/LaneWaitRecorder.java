@@ -0,0 +1,55 @@
+package com.fintech.masoori.global.rabbitMQ.service;
+
+import java.time.Duration;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.stereotype.Component;
+
+import com.fintech.masoori.global.rabbitMQ.dto.PublishLane;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 워커가 응답에 돌려준 발행 시각과 꺼낸 시각으로 요청 큐 대기 시간을 경로(lane)별로 기록한다.
+ * 헤더를 돌려주지 않는 워커의 응답은 건너뛴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LaneWaitRecorder {
+	private final MeterRegistry meterRegistry;
+
+	public void record(Message message) {
+		MessageProperties properties = message.getMessageProperties();
+		Long requestedAt = toLong(properties.getHeader(PublishLane.REQUESTED_AT_HEADER));
+		Long pickedAt = toLong(properties.getHeader(PublishLane.PICKED_AT_HEADER));
+		if (requestedAt == null || pickedAt == null) {
+			return;
+		}
+		Object sourceQueue = properties.getHeader(PublishLane.SOURCE_QUEUE_HEADER);
+		String queue = sourceQueue == null ? "unknown" : sourceQueue.toString();
+		Timer.builder("rabbitmq.lane.queue.wait")
+		     .description("요청 발행부터 워커가 꺼낼 때까지 걸린 시간")
+		     .tag("lane", PublishLane.of(queue).name().toLowerCase())
+		     .tag("queue", queue)
+		     .publishPercentiles(0.5, 0.95, 0.99)
+		     .register(meterRegistry)
+		     .record(Duration.ofMillis(Math.max(0, pickedAt - requestedAt)));
+	}
+
+	private Long toLong(Object value) {
+		if (value instanceof Number number) {
+			return number.longValue();
+		}
+		if (value != null) {
+			try {
+				return Long.parseLong(value.toString());
+			} catch (NumberFormatException e) {
+				return null;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,120 @@
+package com.fintech.masoori.global.rabbitMQ.service;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.masoori.global.config.RabbitMQConfig;
+import com.fintech.masoori.global.rabbitMQ.dto.MessageBatch;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * *.res 큐 소비 규약.
+ * VERSION_HEADER 가 있으면 MessageBatch 봉투로, 없으면 기존 단건 메시지로 읽어 항목 목록을 돌려준다.
+ * claim-check 메시지는 먼저 원래 본문으로 되돌린다. 지원하지 않는 버전이거나 읽을 수 없는 메시지는 다시 큐에 넣지 않는다.
+ * 배치에서 실패한 항목은 원래 헤더를 가진 단건 메시지로 떼어 RetryTopologyRecoverer 에 넘긴다.
+ */
+@Slf4j
+@Component
+public class MessageBatchReader {
+	private final ObjectMapper objectMapper;
+	private final ClaimCheckService claimCheckService;
+	private final RetryTopologyRecoverer retryTopologyRecoverer;
+
+	public MessageBatchReader(ClaimCheckService claimCheckService, RetryTopologyRecoverer retryTopologyRecoverer) {
+		this.claimCheckService = claimCheckService;
+		this.retryTopologyRecoverer = retryTopologyRecoverer;
+		this.objectMapper = RabbitMQConfig.messageObjectMapper();
+		objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+	}
+
+	public <T> List<T> read(Message message, Class<T> type) {
+		message = claimCheckService.resolve(message);
+		Object version = message.getMessageProperties().getHeader(MessageBatch.VERSION_HEADER);
+		try {
+			if (version == null) {
+				return List.of(objectMapper.readValue(message.getBody(), type));
+			}
+			if (Integer.parseInt(version.toString()) > MessageBatch.SCHEMA_VERSION) {
+				throw new AmqpRejectAndDontRequeueException("지원하지 않는 배치 버전 : " + version);
+			}
+			JavaType batchType = objectMapper.getTypeFactory().constructParametricType(MessageBatch.class, type);
+			MessageBatch<T> batch = objectMapper.readValue(message.getBody(), batchType);
+			log.info("Received Batch : {}, size : {}", batch, batch.getItems().size());
+			return batch.getItems();
+		} catch (IOException | NumberFormatException e) {
+			throw new AmqpRejectAndDontRequeueException("메시지 변환 실패", e);
+		}
+	}
+
+	/**
+	 * 항목마다 handler 를 실행한다. 단건 메시지는 예외를 그대로 던져 리스너의 재시도 설정을 따르고,
+	 * 배치는 실패한 항목만 단건 메시지로 재시도 큐(또는 parking 큐)에 넘기고 나머지 항목을 계속 처리한다.
+	 */
+	public <T> void forEach(Message message, Class<T> type, ItemHandler<T> handler) throws Exception {
+		List<T> items = read(message, type);
+		if (message.getMessageProperties().getHeader(MessageBatch.VERSION_HEADER) == null) {
+			handler.handle(items.get(0));
+			return;
+		}
+		for (int i = 0; i < items.size(); i++) {
+			T item = items.get(i);
+			try {
+				handler.handle(item);
+			} catch (Exception e) {
+				log.warn("배치 항목 처리 실패, 단건으로 재시도 : {}", item, e);
+				recover(toItemMessage(message, item, i), e);
+			}
+		}
+	}
+
+	/**
+	 * 배치에서 떼어낸 항목 메시지를 재시도 토폴로지로 넘긴다. 토폴로지가 없는 큐면 단건 메시지처럼 버린다.
+	 * @return 재시도 큐로 보내 다시 받을 항목이면 true, parking 하거나 버렸으면 false
+	 */
+	public boolean recover(Message itemMessage, Throwable cause) {
+		try {
+			return retryTopologyRecoverer.route(itemMessage, cause);
+		} catch (AmqpRejectAndDontRequeueException e) {
+			log.error("배치 항목 폐기 : {}", itemMessage.getMessageProperties().getMessageId(), e);
+			return false;
+		}
+	}
+
+	/**
+	 * 봉투의 헤더(재시도 횟수, 요청 시각 등)를 그대로 가진 단건 메시지를 만든다.
+	 * 다시 들어오면 VERSION_HEADER 가 없으므로 단건으로 읽힌다.
+	 */
+	public Message toItemMessage(Message batch, Object item, int index) {
+		MessageProperties batchProperties = batch.getMessageProperties();
+		MessageProperties properties = new MessageProperties();
+		batchProperties.getHeaders().forEach(properties::setHeader);
+		properties.getHeaders().remove(MessageBatch.VERSION_HEADER);
+		properties.getHeaders().remove(ClaimCheckService.ID_HEADER);
+		properties.getHeaders().remove(ClaimCheckService.SHA256_HEADER);
+		properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+		properties.setCorrelationId(batchProperties.getCorrelationId());
+		properties.setConsumerQueue(batchProperties.getConsumerQueue());
+		if (batchProperties.getMessageId() != null) {
+			properties.setMessageId(batchProperties.getMessageId() + ":" + index);
+		}
+		try {
+			return new Message(objectMapper.writeValueAsBytes(item), properties);
+		} catch (IOException e) {
+			throw new IllegalStateException("배치 항목 직렬화 실패", e);
+		}
+	}
+
+	@FunctionalInterface
+	public interface ItemHandler<T> {
+		void handle(T item) throws Exception;
+	}
+}
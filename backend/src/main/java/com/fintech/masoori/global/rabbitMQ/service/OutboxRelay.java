@@ -0,0 +1,171 @@
+package com.fintech.masoori.global.rabbitMQ.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.masoori.domain.card.service.GenerationJobService;
+import com.fintech.masoori.global.config.RabbitMQConfig;
+import com.fintech.masoori.global.rabbitMQ.dto.MessageBatch;
+import com.fintech.masoori.global.rabbitMQ.dto.PublishLane;
+import com.fintech.masoori.global.rabbitMQ.entity.OutboxMessage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * outbox 의 PENDING 메시지를 batch-size 개씩 가져와 PublishConfirmTracker 로 발행한다.
+ * confirm 을 기다리지 않고 다음 메시지를 발행하며, 결과가 오면 비동기로 PUBLISHED 또는 PENDING 으로 반영한다.
+ * 서버가 중단되어 SENDING 에 남은 메시지는 sending-timeout 이 지나면 다시 PENDING 으로 돌린다.
+ * 확인 대기 자리가 나지 않아 발행하지 못한 메시지는 시도 횟수를 올리지 않고 바로 PENDING 으로 돌린다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxRelay {
+	private final OutboxService outboxService;
+	private final PublishConfirmTracker publishConfirmTracker;
+	private final GenerationJobService generationJobService;
+	private final ObjectMapper objectMapper = RabbitMQConfig.messageObjectMapper();
+
+	@Value("${outbox.relay.batch-size:200}")
+	private int batchSize;
+
+	@Value("${outbox.relay.max-attempts:10}")
+	private int maxAttempts;
+
+	@Value("${outbox.relay.sending-timeout-seconds:120}")
+	private long sendingTimeoutSeconds;
+
+	@Value("${outbox.retention-days:7}")
+	private int retentionDays;
+
+	@Value("${rabbitmq.batch.max-size:100}")
+	private int envelopeMaxSize;
+
+	@Scheduled(fixedDelayString = "${outbox.relay.interval-millis:500}")
+	public void relay() {
+		List<OutboxMessage> messages = outboxService.claim(batchSize);
+		if (messages.isEmpty()) {
+			return;
+		}
+		List<OutboxMessage> unsent = new ArrayList<>();
+		for (OutboxMessage message : messages) {
+			if (message.getBatched()) {
+				continue;
+			}
+			if (!unsent.isEmpty() || !publish(message.getRoutingKey(), toMessage(message), List.of(message))) {
+				unsent.add(message);
+			}
+		}
+		Map<String, List<OutboxMessage>> batchedByRoutingKey = messages.stream()
+		                                                               .filter(OutboxMessage::getBatched)
+		                                                               .collect(Collectors.groupingBy(
+			                                                               OutboxMessage::getRoutingKey,
+			                                                               LinkedHashMap::new, Collectors.toList()));
+		batchedByRoutingKey.forEach((routingKey, group) -> {
+			for (int from = 0; from < group.size(); from += envelopeMaxSize) {
+				List<OutboxMessage> part = group.subList(from, Math.min(from + envelopeMaxSize, group.size()));
+				if (!unsent.isEmpty() || !publish(routingKey, toEnvelope(part), part)) {
+					unsent.addAll(part);
+				}
+			}
+		});
+		if (!unsent.isEmpty()) {
+			outboxService.release(unsent.stream().map(OutboxMessage::getId).toList());
+		}
+		log.info("Outbox 발행 - 대상 : {}, 보류 : {}, 확인 대기 : {}", messages.size(), unsent.size(),
+			publishConfirmTracker.getInFlight());
+	}
+
+	@Scheduled(fixedDelayString = "${outbox.relay.sending-check-millis:60000}")
+	public void releaseSending() {
+		int released = outboxService.releaseSending(LocalDateTime.now().minusSeconds(sendingTimeoutSeconds));
+		if (released > 0) {
+			log.warn("SENDING 에 남은 Outbox 메시지 재발행 대기 : {}", released);
+		}
+	}
+
+	/**
+	 * 발행 완료 후 보관 기간이 지난 outbox 메시지 정리 - 매일 새벽 4시 30분
+	 */
+	@Scheduled(cron = "0 30 4 * * *")
+	public void cleanUp() {
+		int deleted = outboxService.deletePublished(LocalDateTime.now().minusDays(retentionDays));
+		log.info("Outbox 정리 : {}", deleted);
+	}
+
+	/**
+	 * 확인 대기 자리가 없어 발행하지 못했으면 false
+	 */
+	private boolean publish(String routingKey, Message message, List<OutboxMessage> part) {
+		Optional<CompletableFuture<Boolean>> result = publishConfirmTracker.publish(routingKey, message);
+		if (result.isEmpty()) {
+			return false;
+		}
+		List<Long> ids = part.stream().map(OutboxMessage::getId).toList();
+		result.get().thenAccept(acked -> {
+			outboxService.complete(ids, acked, maxAttempts);
+			if (acked) {
+				// 요청 큐에 들어간 카드 생성 작업은 RUNNING
+				generationJobService.running(part.stream().map(OutboxMessage::getAggregateId).toList());
+			}
+		}).exceptionally(e -> {
+			log.error("Outbox 발행 결과 반영 실패 : {}", ids, e);
+			return null;
+		});
+		return true;
+	}
+
+	private Message toMessage(OutboxMessage outboxMessage) {
+		MessageProperties properties = jsonProperties("outbox-" + outboxMessage.getId(),
+			outboxMessage.getPayloadType());
+		return new Message(outboxMessage.getPayload().getBytes(StandardCharsets.UTF_8), properties);
+	}
+
+	/**
+	 * 저장된 본문을 다시 직렬화하지 않고 그대로 MessageBatch 의 items 로 넣는다.
+	 */
+	private Message toEnvelope(List<OutboxMessage> part) {
+		List<JsonNode> items = new ArrayList<>(part.size());
+		try {
+			for (OutboxMessage outboxMessage : part) {
+				items.add(objectMapper.readTree(outboxMessage.getPayload()));
+			}
+			MessageBatch<JsonNode> batch = MessageBatch.of(items);
+			MessageProperties properties = jsonProperties("outbox-batch-" + part.get(0).getId(),
+				MessageBatch.class.getName());
+			properties.setHeader(MessageBatch.VERSION_HEADER, MessageBatch.SCHEMA_VERSION);
+			return new Message(objectMapper.writeValueAsBytes(batch), properties);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Outbox 배치 직렬화 실패", e);
+		}
+	}
+
+	private MessageProperties jsonProperties(String messageId, String typeId) {
+		MessageProperties properties = new MessageProperties();
+		properties.setMessageId(messageId);
+		properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+		properties.setContentEncoding(StandardCharsets.UTF_8.name());
+		properties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, typeId);
+		// 워커가 응답에 돌려주면 LaneWaitRecorder 가 큐 대기 시간을 기록한다.
+		properties.setHeader(PublishLane.REQUESTED_AT_HEADER, System.currentTimeMillis());
+		return properties;
+	}
+}
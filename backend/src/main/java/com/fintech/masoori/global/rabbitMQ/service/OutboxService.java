@@ -0,0 +1,32 @@
+package com.fintech.masoori.global.rabbitMQ.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fintech.masoori.global.rabbitMQ.entity.OutboxMessage;
+
+public interface OutboxService {
+	/**
+	 * 호출한 트랜잭션 안에서 발행할 메시지를 outbox 에 기록한다. 트랜잭션이 롤백되면 메시지도 발행되지 않는다.
+	 */
+	void save(String routingKey, Long aggregateId, Object payload, boolean batched);
+
+	/**
+	 * 발행할 PENDING 메시지를 size 개까지 SENDING 으로 바꿔 가져온다. 다른 서버가 가져간 메시지는 건너뛴다.
+	 */
+	List<OutboxMessage> claim(int size);
+
+	/**
+	 * 발행 결과 반영. ack 면 PUBLISHED, 아니면 다시 PENDING (maxAttempts 도달 시 FAILED)
+	 */
+	void complete(List<Long> ids, boolean acked, int maxAttempts);
+
+	/**
+	 * 가져왔지만 발행하지 못한 메시지를 시도 횟수를 올리지 않고 다시 PENDING 으로 돌린다.
+	 */
+	void release(List<Long> ids);
+
+	int releaseSending(LocalDateTime before);
+
+	int deletePublished(LocalDateTime before);
+}
@@ -0,0 +1,86 @@
+package com.fintech.masoori.global.rabbitMQ.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.masoori.global.config.RabbitMQConfig;
+import com.fintech.masoori.global.rabbitMQ.dto.OutboxStatus;
+import com.fintech.masoori.global.rabbitMQ.entity.OutboxMessage;
+import com.fintech.masoori.global.rabbitMQ.repository.OutboxMessageRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxServiceImpl implements OutboxService {
+	private final OutboxMessageRepository outboxMessageRepository;
+	private final ObjectMapper objectMapper = RabbitMQConfig.messageObjectMapper();
+
+	@Override
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void save(String routingKey, Long aggregateId, Object payload, boolean batched) {
+		String body;
+		try {
+			body = objectMapper.writeValueAsString(payload);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("메시지 직렬화 실패 : " + payload, e);
+		}
+		OutboxMessage outboxMessage = OutboxMessage.builder()
+		                                           .routingKey(routingKey)
+		                                           .payloadType(payload.getClass().getName())
+		                                           .payload(body)
+		                                           .aggregateId(aggregateId)
+		                                           .batched(batched)
+		                                           .build();
+		outboxMessageRepository.save(outboxMessage);
+		log.info("Outbox 저장 : {}", outboxMessage);
+	}
+
+	@Override
+	@Transactional
+	public List<OutboxMessage> claim(int size) {
+		List<OutboxMessage> messages = outboxMessageRepository.findForRelay(OutboxStatus.PENDING,
+			PageRequest.of(0, size));
+		messages.forEach(OutboxMessage::sending);
+		return messages;
+	}
+
+	@Override
+	@Transactional
+	public void complete(List<Long> ids, boolean acked, int maxAttempts) {
+		List<OutboxMessage> messages = outboxMessageRepository.findAllById(ids);
+		if (acked) {
+			messages.forEach(OutboxMessage::published);
+		} else {
+			messages.forEach(message -> message.failed(maxAttempts));
+		}
+	}
+
+	@Override
+	@Transactional
+	public void release(List<Long> ids) {
+		outboxMessageRepository.findAllById(ids).forEach(OutboxMessage::released);
+	}
+
+	@Override
+	@Transactional
+	public int releaseSending(LocalDateTime before) {
+		return outboxMessageRepository.releaseSending(OutboxStatus.PENDING, OutboxStatus.SENDING, before);
+	}
+
+	@Override
+	@Transactional
+	public int deletePublished(LocalDateTime before) {
+		return outboxMessageRepository.deleteByStatusAndPublishedDateBefore(OutboxStatus.PUBLISHED, before);
+	}
+}
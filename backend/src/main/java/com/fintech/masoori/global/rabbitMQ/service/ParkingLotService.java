@@ -0,0 +1,153 @@
+package com.fintech.masoori.global.rabbitMQ.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
+import org.springframework.stereotype.Service;
+
+import com.fintech.masoori.global.config.RetryTopologyProperties;
+import com.fintech.masoori.global.rabbitMQ.dto.ParkedMessage;
+import com.fintech.masoori.global.rabbitMQ.dto.ParkingQueueState;
+import com.fintech.masoori.global.rabbitMQ.exception.UnknownQueueException;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.GetResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * parking 큐에 보관된 메시지를 조회하고 원래 큐로 다시 보낸다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ParkingLotService {
+	private static final int MAX_PREVIEW_LENGTH = 500;
+
+	private final AmqpAdmin amqpAdmin;
+	private final RabbitTemplate rabbitTemplate;
+	private final RetryTopologyProperties retryTopologyProperties;
+	private final MessagePropertiesConverter messagePropertiesConverter = new DefaultMessagePropertiesConverter();
+
+	public List<ParkingQueueState> getStates() {
+		List<ParkingQueueState> states = new ArrayList<>();
+		for (String queue : retryTopologyProperties.getQueues()) {
+			String parkingQueue = retryTopologyProperties.parkingQueue(queue);
+			Properties properties = amqpAdmin.getQueueProperties(parkingQueue);
+			states.add(ParkingQueueState.builder()
+			                            .queue(queue)
+			                            .parkingQueue(parkingQueue)
+			                            .depth(properties == null ? null :
+				                            (Integer)properties.get(RabbitAdmin.QUEUE_MESSAGE_COUNT))
+			                            .build());
+		}
+		return states;
+	}
+
+	/**
+	 * 앞에서부터 limit 개를 읽고 모두 되돌려 놓는다.
+	 */
+	public List<ParkedMessage> peek(String queue, int limit) {
+		String parkingQueue = toParkingQueue(queue);
+		return rabbitTemplate.execute(channel -> {
+			List<ParkedMessage> parkedMessages = new ArrayList<>();
+			long lastDeliveryTag = -1;
+			try {
+				for (int i = 0; i < limit; i++) {
+					GetResponse response = channel.basicGet(parkingQueue, false);
+					if (response == null) {
+						break;
+					}
+					lastDeliveryTag = response.getEnvelope().getDeliveryTag();
+					parkedMessages.add(toParkedMessage(queue, toMessage(response)));
+				}
+			} finally {
+				if (lastDeliveryTag >= 0) {
+					channel.basicNack(lastDeliveryTag, true, true);
+				}
+			}
+			return parkedMessages;
+		});
+	}
+
+	/**
+	 * 앞에서부터 limit 개를 재시도 횟수를 지우고 원래 큐로 보낸다. 보낸 메시지만 parking 큐에서 지운다.
+	 */
+	public int replay(String queue, int limit) {
+		String parkingQueue = toParkingQueue(queue);
+		Integer replayed = rabbitTemplate.execute(channel -> {
+			int count = 0;
+			for (int i = 0; i < limit; i++) {
+				GetResponse response = channel.basicGet(parkingQueue, false);
+				if (response == null) {
+					break;
+				}
+				replayOne(channel, queue, response);
+				count++;
+			}
+			return count;
+		});
+		log.info("parking 메시지 재처리 : {} {}건", queue, replayed);
+		return replayed == null ? 0 : replayed;
+	}
+
+	private void replayOne(Channel channel, String queue, GetResponse response) throws IOException {
+		long deliveryTag = response.getEnvelope().getDeliveryTag();
+		try {
+			Message message = toMessage(response);
+			MessageProperties properties = message.getMessageProperties();
+			properties.getHeaders().remove(RetryTopologyRecoverer.RETRY_COUNT_HEADER);
+			properties.getHeaders().remove(RetryTopologyRecoverer.EXCEPTION_TYPE_HEADER);
+			properties.getHeaders().remove(RetryTopologyRecoverer.EXCEPTION_MESSAGE_HEADER);
+			properties.getHeaders().remove(RetryTopologyRecoverer.PARKED_DATE_HEADER);
+			rabbitTemplate.send("", queue, message);
+		} catch (RuntimeException e) {
+			channel.basicNack(deliveryTag, false, true);
+			throw e;
+		}
+		channel.basicAck(deliveryTag, false);
+	}
+
+	private String toParkingQueue(String queue) {
+		if (!retryTopologyProperties.getQueues().contains(queue)) {
+			throw new UnknownQueueException("Unknown queue : " + queue);
+		}
+		return retryTopologyProperties.parkingQueue(queue);
+	}
+
+	private Message toMessage(GetResponse response) {
+		MessageProperties properties = messagePropertiesConverter.toMessageProperties(response.getProps(),
+			response.getEnvelope(), StandardCharsets.UTF_8.name());
+		return new Message(response.getBody(), properties);
+	}
+
+	private ParkedMessage toParkedMessage(String queue, Message message) {
+		MessageProperties properties = message.getMessageProperties();
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		Object parkedDate = properties.getHeader(RetryTopologyRecoverer.PARKED_DATE_HEADER);
+		Object exceptionType = properties.getHeader(RetryTopologyRecoverer.EXCEPTION_TYPE_HEADER);
+		Object exceptionMessage = properties.getHeader(RetryTopologyRecoverer.EXCEPTION_MESSAGE_HEADER);
+		return ParkedMessage.builder()
+		                    .messageId(properties.getMessageId())
+		                    .queue(queue)
+		                    .retryCount(RetryTopologyRecoverer.getRetryCount(properties))
+		                    .exceptionType(exceptionType == null ? null : exceptionType.toString())
+		                    .exceptionMessage(exceptionMessage == null ? null : exceptionMessage.toString())
+		                    .parkedDate(parkedDate == null ? null : LocalDateTime.parse(parkedDate.toString()))
+		                    .contentType(properties.getContentType())
+		                    .bodySize(message.getBody().length)
+		                    .bodyPreview(body.length() <= MAX_PREVIEW_LENGTH ? body : body.substring(0, MAX_PREVIEW_LENGTH))
+		                    .build();
+	}
+}
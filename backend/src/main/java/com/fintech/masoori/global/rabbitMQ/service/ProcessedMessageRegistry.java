@@ -0,0 +1,126 @@
+package com.fintech.masoori.global.rabbitMQ.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import com.fintech.masoori.global.rabbitMQ.exception.MessageInProgressException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * *.res 메시지가 재전달되어도 부수효과가 한 번만 일어나도록 처리한 키를 Redis 에 TTL 로 기록한다.
+ * 메시지 id 는 outbox 재발행이나 워커 재시도마다 바뀌므로 카드 id 처럼 결과를 식별하는 값을 키로 쓴다.
+ * 처리 중(PROCESSING)은 짧게, 처리 완료(DONE)는 길게 보관하고 처리에 실패하면 키를 지워 재전달 때 다시 처리한다.
+ * DONE 인 메시지는 건너뛰고, PROCESSING 인 메시지는 MessageInProgressException 으로 재시도 큐에 돌려
+ * 처리하던 소비자가 죽었더라도 선점 시간이 지난 뒤 다시 처리되게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProcessedMessageRegistry {
+	private static final String KEY_PREFIX = "PROCESSED:";
+	static final String PROCESSING = "PROCESSING";
+	static final String DONE = "DONE";
+	private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+		Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	@Value("${rabbitmq.idempotency.processing-seconds:300}")
+	private long processingSeconds;
+
+	@Value("${rabbitmq.idempotency.ttl-hours:72}")
+	private long ttlHours;
+
+	/**
+	 * 처음 보는 키면 처리 중으로 표시하고 true 를, 이미 처리를 마친 키면 false 를 돌려준다.
+	 * 다른 소비자가 처리 중이면 MessageInProgressException 을 던진다.
+	 */
+	public boolean tryClaim(String scope, String key) {
+		String redisKey = toKey(scope, key);
+		Boolean claimed = redisTemplate.opsForValue()
+		                               .setIfAbsent(redisKey, PROCESSING, Duration.ofSeconds(processingSeconds));
+		if (Boolean.TRUE.equals(claimed)) {
+			return true;
+		}
+		if (DONE.equals(redisTemplate.opsForValue().get(redisKey))) {
+			log.info("이미 처리된 메시지 건너뜀 : {}:{}", scope, key);
+			return false;
+		}
+		throw new MessageInProgressException("다른 소비자가 처리 중 : " + scope + ":" + key);
+	}
+
+	/**
+	 * 처리 중으로 표시된 항목만 골라낸다. 다른 소비자가 처리 중인 항목은 inProgress 로 넘긴다.
+	 */
+	public <T> List<T> claimAll(String scope, Collection<T> items, Function<T, String> keyOf,
+		BiConsumer<T, MessageInProgressException> inProgress) {
+		List<T> claimed = new ArrayList<>();
+		for (T item : items) {
+			try {
+				if (tryClaim(scope, keyOf.apply(item))) {
+					claimed.add(item);
+				}
+			} catch (MessageInProgressException e) {
+				inProgress.accept(item, e);
+			}
+		}
+		return claimed;
+	}
+
+	public void complete(String scope, String key) {
+		redisTemplate.opsForValue().set(toKey(scope, key), DONE, Duration.ofHours(ttlHours));
+	}
+
+	public <T> void completeAll(String scope, Collection<T> items, Function<T, String> keyOf) {
+		items.forEach(item -> complete(scope, keyOf.apply(item)));
+	}
+
+	/**
+	 * 처리에 실패한 키를 지운다. 이미 DONE 이 된 키는 지우지 않는다.
+	 */
+	public void release(String scope, String key) {
+		redisTemplate.execute(RELEASE_SCRIPT, List.of(toKey(scope, key)), PROCESSING);
+	}
+
+	public <T> void releaseAll(String scope, Collection<T> items, Function<T, String> keyOf) {
+		items.forEach(item -> release(scope, keyOf.apply(item)));
+	}
+
+	/**
+	 * 키를 선점한 경우에만 처리하고, 예외가 나면 키를 풀어 재전달 때 다시 처리되게 한다.
+	 * 다른 소비자가 처리 중이면 MessageInProgressException 이 리스너까지 올라가 재시도 큐로 간다.
+	 */
+	public void runOnce(String scope, String key, Task task) throws Exception {
+		if (!tryClaim(scope, key)) {
+			return;
+		}
+		try {
+			task.run();
+		} catch (Exception e) {
+			release(scope, key);
+			throw e;
+		}
+		complete(scope, key);
+	}
+
+	private String toKey(String scope, String key) {
+		return KEY_PREFIX + scope + ":" + key;
+	}
+
+	@FunctionalInterface
+	public interface Task {
+		void run() throws Exception;
+	}
+}
@@ -0,0 +1,207 @@
+package com.fintech.masoori.global.rabbitMQ.service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * publisher confirm 을 비동기로 추적한다.
+ * 발행마다 메시지 id 로 CorrelationData 를 만들어 두고 confirm callback 에서 결과를 돌려준다.
+ * nack, 반송, 시간 초과면 max-republish 까지 다시 발행하고, 동시에 확인을 기다리는 메시지는 max-in-flight 개로 제한한다.
+ * 자리가 acquire-timeout 안에 나지 않으면 발행하지 않고 호출한 쪽(@Scheduled 스레드)을 돌려보낸다.
+ */
+@Slf4j
+@Service
+public class PublishConfirmTracker {
+	private static final String ATTEMPT_SEPARATOR = "#";
+
+	private final RabbitTemplate rabbitTemplate;
+	private final Semaphore window;
+	private final int maxRepublish;
+	private final long confirmTimeoutMillis;
+	private final long acquireTimeoutMillis;
+	private final Map<String, PendingPublish> pending = new ConcurrentHashMap<>();
+	private final ScheduledExecutorService executor;
+	private final Timer confirmLatency;
+	private final Counter republishCounter;
+	private final Counter failedCounter;
+
+	public PublishConfirmTracker(RabbitTemplate rabbitTemplate, MeterRegistry meterRegistry,
+		@Value("${rabbitmq.confirm.max-in-flight:1000}") int maxInFlight,
+		@Value("${rabbitmq.confirm.max-republish:3}") int maxRepublish,
+		@Value("${rabbitmq.confirm.timeout-millis:10000}") long confirmTimeoutMillis,
+		@Value("${rabbitmq.confirm.acquire-timeout-millis:1000}") long acquireTimeoutMillis) {
+		this.rabbitTemplate = rabbitTemplate;
+		this.window = new Semaphore(maxInFlight);
+		this.maxRepublish = maxRepublish;
+		this.confirmTimeoutMillis = confirmTimeoutMillis;
+		this.acquireTimeoutMillis = acquireTimeoutMillis;
+		this.confirmLatency = Timer.builder("rabbitmq.publish.confirm.latency")
+		                           .description("발행부터 broker ack 까지 걸린 시간")
+		                           .publishPercentiles(0.5, 0.95, 0.99)
+		                           .register(meterRegistry);
+		this.republishCounter = Counter.builder("rabbitmq.publish.republish").register(meterRegistry);
+		this.failedCounter = Counter.builder("rabbitmq.publish.failed").register(meterRegistry);
+		Gauge.builder("rabbitmq.publish.in-flight", pending, Map::size).register(meterRegistry);
+		// callback 안에서 template 을 다시 쓰지 않도록 재발행과 시간 초과 검사는 별도 스레드에서 한다.
+		this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "publish-confirm-tracker");
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.scheduleWithFixedDelay(this::sweepExpired, 1, 1, TimeUnit.SECONDS);
+		rabbitTemplate.setConfirmCallback(this::onConfirm);
+	}
+
+	/**
+	 * 메시지를 발행하고 최종 결과(ack 면 true)를 돌려준다. 확인 대기 중인 메시지가 가득 차면 acquire-timeout 까지 기다리고,
+	 * 그래도 자리가 없으면 발행하지 않고 빈 값을 돌려준다.
+	 */
+	public Optional<CompletableFuture<Boolean>> publish(String routingKey, Message message) {
+		if (message.getMessageProperties().getMessageId() == null) {
+			message.getMessageProperties().setMessageId(UUID.randomUUID().toString());
+		}
+		String id = message.getMessageProperties().getMessageId();
+		try {
+			if (!window.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+				log.warn("확인 대기 자리 없음, 발행 보류 - id : {}, 확인 대기 : {}", id, pending.size());
+				return Optional.empty();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return Optional.empty();
+		}
+		PendingPublish publish = new PendingPublish(id, routingKey, message);
+		if (pending.putIfAbsent(id, publish) != null) {
+			window.release();
+			log.warn("이미 확인을 기다리는 메시지 : {}", id);
+			return Optional.of(CompletableFuture.completedFuture(false));
+		}
+		send(publish);
+		return Optional.of(publish.result);
+	}
+
+	public int getInFlight() {
+		return pending.size();
+	}
+
+	@PreDestroy
+	public void destroy() {
+		executor.shutdown();
+	}
+
+	private void send(PendingPublish publish) {
+		int attempt = publish.attempts.incrementAndGet();
+		publish.sentNanos = System.nanoTime();
+		publish.awaiting.set(attempt);
+		try {
+			rabbitTemplate.send(rabbitTemplate.getExchange(), publish.routingKey, publish.message,
+				new CorrelationData(publish.id + ATTEMPT_SEPARATOR + attempt));
+		} catch (AmqpException e) {
+			log.warn("발행 실패 - id : {}, attempt : {}", publish.id, attempt, e);
+			if (publish.awaiting.compareAndSet(attempt, 0)) {
+				retryOrFail(publish, e.getMessage());
+			}
+		}
+	}
+
+	private void onConfirm(CorrelationData correlationData, boolean ack, String cause) {
+		// outbox 를 거치지 않은 발행은 추적 대상이 아니다.
+		if (correlationData == null || correlationData.getId() == null) {
+			return;
+		}
+		String correlationId = correlationData.getId();
+		int separator = correlationId.lastIndexOf(ATTEMPT_SEPARATOR);
+		if (separator < 0) {
+			return;
+		}
+		PendingPublish publish = pending.get(correlationId.substring(0, separator));
+		if (publish == null) {
+			return;
+		}
+		if (ack && correlationData.getReturned() == null) {
+			confirmLatency.record(System.nanoTime() - publish.sentNanos, TimeUnit.NANOSECONDS);
+			finish(publish, true);
+			return;
+		}
+		int attempt = Integer.parseInt(correlationId.substring(separator + 1));
+		if (publish.awaiting.compareAndSet(attempt, 0)) {
+			log.warn("발행 거부 - id : {}, attempt : {}, cause : {}, returned : {}", publish.id, attempt, cause,
+				correlationData.getReturned());
+			retryOrFail(publish, cause);
+		}
+	}
+
+	private void sweepExpired() {
+		long now = System.nanoTime();
+		pending.values().forEach(publish -> {
+			int attempt = publish.awaiting.get();
+			if (attempt != 0 && now - publish.sentNanos > TimeUnit.MILLISECONDS.toNanos(confirmTimeoutMillis)
+				&& publish.awaiting.compareAndSet(attempt, 0)) {
+				log.warn("발행 확인 시간 초과 - id : {}, attempt : {}", publish.id, attempt);
+				retryOrFail(publish, "timeout");
+			}
+		});
+	}
+
+	private void retryOrFail(PendingPublish publish, String cause) {
+		if (publish.attempts.get() > maxRepublish) {
+			log.error("재발행 횟수 초과 - id : {}, cause : {}", publish.id, cause);
+			failedCounter.increment();
+			finish(publish, false);
+			return;
+		}
+		republishCounter.increment();
+		executor.schedule(() -> {
+			// 기다리는 동안 이전 시도의 ack 가 늦게 도착했으면 다시 보내지 않는다.
+			if (pending.get(publish.id) == publish) {
+				send(publish);
+			}
+		}, 100L * publish.attempts.get(), TimeUnit.MILLISECONDS);
+	}
+
+	private void finish(PendingPublish publish, boolean acked) {
+		if (pending.remove(publish.id, publish)) {
+			window.release();
+			publish.result.complete(acked);
+		}
+	}
+
+	private static class PendingPublish {
+		private final String id;
+		private final String routingKey;
+		private final Message message;
+		private final AtomicInteger attempts = new AtomicInteger();
+		// 확인을 기다리는 시도 번호. 0 이면 재발행 대기 중
+		private final AtomicInteger awaiting = new AtomicInteger();
+		private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+		private volatile long sentNanos;
+
+		PendingPublish(String id, String routingKey, Message message) {
+			this.id = id;
+			this.routingKey = routingKey;
+			this.message = message;
+		}
+	}
+}
@@ -0,0 +1,114 @@
+package com.fintech.masoori.global.rabbitMQ.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fintech.masoori.global.config.BackpressureProperties;
+import com.fintech.masoori.global.rabbitMQ.dto.QueueGateState;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 스케줄러 배치의 발행 속도를 요청 큐 길이에 맞춘다.
+ * passive declare 로 큐 길이를 주기적으로 조회하고, high-water 를 넘으면 배치 발행자를 멈췄다가
+ * low-water 아래로 내려가면 다시 풀어준다. 사용자가 직접 요청한 발행은 막지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PublishGateService {
+	private final AmqpAdmin amqpAdmin;
+	private final BackpressureProperties backpressureProperties;
+	private final Map<String, QueueGate> gates = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	public void init() {
+		backpressureProperties.getQueues().forEach((queue, watermark) -> gates.put(queue, new QueueGate(watermark)));
+	}
+
+	@Scheduled(fixedDelayString = "${rabbitmq.backpressure.poll-millis:2000}")
+	public void refresh() {
+		gates.forEach((queue, gate) -> {
+			try {
+				Properties properties = amqpAdmin.getQueueProperties(queue);
+				if (properties == null) {
+					return;
+				}
+				gate.update(queue, (Integer)properties.get(RabbitAdmin.QUEUE_MESSAGE_COUNT));
+			} catch (Exception e) {
+				// 조회에 실패하면 마지막 상태를 유지한다.
+				log.warn("큐 길이 조회 실패 : {}", queue, e);
+			}
+		});
+	}
+
+	/**
+	 * queue 가 멈춤 상태면 low-water 아래로 내려갈 때까지 기다린다. 설정되지 않은 큐는 바로 돌아온다.
+	 */
+	public void awaitOpen(String queue) {
+		QueueGate gate = gates.get(queue);
+		if (gate == null) {
+			return;
+		}
+		try {
+			gate.awaitOpen(backpressureProperties.getPollMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	public List<QueueGateState> getStates() {
+		return gates.entrySet().stream().map(e -> e.getValue().toState(e.getKey())).toList();
+	}
+
+	private static class QueueGate {
+		private final BackpressureProperties.Watermark watermark;
+		private volatile int depth;
+		private volatile boolean paused;
+		private volatile LocalDateTime checkedAt;
+
+		QueueGate(BackpressureProperties.Watermark watermark) {
+			this.watermark = watermark;
+		}
+
+		synchronized void update(String queue, int depth) {
+			this.depth = depth;
+			this.checkedAt = LocalDateTime.now();
+			if (!paused && depth >= watermark.getHighWater()) {
+				paused = true;
+				log.warn("배치 발행 일시 정지 - queue : {}, depth : {}", queue, depth);
+			} else if (paused && depth <= watermark.getLowWater()) {
+				paused = false;
+				log.info("배치 발행 재개 - queue : {}, depth : {}", queue, depth);
+				notifyAll();
+			}
+		}
+
+		synchronized void awaitOpen(long pollMillis) throws InterruptedException {
+			while (paused) {
+				wait(pollMillis);
+			}
+		}
+
+		QueueGateState toState(String queue) {
+			return QueueGateState.builder()
+			                     .queue(queue)
+			                     .depth(depth)
+			                     .highWater(watermark.getHighWater())
+			                     .lowWater(watermark.getLowWater())
+			                     .paused(paused)
+			                     .checkedAt(checkedAt)
+			                     .build();
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package com.fintech.masoori.global.rabbitMQ.service;
+
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "rabbitmq.claim-check.store", havingValue = "redis", matchIfMissing = true)
+public class RedisClaimCheckStore implements ClaimCheckStore {
+	private static final String KEY_PREFIX = "CLAIM_CHECK:";
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	@Value("${rabbitmq.claim-check.ttl-minutes:1440}")
+	private long ttlMinutes;
+
+	@Override
+	public String getName() {
+		return "redis";
+	}
+
+	@Override
+	public void put(String id, byte[] payload) {
+		redisTemplate.opsForValue()
+		             .set(KEY_PREFIX + id, Base64.getEncoder().encodeToString(payload), ttlMinutes, TimeUnit.MINUTES);
+	}
+
+	@Override
+	public Optional<byte[]> get(String id) {
+		return Optional.ofNullable(redisTemplate.opsForValue().get(KEY_PREFIX + id))
+		               .map(value -> Base64.getDecoder().decode(value));
+	}
+}
@@ -0,0 +1,124 @@
+package com.fintech.masoori.global.rabbitMQ.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.stereotype.Component;
+
+import com.fintech.masoori.global.config.RetryTopologyProperties;
+import com.fintech.masoori.global.rabbitMQ.exception.MessageInProgressException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리스너에서 예외가 나면 메시지를 바로 다시 큐에 넣지 않고 지연 재시도 큐로 보낸다.
+ * 재시도 횟수를 넘겼거나 다시 해도 실패할 예외(변환 실패 등)면 parking 큐에 보관하고 원래 메시지는 ack 한다.
+ * 다른 소비자가 처리 중(MessageInProgressException)이면 재시도 횟수를 쓰지 않고 마지막 단계 재시도 큐에서 기다린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RetryTopologyRecoverer implements MessageRecoverer {
+	public static final String RETRY_COUNT_HEADER = "x-retry-count";
+	public static final String ORIGINAL_QUEUE_HEADER = "x-original-queue";
+	public static final String EXCEPTION_TYPE_HEADER = "x-exception-type";
+	public static final String EXCEPTION_MESSAGE_HEADER = "x-exception-message";
+	public static final String PARKED_DATE_HEADER = "x-parked-date";
+	private static final int MAX_EXCEPTION_MESSAGE_LENGTH = 1000;
+
+	private final RabbitTemplate rabbitTemplate;
+	private final RetryTopologyProperties retryTopologyProperties;
+
+	@Override
+	public void recover(Message message, Throwable cause) {
+		route(message, cause);
+	}
+
+	/**
+	 * recover 와 같이 보내고, 재시도 큐로 보냈으면 true, parking 큐로 보냈으면 false 를 돌려준다.
+	 */
+	public boolean route(Message message, Throwable cause) {
+		MessageProperties properties = message.getMessageProperties();
+		String queue = properties.getConsumerQueue();
+		if (!retryTopologyProperties.getQueues().contains(queue)) {
+			// 재시도 토폴로지가 없는 큐는 다시 넣지 않고 버린다.
+			log.error("재시도 큐가 없는 메시지 폐기 : {} {}", queue, properties.getMessageId(), cause);
+			throw new AmqpRejectAndDontRequeueException("No retry topology for " + queue, cause);
+		}
+		Throwable rootCause = rootCause(cause);
+		int retryCount = getRetryCount(properties);
+		if (isInProgress(cause) && retryTopologyProperties.getMaxRetries() > 0) {
+			// 재시도 횟수는 그대로 두고 가장 긴 지연 큐로 보낸다.
+			String retryQueue = retryTopologyProperties.retryQueue(queue, retryTopologyProperties.getMaxRetries());
+			log.info("다른 소비자가 처리 중, {} 에서 대기 : {}", retryQueue, properties.getMessageId());
+			rabbitTemplate.send(retryTopologyProperties.getRetryExchange(), retryQueue, message);
+			return true;
+		}
+		if (isRetryable(cause) && retryCount < retryTopologyProperties.getMaxRetries()) {
+			int retry = retryCount + 1;
+			properties.setHeader(RETRY_COUNT_HEADER, retry);
+			log.warn("메시지 처리 실패, {}ms 뒤 재시도 ({}/{}) : {} {}", retryTopologyProperties.delayMillis(retry), retry,
+				retryTopologyProperties.getMaxRetries(), queue, properties.getMessageId(), rootCause);
+			rabbitTemplate.send(retryTopologyProperties.getRetryExchange(),
+				retryTopologyProperties.retryQueue(queue, retry), message);
+			return true;
+		}
+		properties.setHeader(ORIGINAL_QUEUE_HEADER, queue);
+		properties.setHeader(EXCEPTION_TYPE_HEADER, rootCause.getClass().getName());
+		properties.setHeader(EXCEPTION_MESSAGE_HEADER, truncate(rootCause.getMessage()));
+		properties.setHeader(PARKED_DATE_HEADER, LocalDateTime.now().toString());
+		log.error("메시지 처리 실패, parking 큐로 이동 : {} {}", queue, properties.getMessageId(), rootCause);
+		rabbitTemplate.send(retryTopologyProperties.getParkingExchange(), queue, message);
+		return false;
+	}
+
+	static int getRetryCount(MessageProperties properties) {
+		Object retryCount = properties.getHeader(RETRY_COUNT_HEADER);
+		return retryCount instanceof Number number ? number.intValue() : 0;
+	}
+
+	/**
+	 * 처리 중 표시는 선점 시간이 지나면 사라지므로 재시도 횟수와 상관없이 다시 받는다.
+	 */
+	private boolean isInProgress(Throwable cause) {
+		for (Throwable t = cause; t != null; t = t.getCause()) {
+			if (t instanceof MessageInProgressException) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 메시지 형식 문제는 다시 시도해도 같은 결과이므로 바로 parking 한다.
+	 */
+	private boolean isRetryable(Throwable cause) {
+		for (Throwable t = cause; t != null; t = t.getCause()) {
+			if (t instanceof AmqpRejectAndDontRequeueException || t instanceof MessageConversionException) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private Throwable rootCause(Throwable cause) {
+		Throwable rootCause = cause;
+		while (rootCause.getCause() != null && rootCause.getCause() != rootCause) {
+			rootCause = rootCause.getCause();
+		}
+		return rootCause;
+	}
+
+	private String truncate(String message) {
+		if (message == null || message.length() <= MAX_EXCEPTION_MESSAGE_LENGTH) {
+			return message;
+		}
+		return message.substring(0, MAX_EXCEPTION_MESSAGE_LENGTH);
+	}
+}
@@ -4,6 +4,7 @@ import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.fintech.masoori.global.rabbitMQ.dto.PublishLane;
 import com.fintech.masoori.global.rabbitMQ.dto.SpendingRequestMessage;
 
 import lombok.RequiredArgsConstructor;
@@ -14,12 +15,35 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class SpendingPubService {
 	private final RabbitTemplate rabbitTemplate;
+	private final OutboxService outboxService;
 
 	@Value("${rabbitmq.queue.spending}")
 	private String routingKey;
 
+	@Value("${rabbitmq.queue.spending-interactive}")
+	private String interactiveRoutingKey;
+
 	public void sendMessage(SpendingRequestMessage message) {
 		log.info("Sent Msg : {}", message);
 		rabbitTemplate.convertAndSend(routingKey, message);
 	}
+
+	/**
+	 * 현재 트랜잭션의 outbox 에 기록한다. 실제 발행은 커밋 후 OutboxRelay 가 한다.
+	 * INTERACTIVE 는 전용 큐로 한 건씩, BULK 는 다른 요청과 MessageBatch 로 묶어 기본 큐로 발행한다.
+	 */
+	public void enqueue(SpendingRequestMessage message, PublishLane lane) {
+		if (lane == PublishLane.INTERACTIVE) {
+			outboxService.save(interactiveRoutingKey, message.getCardId(), message, false);
+			return;
+		}
+		outboxService.save(routingKey, message.getCardId(), message, true);
+	}
+
+	/**
+	 * 기본 큐로 한 건씩 발행한다. MessageBatch 로 묶지 않는다.
+	 */
+	public void enqueue(SpendingRequestMessage message) {
+		outboxService.save(routingKey, message.getCardId(), message, false);
+	}
 }
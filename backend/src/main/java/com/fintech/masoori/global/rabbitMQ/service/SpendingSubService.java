@@ -1,24 +1,21 @@
 package com.fintech.masoori.global.rabbitMQ.service;
 
-import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Service;
 
-import net.nurigo.java_sdk.exceptions.CoolsmsException;
-
-import com.fintech.masoori.domain.card.exception.CardNotFound;
-import com.fintech.masoori.domain.card.repository.CardRepository;
 import com.fintech.masoori.domain.card.service.CardService;
-import com.fintech.masoori.domain.user.entity.User;
-import com.fintech.masoori.domain.user.exception.UserNotFoundException;
-import com.fintech.masoori.domain.user.repository.UserRepository;
-import com.fintech.masoori.domain.user.service.SmsService;
-import com.fintech.masoori.global.rabbitMQ.dto.GeneratedSpending;
+import com.fintech.masoori.domain.card.service.GenerationJobService;
+import com.fintech.masoori.global.notification.dto.NotificationType;
+import com.fintech.masoori.global.notification.service.NotificationDispatcher;
 import com.fintech.masoori.global.rabbitMQ.dto.GeneratedSpendingCard;
+import com.fintech.masoori.global.rabbitMQ.dto.MessageBatch;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,42 +24,97 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @RequiredArgsConstructor
 public class SpendingSubService {
+	private static final String IDEMPOTENCY_SCOPE = "spending.res";
+
 	private final CardService cardService;
-	private final CardRepository cardRepository;
-	private final SmsService smsService;
-	private final UserRepository userRepository;
+	private final MessageBatchReader messageBatchReader;
+	private final NotificationDispatcher notificationDispatcher;
+	private final ProcessedMessageRegistry processedMessageRegistry;
+	private final LaneWaitRecorder laneWaitRecorder;
+	private final GenerationJobService generationJobService;
+
+	/**
+	 * 소비 카드 결과를 batch-size 개씩 받아 한 트랜잭션에서 등록하고, 알림은 NotificationDispatcher 로 넘긴다.
+	 * 단건 메시지와 MessageBatch 봉투가 섞여 와도 모두 펼쳐서 처리한다.
+	 * 재전달된 카드는 카드 id 로 걸러내 등록과 알림을 다시 하지 않고,
+	 * 다른 소비자가 처리 중인 카드는 단건 메시지로 재시도 큐에 돌려 나중에 다시 받는다.
+	 * 읽을 수 없는 메시지는 parking 큐로, 그 밖에 처리 중 빠져나온 예외는 원본 메시지 단위로 재시도 큐로 보낸다.
+	 */
+	@RabbitListener(queues = "spending.res", containerFactory = "spendingBatchContainerFactory")
+	public void subscribeSpendingQueue(List<Message> messages) {
+		try {
+			register(messages);
+		} catch (RuntimeException e) {
+			// 배치 컨테이너는 예외가 나면 배치 전체를 다시 큐에 넣어 같은 실패를 반복하므로 원본 메시지마다 재시도 큐로 넘긴다.
+			log.error("소비 카드 배치 처리 실패, {}건 재시도", messages.size(), e);
+			messages.forEach(message -> messageBatchReader.recover(message, e));
+		}
+	}
+
+	private void register(List<Message> messages) {
+		List<GeneratedSpendingCard> generatedSpendingCards = new ArrayList<>();
+		Map<GeneratedSpendingCard, Message> sources = new IdentityHashMap<>();
+		for (Message message : messages) {
+			laneWaitRecorder.record(message);
+			try {
+				List<GeneratedSpendingCard> items = messageBatchReader.read(message, GeneratedSpendingCard.class);
+				boolean batch = message.getMessageProperties().getHeader(MessageBatch.VERSION_HEADER) != null;
+				for (int i = 0; i < items.size(); i++) {
+					sources.put(items.get(i),
+						batch ? messageBatchReader.toItemMessage(message, items.get(i), i) : message);
+				}
+				generatedSpendingCards.addAll(items);
+			} catch (AmqpRejectAndDontRequeueException e) {
+				log.error("소비 카드 메시지 변환 실패 : {}", message.getMessageProperties().getMessageId(), e);
+				// 다시 받아도 읽을 수 없으므로 parking 큐에 보관한다.
+				messageBatchReader.recover(message, e);
+			}
+		}
+		generatedSpendingCards = processedMessageRegistry.claimAll(IDEMPOTENCY_SCOPE, generatedSpendingCards,
+			SpendingSubService::idempotencyKey,
+			(generatedSpendingCard, e) -> messageBatchReader.recover(sources.get(generatedSpendingCard), e));
+		if (generatedSpendingCards.isEmpty()) {
+			return;
+		}
+		log.info("생성되어 넘겨받은 소비 카드 등록 : {}", generatedSpendingCards.size());
+		List<Long> userIds;
+		try {
+			userIds = cardService.registerSpendingCards(generatedSpendingCards);
+		} catch (RuntimeException e) {
+			// 한 건 때문에 전체가 롤백되면 한 건씩 나눠서 다시 등록한다.
+			log.warn("소비 카드 일괄 등록 실패, 한 건씩 등록", e);
+			registerOneByOne(generatedSpendingCards, sources);
+			return;
+		}
+		processedMessageRegistry.completeAll(IDEMPOTENCY_SCOPE, generatedSpendingCards,
+			SpendingSubService::idempotencyKey);
+		generationJobService.done(generatedSpendingCards.stream().map(GeneratedSpendingCard::getCardId).toList());
+		notificationDispatcher.submit(userIds, NotificationType.TAROT_CARD);
+	}
 
-	@RabbitListener(queues = "spending.res")
-	public void subscribeSpendingQueue(GeneratedSpendingCard generatedSpendingCard) throws CoolsmsException {
-		log.info("생성되어 넘겨받은 소비 카드 등록");
-		// User user = cardRepository.findById(generatedSpendingCard.getCardId())
-		//                           .orElseThrow(() -> new CardNotFound("Card is Not Found"))
-		//                           .getUser();
-		User user = userRepository.findById(generatedSpendingCard.getUserId()).orElseThrow(() -> new UserNotFoundException("User is not found"));
-		log.info("User : {}", user);
-		// spending 으로 소비 내역 생성해서 challenge 추가
-		List<GeneratedSpending> spendings = generatedSpendingCard.getSpendings();
-		Optional<GeneratedSpending> maxSpending = spendings.stream()
-		                                                   .max(
-			                                                   Comparator.comparing(GeneratedSpending::getTotalAmount));
-		if (maxSpending.isPresent()) {
-			GeneratedSpending maxSpendingObject = maxSpending.get();
-			int ap = (int)(maxSpendingObject.getTotalAmount() * 0.15);
-			String achievementCondition = maxSpendingObject.getKeyword() + "에서 아껴서 " + ap + "원 저축 하기";
-			if(generatedSpendingCard.getDate()==null || generatedSpendingCard.getDate().equals("")){
-				cardService.addChallenge(user.getId(), achievementCondition);
-			} else {
-				String[] splitDate = generatedSpendingCard.getDate().split("/");
-				LocalDateTime temp = LocalDateTime.of(
-					Integer.parseInt(splitDate[0]),
-					Integer.parseInt(splitDate[1]),
-					Integer.parseInt(splitDate[2]), 0, 0);
-				cardService.addChallenge(user.getId(), achievementCondition, temp);
+	/**
+	 * 등록에 실패한 카드는 재시도 토폴로지로 넘기고, parking 된 카드만 작업을 실패로 바꾼다.
+	 */
+	private void registerOneByOne(List<GeneratedSpendingCard> generatedSpendingCards,
+		Map<GeneratedSpendingCard, Message> sources) {
+		List<Long> userIds = new ArrayList<>();
+		for (GeneratedSpendingCard generatedSpendingCard : generatedSpendingCards) {
+			try {
+				userIds.addAll(cardService.registerSpendingCards(List.of(generatedSpendingCard)));
+				processedMessageRegistry.complete(IDEMPOTENCY_SCOPE, idempotencyKey(generatedSpendingCard));
+				generationJobService.done(List.of(generatedSpendingCard.getCardId()));
+			} catch (RuntimeException e) {
+				log.error("소비 카드 등록 실패 : {}", generatedSpendingCard.getCardId(), e);
+				processedMessageRegistry.release(IDEMPOTENCY_SCOPE, idempotencyKey(generatedSpendingCard));
+				if (!messageBatchReader.recover(sources.get(generatedSpendingCard), e)) {
+					generationJobService.failed(List.of(generatedSpendingCard.getCardId()), "카드 등록 실패");
+				}
 			}
 		}
+		notificationDispatcher.submit(userIds, NotificationType.TAROT_CARD);
+	}
 
-		cardService.registerSpendingCard(generatedSpendingCard);
-		String phoneNumber = user.getPhoneNumber();
-		smsService.sendGenerationTarotCardAlarm(phoneNumber);
+	private static String idempotencyKey(GeneratedSpendingCard generatedSpendingCard) {
+		return String.valueOf(generatedSpendingCard.getCardId());
 	}
 }
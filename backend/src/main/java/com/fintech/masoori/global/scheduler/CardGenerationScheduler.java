@@ -1,21 +1,29 @@
 package com.fintech.masoori.global.scheduler;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import com.fintech.masoori.domain.card.service.CardService;
+import com.fintech.masoori.domain.card.service.ChallengeImageService;
 import com.fintech.masoori.domain.deal.service.DealService;
-import com.fintech.masoori.domain.user.entity.User;
-import com.fintech.masoori.domain.user.service.UserService;
 import com.fintech.masoori.global.rabbitMQ.dto.AnalyticsRequestMessage;
-import com.fintech.masoori.global.rabbitMQ.dto.Transaction;
 import com.fintech.masoori.global.rabbitMQ.service.AnalyticsPubService;
-import com.fintech.masoori.global.rabbitMQ.service.ChallengePubService;
-import com.fintech.masoori.global.rabbitMQ.service.SpendingPubService;
+import com.fintech.masoori.global.rabbitMQ.service.PublishGateService;
+import com.fintech.masoori.global.scheduler.dto.BatchJobType;
+import com.fintech.masoori.global.scheduler.dto.BatchResult;
+import com.fintech.masoori.global.scheduler.dto.BatchUser;
+import com.fintech.masoori.global.scheduler.entity.BatchJobRun;
+import com.fintech.masoori.global.scheduler.service.BatchJobRunService;
 import com.fintech.masoori.global.util.CalcDate;
 
 import lombok.RequiredArgsConstructor;
@@ -26,12 +34,43 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @EnableAsync
 public class CardGenerationScheduler {
-	private final UserService userService;
 	private final DealService dealService;
-	private final ChallengePubService challengePubService;
-	private final SpendingPubService spendingPubService;
 	private final CardService cardService;
+	private final ChallengeImageService challengeImageService;
 	private final AnalyticsPubService analyticsPubService;
+	private final UserChunkBatchExecutor userChunkBatchExecutor;
+	private final BatchJobRunService batchJobRunService;
+	private final PublishGateService publishGateService;
+
+	@Value("${rabbitmq.queue.challenge}")
+	private String challengeQueue;
+
+	@Value("${rabbitmq.queue.spending}")
+	private String spendingQueue;
+
+	@Value("${rabbitmq.queue.analytics}")
+	private String analyticsQueue;
+
+	/**
+	 * 서버 재시작 시 중단된 배치 작업을 마지막 체크포인트부터 이어서 실행한다.
+	 * 이미 주기가 지난 실행은 이어가지 않고 ABANDONED 로 정리한다.
+	 */
+	@Async
+	@EventListener(ApplicationReadyEvent.class)
+	public void resumeInterruptedRuns() {
+		Set<BatchJobType> resumeJobTypes = EnumSet.noneOf(BatchJobType.class);
+		for (BatchJobRun run : batchJobRunService.findInterruptedRuns()) {
+			if (!run.getPeriod().equals(run.getJobType().currentPeriod())) {
+				log.info("주기가 지난 배치 실행 정리 : {}", run);
+				batchJobRunService.abandon(run.getId());
+				continue;
+			}
+			log.info("중단된 배치 실행 재개 : {}", run);
+			resumeJobTypes.add(run.getJobType());
+		}
+		// 샤드 임대는 다른 서버와 경합하므로 이미 다른 서버가 처리 중인 샤드는 자연스럽게 건너뛴다.
+		resumeJobTypes.forEach(this::runJob);
+	}
 
 	/**
 	 * 추천 크레딧 Card 생성 요청 - 월 1회 -> 매월 1일 새벽 1시
@@ -39,17 +78,24 @@ public class CardGenerationScheduler {
 	@Async
 	@Scheduled(cron = "0 0 1 1 * *")
 	public void creditCardGenerateMonthly() {
-		log.info("");
-		List<User> userList = userService.findUsersByIsAuthenticated(true);
-		for (User user : userList) {
-			CalcDate.StartEndDate startEndDate = CalcDate.calcLastMonth();
-			List<Transaction> transactionList = dealService.findDealsByUserAndDateGreaterThanAndDateLessThan(user,
-				startEndDate.getStartDate(), startEndDate.getEndDate());
-			AnalyticsRequestMessage message = AnalyticsRequestMessage.builder()
-			                                                         .userId(user.getId())
-			                                                         .userMonthlyTransactionList(transactionList)
-			                                                         .build();
-			analyticsPubService.sendMessage(message);
+		runJob(BatchJobType.CREDIT_CARD_MONTHLY);
+	}
+
+	/**
+	 * 청크 하나의 거래내역을 한 번의 쿼리로 읽어 사용자별 분석 요청을 만들고, 스트림을 닫은 뒤에 발행한다.
+	 * 큐가 밀려 발행을 기다리는 동안 DB 커넥션과 결과 스트림을 붙잡고 있지 않기 위해서다.
+	 */
+	private void publishMonthlyAnalytics(List<BatchUser> chunk, CalcDate.StartEndDate startEndDate) {
+		List<Long> userIds = chunk.stream().map(BatchUser::getId).toList();
+		List<AnalyticsRequestMessage> messages = new ArrayList<>(userIds.size());
+		dealService.forEachUserTransactions(userIds, startEndDate.getStartDate(), startEndDate.getEndDate(),
+			(userId, transactionList) -> messages.add(AnalyticsRequestMessage.builder()
+			                                                                 .userId(userId)
+			                                                                 .userMonthlyTransactionList(transactionList)
+			                                                                 .build()));
+		for (AnalyticsRequestMessage message : messages) {
+			publishGateService.awaitOpen(analyticsQueue);
+			analyticsPubService.sendBatched(message);
 		}
 	}
 
@@ -59,10 +105,16 @@ public class CardGenerationScheduler {
 	@Async
 	@Scheduled(cron = "0 0 0 1  * *")
 	public void challengeGenerateWeelky() {
-		List<User> userList = userService.findUsersByIsAuthenticated(true);
-		for (User user : userList) {
-			cardService.createChallengeCard(user.getEmail());
-		}
+		runJob(BatchJobType.CHALLENGE_MONTHLY);
+	}
+
+	/**
+	 * 챌린지 카드 이미지 미리 생성 - 매월 25일 새벽 3시. 1일 챌린지 생성 전에 없는 이름의 이미지를 채워 둔다.
+	 */
+	@Async
+	@Scheduled(cron = "0 0 3 25 * *")
+	public void challengeImageWarmUp() {
+		challengeImageService.warmUp();
 	}
 
 	/**
@@ -71,9 +123,33 @@ public class CardGenerationScheduler {
 	@Async
 	@Scheduled(cron = "0 0 0 * * 0")
 	public void spendingAnalytics() {
-		List<User> userList = userService.findUsersByIsAuthenticated(true);
-		for (User user : userList) {
-			cardService.createSpendingCard(user.getEmail());
-		}
+		runJob(BatchJobType.SPENDING_WEEKLY);
+	}
+
+	/**
+	 * 배치 발행은 요청 큐가 밀려 있으면 PublishGateService 에서 대기한 뒤 발행한다.
+	 * 호출한 스레드에서 끝까지 실행하고 샤드별 결과를 돌려준다. (부하 측정, 수동 실행)
+	 */
+	public List<BatchResult> runJob(BatchJobType jobType) {
+		String period = jobType.currentPeriod();
+		return switch (jobType) {
+			case CREDIT_CARD_MONTHLY -> {
+				CalcDate.StartEndDate startEndDate = CalcDate.calcLastMonth();
+				List<BatchResult> results = userChunkBatchExecutor.executeByChunk(jobType, period,
+					chunk -> publishMonthlyAnalytics(chunk, startEndDate));
+				analyticsPubService.flush();
+				yield results;
+			}
+			case CHALLENGE_MONTHLY -> userChunkBatchExecutor.execute(jobType, period,
+				user -> {
+					publishGateService.awaitOpen(challengeQueue);
+					cardService.createChallengeCard(user.getEmail());
+				});
+			case SPENDING_WEEKLY -> userChunkBatchExecutor.execute(jobType, period,
+				user -> {
+					publishGateService.awaitOpen(spendingQueue);
+					cardService.createScheduledSpendingCard(user.getEmail());
+				});
+		};
 	}
 }
@@ -0,0 +1,57 @@
+package com.fintech.masoori.global.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import lombok.ToString;
+
+/**
+ * 한 번의 배치 실행에서 사용자별 발행 시각을 정한다.
+ * 사용자의 발행 시각은 user_id 가 [minUserId, maxUserId] 범위에서 차지하는 위치에 비례해 window 안에 배치된다.
+ * 배치는 user_id 오름차순으로 진행되므로 발행 시각도 단조 증가하고, 중단 후 재개해도 같은 사용자는 같은 시각을 받는다.
+ */
+@ToString
+public class DispatchPlan {
+	// 대기 없이 바로 발행
+	public static final DispatchPlan IMMEDIATE = new DispatchPlan(LocalDateTime.MIN, Duration.ZERO, 0L, 0L);
+
+	private final LocalDateTime windowStart;
+	private final Duration window;
+	private final long minUserId;
+	private final long span;
+
+	public DispatchPlan(LocalDateTime windowStart, Duration window, long minUserId, long maxUserId) {
+		this.windowStart = windowStart;
+		this.window = window;
+		this.minUserId = minUserId;
+		this.span = Math.max(1L, maxUserId - minUserId + 1);
+	}
+
+	public LocalDateTime slotTime(long userId) {
+		if (window.isZero()) {
+			return windowStart;
+		}
+		long position = Math.min(Math.max(userId - minUserId, 0L), span - 1);
+		// span 이 커도 오버플로가 나지 않도록 비율을 double 로 계산한다.
+		long offsetMillis = (long)(window.toMillis() * ((double)position / span));
+		return windowStart.plus(Duration.ofMillis(offsetMillis));
+	}
+
+	/**
+	 * userId 의 발행 시각까지 현재 스레드를 재운다. 이미 지났으면 바로 돌아온다.
+	 */
+	public void awaitSlot(long userId) {
+		if (window.isZero()) {
+			return;
+		}
+		long waitMillis = Duration.between(LocalDateTime.now(), slotTime(userId)).toMillis();
+		if (waitMillis <= 0) {
+			return;
+		}
+		try {
+			Thread.sleep(waitMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,56 @@
+package com.fintech.masoori.global.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fintech.masoori.domain.user.service.UserService;
+import com.fintech.masoori.global.scheduler.dto.BatchJobType;
+import com.fintech.masoori.global.scheduler.dto.UserIdRange;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 배치 작업별 발행 구간(dispatch window)을 정해 사용자 요청을 구간 전체에 고르게 퍼뜨린다.
+ * 주간 소비 카드처럼 한 번에 모든 사용자의 요청이 몰리면 DB, 큐, AI 워커가 동시에 밀리기 때문이다.
+ * 구간은 샤드 수로 나누어 shard 번째 조각을 해당 샤드에 준다. 서버 한 대가 샤드를 차례로 처리해도 전체가 구간 안에 끝난다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DispatchPlanner {
+	private final UserService userService;
+
+	@Value("${batch.dispatch-window.spending-minutes:0}")
+	private long spendingWindowMinutes;
+
+	/**
+	 * @param windowStart 주기의 첫 실행 기록이 만들어진 시각. 모든 샤드와 서버, 재시작 후에도 같은 값을 쓰도록 ledger 에서 읽어 넘긴다.
+	 */
+	public DispatchPlan plan(BatchJobType jobType, LocalDateTime windowStart, int shard, int shardCount) {
+		Duration window = windowOf(jobType);
+		if (window.isZero() || windowStart == null) {
+			return DispatchPlan.IMMEDIATE;
+		}
+		Duration slice = window.dividedBy(Math.max(1, shardCount));
+		windowStart = windowStart.plus(slice.multipliedBy(shard));
+		window = slice;
+		UserIdRange range = userService.findAuthenticatedUserIdRange();
+		if (range == null || range.getMinUserId() == null) {
+			return DispatchPlan.IMMEDIATE;
+		}
+		DispatchPlan plan = new DispatchPlan(windowStart, window, range.getMinUserId(), range.getMaxUserId());
+		log.info("[{}] {}번 샤드 발행 구간 : {}", jobType, shard, plan);
+		return plan;
+	}
+
+	private Duration windowOf(BatchJobType jobType) {
+		if (jobType == BatchJobType.SPENDING_WEEKLY) {
+			return Duration.ofMinutes(spendingWindowMinutes);
+		}
+		return Duration.ZERO;
+	}
+}
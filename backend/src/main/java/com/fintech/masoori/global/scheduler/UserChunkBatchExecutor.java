@@ -0,0 +1,214 @@
+package com.fintech.masoori.global.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.ToIntBiFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.fintech.masoori.domain.user.service.UserService;
+import com.fintech.masoori.global.scheduler.dto.BatchJobType;
+import com.fintech.masoori.global.scheduler.dto.BatchResult;
+import com.fintech.masoori.global.scheduler.dto.BatchUser;
+import com.fintech.masoori.global.scheduler.entity.BatchJobRun;
+import com.fintech.masoori.global.scheduler.service.BatchJobRunService;
+import com.fintech.masoori.global.scheduler.service.ShardLeaseService;
+import com.fintech.masoori.global.scheduler.service.ShardLeaseService.ShardLease;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인증된 사용자 전체를 user_id 기준 keyset 페이지네이션으로 chunk-size 만큼씩 조회하고,
+ * 각 청크를 parallelism 크기의 워커 풀에서 병렬로 처리한다.
+ * 한 청크의 처리가 모두 끝나야 다음 청크를 조회하므로 힙에 올라가는 사용자는 항상 청크 하나 분량이다.
+ * 청크가 끝날 때마다 batch_job_run 에 진행 상황을 기록하고, 중단된 실행은 마지막 user_id 다음부터 이어서 처리한다.
+ * 중단된 청크는 처음부터 다시 처리하므로 task 는 같은 사용자에게 두 번 실행돼도 결과가 한 번과 같아야 한다.
+ * 사용자는 user_id % shard-count 로 샤드에 나뉘며, 서버가 여러 대면 각 서버는 Redis 임대를 얻은 샤드만 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserChunkBatchExecutor {
+	private final UserService userService;
+	private final BatchJobRunService batchJobRunService;
+	private final ShardLeaseService shardLeaseService;
+	private final DispatchPlanner dispatchPlanner;
+
+	@Value("${batch.chunk-size:500}")
+	private int chunkSize;
+
+	@Value("${batch.parallelism:4}")
+	private int parallelism;
+
+	@Value("${batch.shard.count:1}")
+	private int shardCount;
+
+	private ExecutorService workerPool;
+
+	@PostConstruct
+	public void init() {
+		// 큐가 가득 차면 호출 스레드가 직접 처리 -> 청크 조회 속도가 워커 처리 속도를 넘지 않는다.
+		workerPool = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(chunkSize), new CustomizableThreadFactory("batch-worker-"),
+			new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
+	@PreDestroy
+	public void destroy() {
+		workerPool.shutdown();
+	}
+
+	/**
+	 * 인증된 사용자 전체에 대해 task 를 실행한다.
+	 * 사용자 한 명의 실패는 로그만 남기고 나머지 사용자 처리를 계속한다.
+	 * @return 이 서버가 처리한 샤드별 결과
+	 */
+	public List<BatchResult> execute(BatchJobType jobType, String period, Consumer<BatchUser> task) {
+		return run(jobType, period, (chunk, plan) -> processChunk(jobType, chunk, plan, task));
+	}
+
+	/**
+	 * 청크 단위로 chunkTask 를 실행한다. 청크 전체를 한 번의 쿼리로 처리하는 작업에 사용한다.
+	 * chunkTask 가 실패하면 해당 청크의 사용자 전체를 실패로 집계한다.
+	 */
+	public List<BatchResult> executeByChunk(BatchJobType jobType, String period,
+		Consumer<List<BatchUser>> chunkTask) {
+		return run(jobType, period, (chunk, plan) -> {
+			try {
+				plan.awaitSlot(chunk.get(0).getId());
+				chunkTask.accept(chunk);
+				return 0;
+			} catch (Exception e) {
+				log.error("[{}] 청크 처리 실패 - userId : {} ~ {}", jobType, chunk.get(0).getId(),
+					chunk.get(chunk.size() - 1).getId(), e);
+				return chunk.size();
+			}
+		});
+	}
+
+	/**
+	 * 모든 샤드가 끝날 때까지 임대를 얻은 샤드를 처리한다.
+	 * 다른 서버가 가진 샤드는 기다렸다가, 그 서버가 죽어 임대가 만료되면 이어받아 체크포인트부터 처리한다.
+	 * 샤드마다 발행 구간의 앞 조각부터 차례로 받으므로 모든 서버가 0번 샤드부터 순서대로 임대를 시도한다.
+	 */
+	private List<BatchResult> run(BatchJobType jobType, String period,
+		ToIntBiFunction<List<BatchUser>, DispatchPlan> chunkHandler) {
+		List<BatchResult> results = new ArrayList<>();
+		while (true) {
+			boolean pending = false;
+			for (int shard = 0; shard < shardCount; shard++) {
+				if (batchJobRunService.isFinished(jobType, period, shard)) {
+					continue;
+				}
+				Optional<ShardLease> lease = shardLeaseService.tryAcquire(jobType, period, shard);
+				if (lease.isEmpty()) {
+					pending = true;
+					continue;
+				}
+				try (ShardLease owned = lease.get()) {
+					runShard(jobType, period, shard, owned, chunkHandler).ifPresent(results::add);
+					if (!owned.isValid()) {
+						pending = true;
+					}
+				}
+			}
+			if (!pending) {
+				return results;
+			}
+			try {
+				Thread.sleep(shardLeaseService.getLeaseDuration().toMillis());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return results;
+			}
+		}
+	}
+
+	private Optional<BatchResult> runShard(BatchJobType jobType, String period, int shard, ShardLease lease,
+		ToIntBiFunction<List<BatchUser>, DispatchPlan> chunkHandler) {
+		Optional<BatchJobRun> started = batchJobRunService.startOrResume(jobType, period, shard);
+		if (started.isEmpty()) {
+			return Optional.empty();
+		}
+		Long runId = started.get().getId();
+		// 샤드별 실행 기록이 아니라 주기의 첫 기록을 기준으로 해야 샤드를 차례로 처리해도 발행 구간이 늘어나지 않는다.
+		DispatchPlan plan = dispatchPlanner.plan(jobType, batchJobRunService.findWindowStart(jobType, period), shard,
+			shardCount);
+		long start = System.currentTimeMillis();
+		long lastUserId = started.get().getLastProcessedUserId();
+		int chunkCount = 0;
+		int processed = 0;
+		int failed = 0;
+		log.info("[{}] 배치 시작 - period : {}, shard : {}/{}, lastUserId : {}, chunkSize : {}, parallelism : {}",
+			jobType, period, shard, shardCount, lastUserId, chunkSize, parallelism);
+		while (true) {
+			if (!lease.isValid()) {
+				// 임대를 잃었으면 RUNNING 으로 남겨 새 소유자가 체크포인트부터 이어가게 한다.
+				log.warn("[{}] {}번 샤드 임대를 잃어 처리 중단 - lastUserId : {}", jobType, shard, lastUserId);
+				return Optional.empty();
+			}
+			List<BatchUser> chunk = userService.findAuthenticatedUserChunk(shardCount, shard, lastUserId, chunkSize);
+			if (chunk.isEmpty()) {
+				break;
+			}
+			int chunkFailed = chunkHandler.applyAsInt(chunk, plan);
+			chunkCount++;
+			processed += chunk.size() - chunkFailed;
+			failed += chunkFailed;
+			lastUserId = chunk.get(chunk.size() - 1).getId();
+			batchJobRunService.checkpoint(runId, lastUserId, chunk.size() - chunkFailed, chunkFailed);
+			log.debug("[{}] {}번 샤드 {}번째 청크 완료 - lastUserId : {}", jobType, shard, chunkCount, lastUserId);
+			if (chunk.size() < chunkSize) {
+				break;
+			}
+		}
+		batchJobRunService.complete(runId);
+		BatchResult result = BatchResult.builder()
+		                                .runId(runId)
+		                                .jobType(jobType)
+		                                .period(period)
+		                                .shard(shard)
+		                                .chunkCount(chunkCount)
+		                                .processedCount(processed)
+		                                .failedCount(failed)
+		                                .lastUserId(lastUserId)
+		                                .elapsedMillis(System.currentTimeMillis() - start)
+		                                .build();
+		log.info("[{}] 배치 종료 : {}", jobType, result);
+		return Optional.of(result);
+	}
+
+	/**
+	 * 청크 하나를 워커 풀에 나누어 실행하고 모두 끝날 때까지 기다린다.
+	 * 각 사용자는 발행 계획의 자기 시각이 되어야 워커 풀에 들어간다.
+	 * @return 실패한 사용자 수
+	 */
+	private int processChunk(BatchJobType jobType, List<BatchUser> chunk, DispatchPlan plan,
+		Consumer<BatchUser> task) {
+		AtomicInteger failed = new AtomicInteger();
+		List<CompletableFuture<Void>> futures = new ArrayList<>(chunk.size());
+		for (BatchUser user : chunk) {
+			plan.awaitSlot(user.getId());
+			futures.add(CompletableFuture.runAsync(() -> task.accept(user), workerPool).exceptionally(e -> {
+				failed.incrementAndGet();
+				log.error("[{}] 사용자 처리 실패 - userId : {}", jobType, user.getId(), e);
+				return null;
+			}));
+		}
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		return failed.get();
+	}
+}
@@ -0,0 +1,5 @@
+package com.fintech.masoori.global.scheduler.dto;
+
+public enum BatchJobStatus {
+	RUNNING, COMPLETED, ABANDONED
+}
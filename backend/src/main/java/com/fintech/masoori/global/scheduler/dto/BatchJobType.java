@@ -0,0 +1,25 @@
+package com.fintech.masoori.global.scheduler.dto;
+
+import java.time.YearMonth;
+
+import com.fintech.masoori.global.util.CalcDate;
+
+/**
+ * 스케줄러 배치 작업 종류. period 는 같은 작업이 한 주기에 한 번만 실행되도록 구분하는 키이다.
+ */
+public enum BatchJobType {
+	// 지난달 거래내역 분석 + 신용카드 추천 (period : 분석 대상 월)
+	CREDIT_CARD_MONTHLY,
+	// 이번 달 챌린지 카드 생성 (period : 이번 달)
+	CHALLENGE_MONTHLY,
+	// 지난주 소비 카드 생성 (period : 지난주 월요일)
+	SPENDING_WEEKLY;
+
+	public String currentPeriod() {
+		return switch (this) {
+			case CREDIT_CARD_MONTHLY -> YearMonth.now().minusMonths(1).toString();
+			case CHALLENGE_MONTHLY -> YearMonth.now().toString();
+			case SPENDING_WEEKLY -> CalcDate.calcLastWeek().getStartDate().toLocalDate().toString();
+		};
+	}
+}
@@ -0,0 +1,27 @@
+package com.fintech.masoori.global.scheduler.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 배치 작업 한 번의 실행 결과
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class BatchResult {
+	private Long runId;
+	private BatchJobType jobType;
+	private String period;
+	private int shard;
+	private int chunkCount;
+	private int processedCount;
+	private int failedCount;
+	private Long lastUserId;
+	private long elapsedMillis;
+}
@@ -0,0 +1,21 @@
+package com.fintech.masoori.global.scheduler.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 배치 작업에서 사용자 한 명을 처리하기 위해 필요한 최소 정보.
+ * User 엔티티 전체를 올리지 않도록 JPQL 생성자 프로젝션으로 조회한다.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class BatchUser {
+	private Long id;
+	private String email;
+}
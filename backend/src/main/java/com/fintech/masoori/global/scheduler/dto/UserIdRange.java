@@ -0,0 +1,15 @@
+package com.fintech.masoori.global.scheduler.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class UserIdRange {
+	private Long minUserId;
+	private Long maxUserId;
+}
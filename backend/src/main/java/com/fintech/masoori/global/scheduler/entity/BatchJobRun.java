@@ -0,0 +1,94 @@
+package com.fintech.masoori.global.scheduler.entity;
+
+import java.time.LocalDateTime;
+
+import com.fintech.masoori.global.scheduler.dto.BatchJobStatus;
+import com.fintech.masoori.global.scheduler.dto.BatchJobType;
+import com.fintech.masoori.global.util.BaseTimeEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 배치 작업의 샤드별 실행 기록. 청크가 끝날 때마다 마지막으로 처리한 user_id 를 저장해
+ * 서버가 재시작되거나 다른 서버가 샤드를 이어받으면 그 다음 사용자부터 처리한다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "batch_job_run", uniqueConstraints = @UniqueConstraint(name = "uk_batch_job_run_type_period",
+	columnNames = {"job_type", "period", "shard"}))
+@ToString(of = {"id", "jobType", "period", "shard", "lastProcessedUserId", "processedCount", "failedCount", "status"})
+public class BatchJobRun extends BaseTimeEntity {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "batch_job_run_id")
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "job_type", length = 40, nullable = false)
+	private BatchJobType jobType;
+
+	@Column(name = "period", length = 20, nullable = false)
+	private String period;
+
+	@Column(name = "shard", nullable = false)
+	@Builder.Default
+	private Integer shard = 0;
+
+	@Column(name = "last_processed_user_id")
+	@Builder.Default
+	private Long lastProcessedUserId = 0L;
+
+	@Column(name = "chunk_count")
+	@Builder.Default
+	private Integer chunkCount = 0;
+
+	@Column(name = "processed_count")
+	@Builder.Default
+	private Integer processedCount = 0;
+
+	@Column(name = "failed_count")
+	@Builder.Default
+	private Integer failedCount = 0;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", length = 20, nullable = false)
+	@Builder.Default
+	private BatchJobStatus status = BatchJobStatus.RUNNING;
+
+	@Column(name = "finished_date")
+	private LocalDateTime finishedDate;
+
+	public void checkpoint(Long lastProcessedUserId, int processed, int failed) {
+		this.lastProcessedUserId = lastProcessedUserId;
+		this.chunkCount++;
+		this.processedCount += processed;
+		this.failedCount += failed;
+	}
+
+	public void complete() {
+		this.status = BatchJobStatus.COMPLETED;
+		this.finishedDate = LocalDateTime.now();
+	}
+
+	public void abandon() {
+		this.status = BatchJobStatus.ABANDONED;
+		this.finishedDate = LocalDateTime.now();
+	}
+}
@@ -0,0 +1,22 @@
+package com.fintech.masoori.global.scheduler.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.fintech.masoori.global.scheduler.dto.BatchJobStatus;
+import com.fintech.masoori.global.scheduler.dto.BatchJobType;
+import com.fintech.masoori.global.scheduler.entity.BatchJobRun;
+
+public interface BatchJobRunRepository extends JpaRepository<BatchJobRun, Long> {
+	Optional<BatchJobRun> findByJobTypeAndPeriodAndShard(BatchJobType jobType, String period, Integer shard);
+
+	List<BatchJobRun> findByStatus(BatchJobStatus status);
+
+	@Query("SELECT MIN(r.createdDate) FROM BatchJobRun r WHERE r.jobType = :jobType AND r.period = :period")
+	LocalDateTime findFirstCreatedDate(@Param("jobType") BatchJobType jobType, @Param("period") String period);
+}
@@ -0,0 +1,36 @@
+package com.fintech.masoori.global.scheduler.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import com.fintech.masoori.global.scheduler.dto.BatchJobType;
+import com.fintech.masoori.global.scheduler.entity.BatchJobRun;
+
+public interface BatchJobRunService {
+	/**
+	 * 해당 주기, 샤드의 실행 기록을 새로 만들거나, 중단된(RUNNING) 기록을 그대로 돌려준다.
+	 * 이미 끝난 샤드라면 빈 값을 돌려준다. 샤드 임대를 가진 서버만 호출해야 한다.
+	 */
+	Optional<BatchJobRun> startOrResume(BatchJobType jobType, String period, int shard);
+
+	/**
+	 * 해당 주기에서 가장 먼저 만들어진 샤드 실행 기록의 생성 시각. 모든 샤드와 서버가 같은 발행 구간을 쓰도록 기준 시각으로 쓴다.
+	 */
+	LocalDateTime findWindowStart(BatchJobType jobType, String period);
+
+	// 완료되었거나 정리된 샤드인지
+	boolean isFinished(BatchJobType jobType, String period, int shard);
+
+	/**
+	 * 청크 하나의 처리 결과를 기록한다. 호출 즉시 커밋된다.
+	 */
+	void checkpoint(Long runId, Long lastProcessedUserId, int processed, int failed);
+
+	void complete(Long runId);
+
+	void abandon(Long runId);
+
+	// 서버 재시작 시 이어서 처리해야 하는 실행 기록
+	List<BatchJobRun> findInterruptedRuns();
+}
@@ -0,0 +1,82 @@
+package com.fintech.masoori.global.scheduler.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fintech.masoori.global.scheduler.dto.BatchJobStatus;
+import com.fintech.masoori.global.scheduler.dto.BatchJobType;
+import com.fintech.masoori.global.scheduler.entity.BatchJobRun;
+import com.fintech.masoori.global.scheduler.repository.BatchJobRunRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class BatchJobRunServiceImpl implements BatchJobRunService {
+	private final BatchJobRunRepository batchJobRunRepository;
+
+	@Override
+	@Transactional
+	public Optional<BatchJobRun> startOrResume(BatchJobType jobType, String period, int shard) {
+		Optional<BatchJobRun> existing = batchJobRunRepository.findByJobTypeAndPeriodAndShard(jobType, period, shard);
+		if (existing.isPresent()) {
+			BatchJobRun run = existing.get();
+			if (run.getStatus() != BatchJobStatus.RUNNING) {
+				log.info("[{}] {} 주기 {}번 샤드는 이미 종료됨 : {}", jobType, period, shard, run);
+				return Optional.empty();
+			}
+			log.info("[{}] 중단된 실행 이어서 처리 : {}", jobType, run);
+			return existing;
+		}
+		BatchJobRun run = BatchJobRun.builder().jobType(jobType).period(period).shard(shard).build();
+		return Optional.of(batchJobRunRepository.save(run));
+	}
+
+	@Override
+	public LocalDateTime findWindowStart(BatchJobType jobType, String period) {
+		return batchJobRunRepository.findFirstCreatedDate(jobType, period);
+	}
+
+	@Override
+	public boolean isFinished(BatchJobType jobType, String period, int shard) {
+		return batchJobRunRepository.findByJobTypeAndPeriodAndShard(jobType, period, shard)
+		                            .map(run -> run.getStatus() != BatchJobStatus.RUNNING)
+		                            .orElse(false);
+	}
+
+	@Override
+	@Transactional
+	public void checkpoint(Long runId, Long lastProcessedUserId, int processed, int failed) {
+		findRun(runId).checkpoint(lastProcessedUserId, processed, failed);
+	}
+
+	@Override
+	@Transactional
+	public void complete(Long runId) {
+		findRun(runId).complete();
+	}
+
+	@Override
+	@Transactional
+	public void abandon(Long runId) {
+		findRun(runId).abandon();
+	}
+
+	@Override
+	public List<BatchJobRun> findInterruptedRuns() {
+		return batchJobRunRepository.findByStatus(BatchJobStatus.RUNNING);
+	}
+
+	private BatchJobRun findRun(Long runId) {
+		return batchJobRunRepository.findById(runId)
+		                            .orElseThrow(() -> new EntityNotFoundException("BatchJobRun is Not Found"));
+	}
+}
@@ -0,0 +1,143 @@
+package com.fintech.masoori.global.scheduler.service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import com.fintech.masoori.global.scheduler.dto.BatchJobType;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 서버가 같은 배치를 실행할 때 샤드 단위 소유권을 Redis 임대(lease)로 관리한다.
+ * 소유한 서버는 임대 시간의 1/3 마다 임대를 연장하고, 서버가 죽으면 임대가 만료되어 다른 서버가 이어받는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ShardLeaseService {
+	private static final String KEY_PREFIX = "BATCH_SHARD:";
+	private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+		Long.class);
+	private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+		Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	@Value("${batch.shard.lease-seconds:60}")
+	private long leaseSeconds;
+
+	@Value("${batch.shard.node-id:}")
+	private String configuredNodeId;
+
+	@Getter
+	private String nodeId;
+
+	private ScheduledExecutorService heartbeat;
+
+	@PostConstruct
+	public void init() {
+		nodeId = StringUtils.hasText(configuredNodeId) ? configuredNodeId : defaultNodeId();
+		heartbeat = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("shard-lease-"));
+		log.info("Batch shard node id : {}", nodeId);
+	}
+
+	@PreDestroy
+	public void destroy() {
+		heartbeat.shutdownNow();
+	}
+
+	public Duration getLeaseDuration() {
+		return Duration.ofSeconds(leaseSeconds);
+	}
+
+	/**
+	 * 샤드 임대를 시도한다. 다른 서버가 소유 중이면 빈 값을 돌려준다.
+	 */
+	public Optional<ShardLease> tryAcquire(BatchJobType jobType, String period, int shard) {
+		String key = KEY_PREFIX + jobType + ":" + period + ":" + shard;
+		Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, nodeId, getLeaseDuration());
+		if (!Boolean.TRUE.equals(acquired)) {
+			return Optional.empty();
+		}
+		ShardLease lease = new ShardLease(key);
+		long renewMillis = Math.max(1000L, getLeaseDuration().toMillis() / 3);
+		lease.renewal = heartbeat.scheduleAtFixedRate(lease::renew, renewMillis, renewMillis, TimeUnit.MILLISECONDS);
+		log.debug("샤드 임대 획득 : {}", key);
+		return Optional.of(lease);
+	}
+
+	private static String defaultNodeId() {
+		String host;
+		try {
+			host = InetAddress.getLocalHost().getHostName();
+		} catch (UnknownHostException e) {
+			host = "unknown";
+		}
+		return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+	}
+
+	/**
+	 * 획득한 샤드 임대. close 하면 연장을 멈추고 임대를 반납한다.
+	 */
+	public class ShardLease implements AutoCloseable {
+		private final String key;
+		private volatile boolean valid = true;
+		private ScheduledFuture<?> renewal;
+
+		private ShardLease(String key) {
+			this.key = key;
+		}
+
+		/**
+		 * 임대 연장에 실패(만료 후 다른 서버가 가져감)하면 false. 이후 청크는 처리하지 않아야 한다.
+		 */
+		public boolean isValid() {
+			return valid;
+		}
+
+		private void renew() {
+			try {
+				Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(key), nodeId,
+					String.valueOf(getLeaseDuration().toMillis()));
+				if (renewed == null || renewed == 0L) {
+					log.warn("샤드 임대를 잃음 : {}", key);
+					valid = false;
+					renewal.cancel(false);
+				}
+			} catch (Exception e) {
+				// 일시적인 Redis 오류는 다음 연장 주기에 다시 시도한다.
+				log.warn("샤드 임대 연장 실패 : {}", key, e);
+			}
+		}
+
+		@Override
+		public void close() {
+			renewal.cancel(false);
+			if (valid) {
+				redisTemplate.execute(RELEASE_SCRIPT, List.of(key), nodeId);
+			}
+			valid = false;
+		}
+	}
+}
@@ -0,0 +1,108 @@
+package com.fintech.masoori.perf;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fintech.masoori.domain.card.dto.CardType;
+import com.fintech.masoori.domain.card.dto.UserCardListRes;
+import com.fintech.masoori.domain.card.repository.CardRepository;
+import com.fintech.masoori.global.scheduler.dto.BatchUser;
+import com.sun.management.ThreadMXBean;
+
+/**
+ * 카드 목록(갤러리) 조회 비교 (./gradlew perfTest).
+ * 엔티티로 읽어 UserCard 로 옮기는 기존 방식(findRangeCard)과 UserCard 로 바로 읽는 방식(findRangeUserCard)을
+ * 요청처럼 읽기 전용 트랜잭션 하나씩으로 반복 호출해 호출당 지연 시간과 할당 바이트를 비교한다.
+ */
+class CardGalleryQueryBenchmark extends PerfTestSupport {
+
+	@Autowired
+	private PerfDataSeeder perfDataSeeder;
+
+	@Autowired
+	private CardRepository cardRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Value("${perf.gallery.cards:5000}")
+	private int cards;
+
+	@Value("${perf.gallery.days:365}")
+	private int days;
+
+	@Value("${perf.gallery.warm-up:50}")
+	private int warmUp;
+
+	@Value("${perf.gallery.iterations:300}")
+	private int iterations;
+
+	private final ThreadMXBean threadMXBean = (ThreadMXBean)ManagementFactory.getThreadMXBean();
+
+	@Test
+	void 엔티티_조회와_DTO_조회_비교() throws IOException {
+		BatchUser user = perfDataSeeder.seedCards("gallery", cards, days);
+		LocalDateTime endDate = LocalDateTime.now();
+		LocalDateTime startDate = endDate.minusDays(days);
+		TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+
+		Supplier<List<UserCardListRes.UserCard>> entityQuery = () -> readOnly.execute(
+			status -> cardRepository.findRangeCard(user.getId(), CardType.BASIC, startDate, endDate)
+			                        .stream()
+			                        .map(card -> UserCardListRes.UserCard.builder()
+			                                                             .id(card.getId())
+			                                                             .name(card.getName())
+			                                                             .imagePath(card.getImagePath())
+			                                                             .createdDate(card.getCreatedDate())
+			                                                             .cardType(card.getCardType())
+			                                                             .build())
+			                        .toList());
+		Supplier<List<UserCardListRes.UserCard>> projectionQuery = () -> readOnly.execute(
+			status -> cardRepository.findRangeUserCard(user.getId(), CardType.BASIC, startDate, endDate));
+
+		assertThat(projectionQuery.get()).containsExactlyInAnyOrderElementsOf(entityQuery.get());
+		int rows = projectionQuery.get().size();
+
+		List<String> lines = new ArrayList<>();
+		lines.add("# 카드 목록 조회 비교 " + LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+		lines.add(String.format("# cards=%d, rows=%d, warm-up=%d, iterations=%d", cards, rows, warmUp, iterations));
+		lines.add(measure("findRangeCard + 변환", entityQuery));
+		lines.add(measure("findRangeUserCard", projectionQuery));
+		writeReport("card-gallery", lines);
+	}
+
+	/**
+	 * warm-up 만큼 먼저 돌린 뒤 iterations 번의 호출 시간과 이 스레드가 할당한 바이트를 잰다.
+	 */
+	private String measure(String name, Supplier<List<UserCardListRes.UserCard>> query) {
+		for (int i = 0; i < warmUp; i++) {
+			query.get();
+		}
+		LatencyStats stats = new LatencyStats(name);
+		long threadId = Thread.currentThread().getId();
+		long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+		long startNanos = System.nanoTime();
+		for (int i = 0; i < iterations; i++) {
+			long callNanos = System.nanoTime();
+			query.get();
+			stats.record((System.nanoTime() - callNanos) / 1_000_000);
+		}
+		long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+		long allocatedPerCall = (threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore) / iterations;
+		return stats.summary(elapsedMillis) + String.format(" allocated=%dKB/call", allocatedPerCall / 1024);
+	}
+}
@@ -0,0 +1,312 @@
+package com.fintech.masoori.perf;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fintech.masoori.global.config.jwt.JwtTokenProvider;
+import com.fintech.masoori.global.scheduler.CardGenerationScheduler;
+import com.fintech.masoori.global.scheduler.dto.BatchJobType;
+import com.fintech.masoori.global.scheduler.dto.BatchResult;
+import com.fintech.masoori.global.scheduler.dto.BatchUser;
+import com.fintech.masoori.global.util.CalcDate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카드 생성 파이프라인 부하 측정 (./gradlew perfTest).
+ * 스케줄러 배치는 발행 구간과 결과 등록까지의 카드별 지연(생성 요청 저장 ~ 결과 등록)을,
+ * REST 는 요청별 응답 시간을 측정해 build/reports/perf 에 남긴다.
+ */
+@Slf4j
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CardPipelineLoadTest extends PerfTestSupport {
+	private static final String BASIC = "BASIC";
+	private static final String SPECIAL = "SPECIAL";
+
+	@Autowired
+	private PerfDataSeeder perfDataSeeder;
+
+	@Autowired
+	private CardGenerationScheduler cardGenerationScheduler;
+
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@LocalServerPort
+	private int port;
+
+	@Value("${perf.users}")
+	private int users;
+
+	@Value("${perf.deals-per-user}")
+	private int dealsPerUser;
+
+	@Value("${perf.timeout-seconds}")
+	private long timeoutSeconds;
+
+	@Value("${perf.rest.requests}")
+	private int restRequests;
+
+	@Value("${perf.rest.concurrency}")
+	private int restConcurrency;
+
+	@Value("${perf.rest.interactive-users}")
+	private int interactiveUsers;
+
+	private final HttpClient httpClient = HttpClient.newHttpClient();
+	private final List<String> report = new ArrayList<>();
+	private List<BatchUser> seededUsers;
+	private Map<Long, String> tokens;
+
+	@BeforeAll
+	void seed() {
+		seededUsers = perfDataSeeder.seed("load", users, dealsPerUser);
+		tokens = seededUsers.stream()
+		                    .collect(Collectors.toMap(BatchUser::getId,
+			                    user -> jwtTokenProvider.createToken(user.getEmail(), "ROLE_USER", user.getId())
+			                                            .getAccessToken()));
+	}
+
+	@AfterAll
+	void writePipelineReport() throws IOException {
+		List<String> lines = new ArrayList<>();
+		lines.add("# 카드 생성 파이프라인 부하 측정 " + LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+		lines.add(String.format("# users=%d, deals-per-user=%d, rest.requests=%d, rest.concurrency=%d", users,
+			dealsPerUser, restRequests, restConcurrency));
+		lines.addAll(report);
+		writeReport("card-pipeline", lines);
+	}
+
+	@Test
+	@Order(1)
+	void 주간_소비_카드_배치() {
+		runBatchAndAwaitCards(BatchJobType.SPENDING_WEEKLY, BASIC);
+	}
+
+	@Test
+	@Order(2)
+	void 월간_챌린지_카드_배치() {
+		runBatchAndAwaitCards(BatchJobType.CHALLENGE_MONTHLY, SPECIAL);
+	}
+
+	@Test
+	@Order(3)
+	void 월간_분석_배치() {
+		CalcDate.StartEndDate lastMonth = CalcDate.calcLastMonth();
+		int expected = jdbcTemplate.queryForObject(
+			"SELECT COUNT(DISTINCT user_id) FROM deal WHERE date > ? AND date < ?", Integer.class,
+			lastMonth.getStartDate(), lastMonth.getEndDate());
+		long start = System.currentTimeMillis();
+		List<BatchResult> results = cardGenerationScheduler.runJob(BatchJobType.CREDIT_CARD_MONTHLY);
+		reportPublish(BatchJobType.CREDIT_CARD_MONTHLY, results, System.currentTimeMillis() - start);
+
+		long deadline = start + TimeUnit.SECONDS.toMillis(timeoutSeconds);
+		int registered = 0;
+		while (System.currentTimeMillis() < deadline) {
+			registered = jdbcTemplate.queryForObject(
+				"SELECT COUNT(DISTINCT user_id) FROM monthly_spending_analytics", Integer.class);
+			if (registered >= expected) {
+				break;
+			}
+			sleep(200);
+		}
+		long elapsed = System.currentTimeMillis() - start;
+		report.add(String.format("%-28s registered=%d/%d elapsed=%dms throughput=%.1f/min", "analytics end-to-end",
+			registered, expected, elapsed, registered * 60_000.0 / elapsed));
+		assertThat(registered).isEqualTo(expected);
+	}
+
+	@Test
+	@Order(4)
+	void 카드_조회_API() throws InterruptedException {
+		Map<Long, Long> cardIdByUser = new HashMap<>();
+		jdbcTemplate.query("SELECT user_id, MAX(card_id) AS card_id FROM card WHERE card_type = ? GROUP BY user_id",
+			rs -> {
+				cardIdByUser.put(rs.getLong("user_id"), rs.getLong("card_id"));
+			}, BASIC);
+		String range = "?startDate=" + LocalDateTime.now().minusDays(60).truncatedTo(ChronoUnit.SECONDS)
+			+ "&endDate=" + LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.SECONDS);
+
+		callConcurrently("GET /api/card/consume", restRequests,
+			i -> get(user(i), "/api/card/consume" + range));
+		callConcurrently("GET /api/card/consume/{id}", restRequests, i -> {
+			BatchUser user = user(i);
+			return get(user, "/api/card/consume/" + cardIdByUser.get(user.getId()));
+		});
+		callConcurrently("GET /api/card/challenge", restRequests,
+			i -> get(user(i), "/api/card/challenge" + range));
+	}
+
+	@Test
+	@Order(5)
+	void 소비_카드_직접_생성_API() throws InterruptedException {
+		long lastCardId = maxCardId();
+		int requested = Math.min(interactiveUsers, seededUsers.size());
+		long start = System.currentTimeMillis();
+		LatencyStats http = callConcurrently("POST /api/card/consume", requested,
+			i -> HttpRequest.newBuilder(uri("/api/card/consume"))
+			                .header("Authorization", "Bearer " + tokens.get(user(i).getId()))
+			                .POST(HttpRequest.BodyPublishers.noBody())
+			                .build());
+		awaitCards(BASIC, lastCardId, http.getCount());
+		report.add(cardLatency("interactive spending cards", BASIC, lastCardId, start).summary(
+			lastRegisteredMillis(BASIC, lastCardId) - start));
+	}
+
+	private void runBatchAndAwaitCards(BatchJobType jobType, String cardType) {
+		long lastCardId = maxCardId();
+		long start = System.currentTimeMillis();
+		List<BatchResult> results = cardGenerationScheduler.runJob(jobType);
+		reportPublish(jobType, results, System.currentTimeMillis() - start);
+
+		int requested = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM card WHERE card_id > ? AND card_type = ?",
+			Integer.class, lastCardId, cardType);
+		int registered = awaitCards(cardType, lastCardId, requested);
+		report.add(cardLatency(jobType + " end-to-end", cardType, lastCardId, start).summary(
+			lastRegisteredMillis(cardType, lastCardId) - start));
+		assertThat(registered).isEqualTo(requested);
+	}
+
+	private void reportPublish(BatchJobType jobType, List<BatchResult> results, long elapsedMillis) {
+		int processed = results.stream().mapToInt(BatchResult::getProcessedCount).sum();
+		int failed = results.stream().mapToInt(BatchResult::getFailedCount).sum();
+		report.add(String.format("%-28s shards=%d processed=%d failed=%d elapsed=%dms throughput=%.1f/s",
+			jobType + " publish", results.size(), processed, failed, elapsedMillis,
+			elapsedMillis == 0 ? 0 : processed * 1000.0 / elapsedMillis));
+	}
+
+	/**
+	 * 이미지 경로가 채워진(결과가 등록된) 카드가 expected 개가 될 때까지 기다린다.
+	 */
+	private int awaitCards(String cardType, long lastCardId, int expected) {
+		long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(timeoutSeconds);
+		int registered = 0;
+		while (System.currentTimeMillis() < deadline) {
+			registered = jdbcTemplate.queryForObject(
+				"SELECT COUNT(*) FROM card WHERE card_id > ? AND card_type = ? AND image_path IS NOT NULL",
+				Integer.class, lastCardId, cardType);
+			if (registered >= expected) {
+				return registered;
+			}
+			sleep(200);
+		}
+		log.warn("결과 등록 대기 시간 초과 - {} {}/{}", cardType, registered, expected);
+		return registered;
+	}
+
+	/**
+	 * 카드별 생성 요청 저장(created_date)부터 결과 등록(modified_date)까지의 시간.
+	 */
+	private LatencyStats cardLatency(String name, String cardType, long lastCardId, long startMillis) {
+		LatencyStats stats = new LatencyStats(name);
+		jdbcTemplate.query(
+			"SELECT created_date, modified_date, image_path FROM card WHERE card_id > ? AND card_type = ?",
+			rs -> {
+				if (rs.getString("image_path") == null) {
+					stats.recordError();
+					return;
+				}
+				stats.record(Duration.between(rs.getTimestamp("created_date").toLocalDateTime(),
+					rs.getTimestamp("modified_date").toLocalDateTime()).toMillis());
+			}, lastCardId, cardType);
+		return stats;
+	}
+
+	private long lastRegisteredMillis(String cardType, long lastCardId) {
+		LocalDateTime last = jdbcTemplate.queryForObject(
+			"SELECT MAX(modified_date) FROM card WHERE card_id > ? AND card_type = ? AND image_path IS NOT NULL",
+			LocalDateTime.class, lastCardId, cardType);
+		return last == null ? System.currentTimeMillis() :
+			last.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	private LatencyStats callConcurrently(String name, int requests, IntFunction<HttpRequest> requestOf)
+		throws InterruptedException {
+		LatencyStats stats = new LatencyStats(name);
+		ExecutorService executor = Executors.newFixedThreadPool(restConcurrency);
+		long start = System.currentTimeMillis();
+		for (int i = 0; i < requests; i++) {
+			HttpRequest request = requestOf.apply(i);
+			executor.execute(() -> {
+				long sentNanos = System.nanoTime();
+				try {
+					HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+					if (response.statusCode() / 100 != 2) {
+						stats.recordError();
+						return;
+					}
+					stats.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sentNanos));
+				} catch (IOException e) {
+					stats.recordError();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}
+		executor.shutdown();
+		executor.awaitTermination(timeoutSeconds, TimeUnit.SECONDS);
+		report.add(stats.summary(System.currentTimeMillis() - start));
+		return stats;
+	}
+
+	private HttpRequest get(BatchUser user, String path) {
+		return HttpRequest.newBuilder(uri(path))
+		                  .header("Authorization", "Bearer " + tokens.get(user.getId()))
+		                  .GET()
+		                  .build();
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://localhost:" + port + path);
+	}
+
+	private BatchUser user(int i) {
+		return seededUsers.get(i % seededUsers.size());
+	}
+
+	private long maxCardId() {
+		return jdbcTemplate.queryForObject("SELECT COALESCE(MAX(card_id), 0) FROM card", Long.class);
+	}
+
+	private void sleep(long millis) {
+		try {
+			TimeUnit.MILLISECONDS.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
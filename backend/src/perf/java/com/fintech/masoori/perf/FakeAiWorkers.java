@@ -0,0 +1,163 @@
+package com.fintech.masoori.perf;
+
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fintech.masoori.domain.deal.service.MerchantAggregator;
+import com.fintech.masoori.global.config.RabbitMQConfig;
+import com.fintech.masoori.global.rabbitMQ.dto.AnalyticsRequestMessage;
+import com.fintech.masoori.global.rabbitMQ.dto.ChallengeRequestMessage;
+import com.fintech.masoori.global.rabbitMQ.dto.GeneratedChallengeCard;
+import com.fintech.masoori.global.rabbitMQ.dto.GeneratedSpending;
+import com.fintech.masoori.global.rabbitMQ.dto.GeneratedSpendingCard;
+import com.fintech.masoori.global.rabbitMQ.dto.MerchantAggregate;
+import com.fintech.masoori.global.rabbitMQ.dto.MonthlySpendingAndCreditcard;
+import com.fintech.masoori.global.rabbitMQ.dto.PublishLane;
+import com.fintech.masoori.global.rabbitMQ.dto.SpendingRequestMessage;
+import com.fintech.masoori.global.rabbitMQ.service.MessageBatchReader;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AI 워커 대신 요청 큐를 소비하는 가짜 워커. 항목마다 latency-millis 만큼 기다린 뒤 합성 결과를 결과 큐에 발행한다.
+ * MessageBatch 봉투는 항목마다 단건 응답으로 돌려주고, 소비 카드 응답에는 실제 워커처럼 큐 대기 시간 헤더를 붙인다.
+ */
+@Component
+@Profile("perf")
+@RequiredArgsConstructor
+public class FakeAiWorkers {
+	static final String SPENDING_RESULT_QUEUE = "spending.res";
+	static final String CHALLENGE_RESULT_QUEUE = "challenge.res";
+	static final String ANALYTICS_RESULT_QUEUE = "analytics.res";
+	private static final String IMAGE_URL_PREFIX = "https://perf.masoori.local/outputs/";
+	private static final int MAX_SPENDINGS = 5;
+
+	private final RabbitTemplate rabbitTemplate;
+	private final MessageBatchReader messageBatchReader;
+	private final ObjectMapper objectMapper = RabbitMQConfig.messageObjectMapper();
+
+	@Value("${perf.worker.spending.latency-millis:200}")
+	private long spendingLatencyMillis;
+
+	@Value("${perf.worker.challenge.latency-millis:100}")
+	private long challengeLatencyMillis;
+
+	@Value("${perf.worker.analytics.latency-millis:300}")
+	private long analyticsLatencyMillis;
+
+	@RabbitListener(queues = "${rabbitmq.queue.spending}", concurrency = "${perf.worker.spending.concurrency:4}")
+	@RabbitListener(queues = "${rabbitmq.queue.spending-interactive}",
+		concurrency = "${perf.worker.spending.interactive-concurrency:1}")
+	public void spending(Message message) {
+		long pickedAt = System.currentTimeMillis();
+		MessageProperties requestProperties = message.getMessageProperties();
+		for (SpendingRequestMessage request : messageBatchReader.read(message, SpendingRequestMessage.class)) {
+			sleep(spendingLatencyMillis);
+			List<MerchantAggregate> merchantAggregates = request.getAggregated() ? request.getMerchantAggregates() :
+				MerchantAggregator.aggregate(request.getUserWeeklyTransactionList());
+			GeneratedSpendingCard result = GeneratedSpendingCard.builder()
+			                                                    .userId(request.getUserId())
+			                                                    .cardId(request.getCardId())
+			                                                    .name("부하 측정 카드 " + request.getCardId())
+			                                                    .imagePath(IMAGE_URL_PREFIX + "spending-"
+				                                                    + request.getCardId() + ".png")
+			                                                    .description("부하 측정용 소비 카드")
+			                                                    .date(request.getDate())
+			                                                    .spendings(toSpendings(merchantAggregates))
+			                                                    .build();
+			MessageProperties properties = jsonProperties();
+			properties.setHeader(PublishLane.REQUESTED_AT_HEADER,
+				requestProperties.getHeader(PublishLane.REQUESTED_AT_HEADER));
+			properties.setHeader(PublishLane.PICKED_AT_HEADER, pickedAt);
+			properties.setHeader(PublishLane.SOURCE_QUEUE_HEADER, requestProperties.getConsumerQueue());
+			reply(SPENDING_RESULT_QUEUE, result, properties);
+		}
+	}
+
+	@RabbitListener(queues = "${rabbitmq.queue.challenge}", concurrency = "${perf.worker.challenge.concurrency:2}")
+	public void challenge(Message message) {
+		for (ChallengeRequestMessage request : messageBatchReader.read(message, ChallengeRequestMessage.class)) {
+			sleep(challengeLatencyMillis);
+			String imageName = request.getCardId() == null ? "warmup-" + request.getName().hashCode() :
+				"challenge-" + request.getCardId();
+			GeneratedChallengeCard result = GeneratedChallengeCard.builder()
+			                                                      .cardId(request.getCardId())
+			                                                      .name(request.getName())
+			                                                      .imagePath(IMAGE_URL_PREFIX + imageName + ".png")
+			                                                      .build();
+			reply(CHALLENGE_RESULT_QUEUE, result, jsonProperties());
+		}
+	}
+
+	@RabbitListener(queues = "${rabbitmq.queue.analytics}", concurrency = "${perf.worker.analytics.concurrency:2}")
+	public void analytics(Message message) {
+		for (AnalyticsRequestMessage request : messageBatchReader.read(message, AnalyticsRequestMessage.class)) {
+			sleep(analyticsLatencyMillis);
+			List<MerchantAggregate> merchantAggregates = MerchantAggregator.aggregate(
+				request.getUserMonthlyTransactionList());
+			MonthlySpendingAndCreditcard result = MonthlySpendingAndCreditcard.builder()
+			                                                                  .userId(request.getUserId())
+			                                                                  .date(request.getDate() == null
+				                                                                  ? lastMonth() : request.getDate())
+			                                                                  .spendings(toSpendings(merchantAggregates))
+			                                                                  .build();
+			reply(ANALYTICS_RESULT_QUEUE, result, jsonProperties());
+		}
+	}
+
+	private List<GeneratedSpending> toSpendings(List<MerchantAggregate> merchantAggregates) {
+		return merchantAggregates.stream()
+		                         .sorted(Comparator.comparing(MerchantAggregate::getTotalAmount).reversed())
+		                         .limit(MAX_SPENDINGS)
+		                         .map(merchantAggregate -> new GeneratedSpending(merchantAggregate.getDealPlaceName(),
+			                         merchantAggregate.getTotalAmount().intValue(), merchantAggregate.getCount()))
+		                         .toList();
+	}
+
+	private void reply(String queue, Object result, MessageProperties properties) {
+		try {
+			rabbitTemplate.send("", queue, new Message(objectMapper.writeValueAsBytes(result), properties));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("가짜 워커 응답 직렬화 실패", e);
+		}
+	}
+
+	private MessageProperties jsonProperties() {
+		MessageProperties properties = new MessageProperties();
+		properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+		properties.setContentEncoding(StandardCharsets.UTF_8.name());
+		return properties;
+	}
+
+	/**
+	 * 분석 요청에 날짜가 없으면 지난달 1일을 분석 월로 돌려준다.
+	 */
+	private String lastMonth() {
+		YearMonth month = YearMonth.now().minusMonths(1);
+		return month.getYear() + "/" + month.getMonthValue() + "/1";
+	}
+
+	private void sleep(long millis) {
+		if (millis <= 0) {
+			return;
+		}
+		try {
+			TimeUnit.MILLISECONDS.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
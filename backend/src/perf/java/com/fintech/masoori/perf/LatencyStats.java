@@ -0,0 +1,50 @@
+package com.fintech.masoori.perf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지연 시간(ms) 표본을 모아 처리량과 백분위수(nearest-rank)를 계산한다. 여러 스레드에서 기록해도 된다.
+ */
+public class LatencyStats {
+	private final String name;
+	private final List<Long> samples = new ArrayList<>();
+	private final AtomicInteger errors = new AtomicInteger();
+
+	public LatencyStats(String name) {
+		this.name = name;
+	}
+
+	public synchronized void record(long millis) {
+		samples.add(millis);
+	}
+
+	public void recordError() {
+		errors.incrementAndGet();
+	}
+
+	public synchronized int getCount() {
+		return samples.size();
+	}
+
+	public synchronized long percentile(double percent) {
+		if (samples.isEmpty()) {
+			return 0;
+		}
+		List<Long> sorted = samples.stream().sorted().toList();
+		int rank = (int)Math.ceil(percent / 100 * sorted.size());
+		return sorted.get(Math.max(rank, 1) - 1);
+	}
+
+	/**
+	 * elapsedMillis 동안 기록된 표본 수로 초당 처리량을 계산한다.
+	 */
+	public String summary(long elapsedMillis) {
+		int count = getCount();
+		double throughput = elapsedMillis <= 0 ? 0 : count * 1000.0 / elapsedMillis;
+		return String.format("%-28s count=%-7d errors=%-5d elapsed=%-8dms throughput=%8.1f/s (%9.1f/min) "
+				+ "p50=%-6d p90=%-6d p95=%-6d p99=%-6d max=%dms", name, count, errors.get(), elapsedMillis, throughput,
+			throughput * 60, percentile(50), percentile(90), percentile(95), percentile(99), percentile(100));
+	}
+}
@@ -0,0 +1,21 @@
+package com.fintech.masoori.perf;
+
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.Queue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("perf")
+public class PerfConfig {
+
+	/**
+	 * 운영에서는 AI 워커가 선언하는 결과 큐. 내장 broker 에는 없으므로 먼저 만들어 둔다.
+	 */
+	@Bean
+	public Declarables resultQueues() {
+		return new Declarables(new Queue(FakeAiWorkers.SPENDING_RESULT_QUEUE, true),
+			new Queue(FakeAiWorkers.CHALLENGE_RESULT_QUEUE, true), new Queue(FakeAiWorkers.ANALYTICS_RESULT_QUEUE, true));
+	}
+}
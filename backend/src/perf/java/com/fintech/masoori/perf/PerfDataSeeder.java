@@ -0,0 +1,109 @@
+package com.fintech.masoori.perf;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fintech.masoori.global.scheduler.dto.BatchUser;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 부하 측정용 사용자와 거래내역, 카드를 JDBC batch 로 넣는다.
+ * 거래는 최근 days 일에 고르게 흩어 두어 지난주(소비 카드)와 지난달(분석) 조회에 모두 걸리게 한다.
+ * 측정마다 이메일 prefix 를 달리해 같은 컨텍스트에서 여러 측정이 돌아도 사용자가 섞이지 않게 한다.
+ */
+@Slf4j
+@Component
+@Profile("perf")
+@RequiredArgsConstructor
+public class PerfDataSeeder {
+	private static final String EMAIL_DOMAIN = "@perf.masoori.site";
+	private static final String[] PLACES = {"스타벅스", "이마트24", "GS25", "배달의민족", "쿠팡", "카카오T", "CGV", "올리브영",
+		"교보문고", "맥도날드", "다이소", "무신사", "지하철", "버스", "편의점", "약국", "미용실", "헬스장", "넷플릭스", "주유소"};
+	private static final String DEAL_INSERT =
+		"INSERT INTO deal (date, content, amount, deal_place_name, user_id) VALUES (?, ?, ?, ?, ?)";
+	private static final String USER_INSERT =
+		"INSERT INTO user (email, name, phone_number, is_authenticated, sms_alarm, card_generation, provider_type, "
+			+ "created_date, modified_date) VALUES (?, ?, ?, ?, TRUE, TRUE, 'LOCAL', ?, ?)";
+	private static final String CARD_INSERT =
+		"INSERT INTO card (card_name, image_path, description, card_type, user_id, created_date, modified_date) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?)";
+	private static final int DAYS = 40;
+	private static final int BATCH_SIZE = 1000;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 배치 대상이 되는 인증된 사용자 users 명과 사용자마다 거래 dealsPerUser 건을 넣는다.
+	 */
+	public List<BatchUser> seed(String prefix, int users, int dealsPerUser) {
+		long startNanos = System.nanoTime();
+		LocalDateTime now = LocalDateTime.now();
+		List<Object[]> userRows = new ArrayList<>(users);
+		for (int i = 1; i <= users; i++) {
+			userRows.add(new Object[] {prefix + i + EMAIL_DOMAIN, prefix + i, String.format("010%08d", i), true,
+				Timestamp.valueOf(now), Timestamp.valueOf(now)});
+		}
+		batchInsert(USER_INSERT, userRows);
+		List<BatchUser> seeded = jdbcTemplate.query(
+			"SELECT user_id, email FROM user WHERE email LIKE ? ORDER BY user_id",
+			(rs, rowNum) -> new BatchUser(rs.getLong("user_id"), rs.getString("email")), prefix + "%" + EMAIL_DOMAIN);
+
+		Random random = new Random(seeded.size());
+		List<Object[]> dealRows = new ArrayList<>(BATCH_SIZE);
+		for (BatchUser user : seeded) {
+			for (int i = 0; i < dealsPerUser; i++) {
+				String place = PLACES[random.nextInt(PLACES.length)];
+				LocalDateTime date = now.minusMinutes(random.nextInt(DAYS * 24 * 60));
+				dealRows.add(new Object[] {Timestamp.valueOf(date), place + " 결제", 1000 + random.nextInt(99) * 500,
+					place, user.getId()});
+				if (dealRows.size() == BATCH_SIZE) {
+					batchInsert(DEAL_INSERT, dealRows);
+					dealRows = new ArrayList<>(BATCH_SIZE);
+				}
+			}
+		}
+		batchInsert(DEAL_INSERT, dealRows);
+		log.info("부하 측정 데이터 - 사용자 : {}, 거래 : {}, {}ms", seeded.size(), (long)seeded.size() * dealsPerUser,
+			(System.nanoTime() - startNanos) / 1_000_000);
+		return seeded;
+	}
+
+	/**
+	 * 카드 cards 장을 가진 사용자 한 명을 넣는다. 카드는 최근 days 일에 흩어 두고 종류는 BASIC, SPECIAL 을 번갈아 준다.
+	 * 배치 작업에 걸리지 않도록 인증되지 않은 사용자로 넣는다.
+	 */
+	public BatchUser seedCards(String prefix, int cards, int days) {
+		long startNanos = System.nanoTime();
+		LocalDateTime now = LocalDateTime.now();
+		String email = prefix + EMAIL_DOMAIN;
+		jdbcTemplate.update(USER_INSERT, email, prefix, "01000000000", false, Timestamp.valueOf(now),
+			Timestamp.valueOf(now));
+		Long userId = jdbcTemplate.queryForObject("SELECT user_id FROM user WHERE email = ?", Long.class, email);
+
+		Random random = new Random(cards);
+		List<Object[]> cardRows = new ArrayList<>(cards);
+		for (int i = 0; i < cards; i++) {
+			Timestamp createdDate = Timestamp.valueOf(now.minusMinutes(random.nextInt(days * 24 * 60)));
+			cardRows.add(new Object[] {"갤러리 카드 " + i, "https://perf.masoori.local/outputs/gallery-" + i + ".png",
+				"부하 측정용 카드 설명 ".repeat(20), i % 2 == 0 ? "BASIC" : "SPECIAL", userId, createdDate, createdDate});
+		}
+		batchInsert(CARD_INSERT, cardRows);
+		log.info("부하 측정 데이터 - 카드 : {}, {}ms", cards, (System.nanoTime() - startNanos) / 1_000_000);
+		return new BatchUser(userId, email);
+	}
+
+	private void batchInsert(String sql, List<Object[]> rows) {
+		for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+			jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package com.fintech.masoori.perf;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.qpid.server.SystemLauncher;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+import redis.embedded.RedisServer;
+
+/**
+ * 부하 측정용 내장 AMQP broker(Qpid Broker-J, 메모리 저장소)와 내장 Redis.
+ * JVM 에서 한 번만 띄우고, 빈 포트를 골라 spring.rabbitmq.*, spring.data.redis.* 에 넣어 준다.
+ */
+@Slf4j
+public final class PerfInfrastructure {
+	private static final String AMQP_USERNAME = "perf";
+	private static final String AMQP_PASSWORD = "perf";
+
+	private static SystemLauncher broker;
+	private static RedisServer redisServer;
+	private static int amqpPort;
+	private static int redisPort;
+
+	private PerfInfrastructure() {
+	}
+
+	public static void register(DynamicPropertyRegistry registry) {
+		start();
+		registry.add("spring.rabbitmq.host", () -> "localhost");
+		registry.add("spring.rabbitmq.port", () -> amqpPort);
+		registry.add("spring.rabbitmq.username", () -> AMQP_USERNAME);
+		registry.add("spring.rabbitmq.password", () -> AMQP_PASSWORD);
+		registry.add("spring.data.redis.host", () -> "localhost");
+		registry.add("spring.data.redis.port", () -> redisPort);
+	}
+
+	private static synchronized void start() {
+		if (broker != null) {
+			return;
+		}
+		try {
+			amqpPort = freePort();
+			redisPort = freePort();
+			broker = startBroker();
+			redisServer = new RedisServer(redisPort);
+			redisServer.start();
+		} catch (Exception e) {
+			throw new IllegalStateException("부하 측정 인프라 시작 실패", e);
+		}
+		Runtime.getRuntime().addShutdownHook(new Thread(PerfInfrastructure::stop, "perf-infrastructure-stop"));
+		log.info("부하 측정 인프라 시작 - amqp : {}, redis : {}", amqpPort, redisPort);
+	}
+
+	private static SystemLauncher startBroker() throws Exception {
+		Map<String, Object> context = new HashMap<>();
+		context.put("qpid.amqp_port", String.valueOf(amqpPort));
+		context.put("qpid.work_dir", Files.createTempDirectory("qpid-perf").toString());
+		Map<String, Object> attributes = new HashMap<>();
+		attributes.put("type", "Memory");
+		attributes.put("initialConfigurationLocation",
+			PerfInfrastructure.class.getResource("/qpid-perf.json").toExternalForm());
+		attributes.put("startupLoggedToSystemOut", false);
+		attributes.put("context", context);
+		SystemLauncher launcher = new SystemLauncher();
+		launcher.startup(attributes);
+		return launcher;
+	}
+
+	private static synchronized void stop() {
+		try {
+			if (redisServer != null) {
+				redisServer.stop();
+			}
+		} catch (Exception e) {
+			log.warn("내장 Redis 종료 실패", e);
+		}
+		if (broker != null) {
+			broker.shutdown();
+		}
+	}
+
+	private static int freePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+}
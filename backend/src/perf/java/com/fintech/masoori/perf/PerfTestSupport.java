@@ -0,0 +1,45 @@
+package com.fintech.masoori.perf;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 부하 측정 공통 설정. 하위 클래스는 같은 스프링 컨텍스트와 내장 broker, Redis 를 함께 쓴다.
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("perf")
+abstract class PerfTestSupport {
+
+	@Value("${perf.report-dir:build/reports/perf}")
+	private String reportDir;
+
+	@DynamicPropertySource
+	static void infrastructure(DynamicPropertyRegistry registry) {
+		PerfInfrastructure.register(registry);
+	}
+
+	/**
+	 * {name}-{시각}.txt 로 남기고 표준 출력에도 찍는다.
+	 */
+	protected void writeReport(String name, List<String> lines) throws IOException {
+		Path path = Path.of(reportDir).resolve(
+			name + "-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".txt");
+		Files.createDirectories(path.getParent());
+		Files.write(path, lines);
+		lines.forEach(System.out::println);
+		log.info("부하 측정 결과 : {}", path.toAbsolutePath());
+	}
+}
@@ -2,6 +2,7 @@ package com.fintech.masoori.domain.analytics.service;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -12,9 +13,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.fintech.masoori.domain.analytics.entity.MonthlySpendingAnalytics;
 import com.fintech.masoori.domain.analytics.repository.MonthlySpendingAnalyticsRepository;
+import com.fintech.masoori.domain.credit.entity.CreditCard;
+import com.fintech.masoori.domain.credit.entity.CreditCardUser;
 import com.fintech.masoori.domain.user.entity.User;
 import com.fintech.masoori.domain.user.repository.UserRepository;
 import com.fintech.masoori.global.oauth.ProviderType;
+import com.fintech.masoori.global.rabbitMQ.dto.GeneratedSpending;
+import com.fintech.masoori.global.rabbitMQ.dto.MonthlySpendingAndCreditcard;
 
 import jakarta.persistence.EntityManager;
 
@@ -62,4 +67,40 @@ class MonthlySpendingAnalyticsServiceImplTest {
 		assertThat(monthlySpendingAnalyticsList.get(1).getCategory()).isEqualTo("쇼핑");
 
 	}
+
+	@Test
+	void 소비_내역과_카드_추천을_한번에_등록() {
+		User user = User.builder().email("register@gmail.com").providerType(ProviderType.LOCAL).build();
+		em.persist(user);
+		CreditCard creditCard = CreditCard.builder().name("행복카드").company("현대카드").build();
+		em.persist(creditCard);
+		MonthlySpendingAndCreditcard result = MonthlySpendingAndCreditcard.builder()
+		                                                                  .userId(user.getId())
+		                                                                  .date("2023/9/1")
+		                                                                  .spendings(List.of(
+			                                                                  new GeneratedSpending("식비", 300000, 12),
+			                                                                  new GeneratedSpending("교통", 50000, 20)))
+		                                                                  .creditCardList(List.of(
+			                                                                  new MonthlySpendingAndCreditcard.RecommendedCreditCard(
+				                                                                  creditCard.getId(), "식비 할인")))
+		                                                                  .build();
+
+		monthlySpendingAnalyticsService.registerMonthlyAnalytics(result);
+		em.flush();
+		em.clear();
+
+		LocalDateTime monthStart = LocalDateTime.of(2023, 9, 1, 0, 0);
+		List<MonthlySpendingAnalytics> analyticsList = em.createQuery(
+			"SELECT m FROM MonthlySpendingAnalytics m WHERE m.user.id = :userId", MonthlySpendingAnalytics.class)
+		                                                 .setParameter("userId", user.getId())
+		                                                 .getResultList();
+		assertThat(analyticsList).extracting(MonthlySpendingAnalytics::getCategory).containsExactly("식비", "교통");
+		assertThat(analyticsList).allMatch(analytics -> monthStart.equals(analytics.getCreatedDate()));
+		List<CreditCardUser> creditCardUsers = em.createQuery(
+			"SELECT c FROM CreditCardUser c WHERE c.user.id = :userId", CreditCardUser.class)
+		                                         .setParameter("userId", user.getId())
+		                                         .getResultList();
+		assertThat(creditCardUsers).hasSize(1);
+		assertThat(creditCardUsers.get(0).getCreatedDate()).isEqualTo(monthStart);
+	}
 }
@@ -23,6 +23,7 @@ import com.fintech.masoori.domain.card.entity.Card;
 import com.fintech.masoori.domain.card.exception.AlreadyInProgressException;
 import com.fintech.masoori.domain.card.exception.CanCreateException;
 import com.fintech.masoori.domain.user.entity.User;
+import com.fintech.masoori.global.config.jwt.LoginUser;
 import com.fintech.masoori.global.oauth.ProviderType;
 
 import jakarta.persistence.EntityManager;
@@ -72,13 +73,14 @@ class CardControllerTest {
 		//Principal 설정
 		Authentication auth = new UsernamePasswordAuthenticationToken(testUser.getEmail(), testUser.getPassword());
 		SecurityContextHolder.getContext().setAuthentication(auth);
+		LoginUser loginUser = new LoginUser(testUser.getId(), testUser.getEmail());
 
 		//1.이미 카드가 만들어진 경우
 		LocalDateTime time = LocalDateTime.of(2023, 9, 26, 10, 10);
 		card.setLocalDateTime(time);
 		em.flush();
 		ResponseEntity<BasicCardRes.BasicCard> response = cardController.selectUserLastBasicCard(
-			LocalDateTime.of(2023, 9, 27, 10, 10), auth);
+			LocalDateTime.of(2023, 9, 27, 10, 10), loginUser);
 		log.info("Response1 : {}", response);
 		assertNotNull(response);
 		assertNotNull(response.getBody());
@@ -91,12 +93,12 @@ class CardControllerTest {
 		em.flush();
 		try {
 			ResponseEntity<BasicCardRes.BasicCard> response2 = cardController.selectUserLastBasicCard(LocalDateTime.now(),
-		auth);
+		loginUser);
 		} catch (CanCreateException e){
 			log.info("Create Response2 Message : {}", e.getMessage());
 			log.info("Create Response2 ErrorCode : {}", e.getErrorCode());
 			log.info("Create Response2 Status : {}, {}, {}", e.getErrorCode().getStatus(), e.getErrorCode().getCode(), e.getErrorCode().getMessage());
-			assertThat(e.getErrorCode().getStatus()).isEqualTo(200);
+			assertThat(e.getErrorCode().getStatus()).isEqualTo(400);
 			assertThat(e.getErrorCode().getCode()).isEqualTo("C008");
 		}
 		//3. 카드가 만들어 지고 있는 사용자
@@ -107,7 +109,7 @@ class CardControllerTest {
 		em.flush();
 		try{
 			ResponseEntity<BasicCardRes.BasicCard> response3 = cardController.selectUserLastBasicCard(LocalDateTime.now(),
-				auth);
+				loginUser);
 		} catch (AlreadyInProgressException e){
 			log.info("Create Response3 Message : {}", e.getMessage());
 			log.info("Create Response3 ErrorCode : {}", e.getErrorCode());
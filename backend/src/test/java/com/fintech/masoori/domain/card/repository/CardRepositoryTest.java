@@ -2,6 +2,12 @@ package com.fintech.masoori.domain.card.repository;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,11 +16,17 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fintech.masoori.domain.card.dto.CardType;
+import com.fintech.masoori.domain.card.dto.UserCardId;
+import com.fintech.masoori.domain.card.dto.UserCardListRes;
+import com.fintech.masoori.domain.card.entity.Basic;
 import com.fintech.masoori.domain.card.entity.Card;
+import com.fintech.masoori.domain.card.entity.Challenge;
 import com.fintech.masoori.domain.user.entity.User;
 import com.fintech.masoori.domain.user.repository.UserRepository;
 import com.fintech.masoori.global.oauth.ProviderType;
 
+import jakarta.persistence.EntityManager;
+
 @SpringBootTest
 @Transactional
 class CardRepositoryTest {
@@ -23,8 +35,15 @@ class CardRepositoryTest {
 	CardRepository cardRepository;
 	@Autowired
 	UserRepository userRepository;
+	@Autowired
+	EntityManager em;
 	private static final Logger logger = LoggerFactory.getLogger(CardRepositoryTest.class);
 
+	@AfterEach
+	void disableStatistics() {
+		em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics().setStatisticsEnabled(false);
+	}
+
 	@Test
 	void findCardById() {
 		Card card1 = Card.builder()
@@ -52,4 +71,111 @@ class CardRepositoryTest {
 		}
 		assertThat(findUser.getCardList().get(0).getId()).isEqualTo(card1.getId());
 	}
+
+	@Test
+	void 기간_내_카드를_UserCard_로_조회() {
+		User user = userRepository.save(User.builder()
+		                                    .email("projection@gmail.com")
+		                                    .name("테스트")
+		                                    .password("1234")
+		                                    .providerType(ProviderType.LOCAL)
+		                                    .build());
+		Card first = cardRepository.save(
+			Card.builder().name("소비 카드1").imagePath("D://img/1.img").cardType(CardType.BASIC).user(user).build());
+		Card second = cardRepository.save(
+			Card.builder().name("소비 카드2").imagePath("D://img/2.img").cardType(CardType.BASIC).user(user).build());
+		cardRepository.save(Card.builder().name("챌린지 카드").cardType(CardType.SPECIAL).user(user).build());
+
+		List<UserCardListRes.UserCard> userCards = cardRepository.findRangeUserCard(user.getId(), CardType.BASIC,
+			LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1));
+
+		assertThat(userCards).extracting(UserCardListRes.UserCard::getId)
+		                     .containsExactlyInAnyOrder(first.getId(), second.getId());
+		assertThat(userCards).allSatisfy(userCard -> {
+			assertThat(userCard.getCardType()).isEqualTo(CardType.BASIC);
+			assertThat(userCard.getCreatedDate()).isNotNull();
+		});
+		assertThat(userCards).extracting(UserCardListRes.UserCard::getName).contains("소비 카드1", "소비 카드2");
+	}
+
+	@Test
+	void 소비_카드_상세는_항목까지_쿼리_한_번에_조회() {
+		User user = saveUser("basic-detail@gmail.com");
+		Card card = cardRepository.save(Card.builder().name("소비 카드").cardType(CardType.BASIC).user(user).build());
+		for (int i = 1; i <= 3; i++) {
+			em.persist(Basic.builder().card(card).keyword("음식" + i).totalAmount(1000 * i).frequency(i).build());
+		}
+		em.flush();
+		em.clear();
+		Statistics statistics = statistics();
+
+		Card lazyCard = cardRepository.findCard(user.getId(), CardType.BASIC, card.getId());
+		assertThat(lazyCard.getBasicList()).hasSize(3);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+		em.clear();
+		statistics.clear();
+		Card findCard = cardRepository.findCardWithBasicList(user.getId(), CardType.BASIC, card.getId());
+		assertThat(findCard.getBasicList()).extracting(Basic::getKeyword)
+		                                   .containsExactlyInAnyOrder("음식1", "음식2", "음식3");
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void 챌린지_카드_상세는_챌린지까지_쿼리_한_번에_조회() {
+		User user = saveUser("challenge-detail@gmail.com");
+		Card card = cardRepository.save(Card.builder().name("챌린지 카드").cardType(CardType.SPECIAL).user(user).build());
+		for (int i = 1; i <= 3; i++) {
+			em.persist(
+				Challenge.builder().card(card).achievementCondition("커피 " + i + "번 줄이기").isSuccess(false).build());
+		}
+		em.flush();
+		em.clear();
+		Statistics statistics = statistics();
+
+		Card findCard = cardRepository.findCardWithChallengeList(user.getId(), CardType.SPECIAL, card.getId());
+		assertThat(findCard.getChallengeList()).hasSize(3);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void 항목이_없는_카드도_상세_조회() {
+		User user = saveUser("empty-detail@gmail.com");
+		Card card = cardRepository.save(Card.builder().name("빈 카드").cardType(CardType.BASIC).user(user).build());
+		em.flush();
+		em.clear();
+
+		Card findCard = cardRepository.findCardWithBasicList(user.getId(), CardType.BASIC, card.getId());
+		assertThat(findCard.getId()).isEqualTo(card.getId());
+		assertThat(findCard.getBasicList()).isEmpty();
+	}
+
+	@Test
+	void 사용자별_카드_id_는_최근_카드부터_조회() {
+		User user = saveUser("user-card-ids@gmail.com");
+		Card older = cardRepository.save(Card.builder().name("챌린지 카드1").cardType(CardType.SPECIAL).user(user).build());
+		Card newer = cardRepository.save(Card.builder().name("챌린지 카드2").cardType(CardType.SPECIAL).user(user).build());
+		older.setLocalDateTime(LocalDateTime.of(2023, 9, 4, 10, 0));
+		newer.setLocalDateTime(LocalDateTime.of(2023, 9, 18, 10, 0));
+		em.flush();
+
+		List<UserCardId> userCardIds = cardRepository.findUserCardIds(List.of(user.getId()), CardType.SPECIAL,
+			LocalDateTime.of(2023, 9, 1, 0, 0), LocalDateTime.of(2023, 9, 30, 23, 59));
+
+		assertThat(userCardIds).extracting(UserCardId::getCardId).containsExactly(newer.getId(), older.getId());
+	}
+
+	private User saveUser(String email) {
+		return userRepository.save(User.builder().email(email).name("테스트").providerType(ProviderType.LOCAL).build());
+	}
+
+	/**
+	 * 이 테스트에서만 Hibernate 통계를 켜고 지금까지의 값을 비운다.
+	 */
+	private Statistics statistics() {
+		Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.setStatisticsEnabled(true);
+		statistics.clear();
+		return statistics;
+	}
 }
@@ -12,14 +12,21 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fintech.masoori.domain.card.dto.BasicCardRes;
+import com.fintech.masoori.domain.card.dto.CardTimelineRes;
 import com.fintech.masoori.domain.card.dto.CardType;
 import com.fintech.masoori.domain.card.dto.ChallengeCardRes;
 import com.fintech.masoori.domain.card.dto.UserCardListRes;
 import com.fintech.masoori.domain.card.entity.Basic;
 import com.fintech.masoori.domain.card.entity.Card;
 import com.fintech.masoori.domain.card.entity.Challenge;
+import com.fintech.masoori.domain.card.exception.InvalidCursorException;
+import com.fintech.masoori.domain.card.exception.NoTransactionException;
+import com.fintech.masoori.domain.deal.entity.Deal;
 import com.fintech.masoori.domain.user.entity.User;
+import com.fintech.masoori.global.rabbitMQ.dto.GeneratedSpending;
+import com.fintech.masoori.global.rabbitMQ.dto.GeneratedSpendingCard;
 import com.fintech.masoori.global.oauth.ProviderType;
+import com.fintech.masoori.global.util.CalcDate;
 
 import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
@@ -64,16 +71,16 @@ class CardServiceImplTest {
 			cardList.get(i).setLocalDateTime(LocalDateTime.of(2023, 6 + i, 10 + i, 10, 10, 10));
 		}
 		em.flush();
-		UserCardListRes response = cardService.selectRangeBasicCard(user.getEmail(), LocalDateTime.of(2023, 7, 1, 1, 1),
+		UserCardListRes response = cardService.selectRangeBasicCard(user.getId(), LocalDateTime.of(2023, 7, 1, 1, 1),
 			LocalDateTime.of(2023, 7, 1, 1, 1));
 		assertThat(response.getUserCardList().size() == 1);
-		response = cardService.selectRangeBasicCard(user.getEmail(), LocalDateTime.of(2023, 8, 1, 1, 1),
+		response = cardService.selectRangeBasicCard(user.getId(), LocalDateTime.of(2023, 8, 1, 1, 1),
 			LocalDateTime.of(2023, 8, 1, 1, 1));
 		assertThat(response.getUserCardList().size() == 1);
-		response = cardService.selectRangeBasicCard(user.getEmail(), LocalDateTime.of(2023, 9, 1, 1, 1),
+		response = cardService.selectRangeBasicCard(user.getId(), LocalDateTime.of(2023, 9, 1, 1, 1),
 			LocalDateTime.of(2023, 9, 1, 1, 1));
 		assertThat(response.getUserCardList().size() == 0);
-		response = cardService.selectRangeBasicCard(user.getEmail(), LocalDateTime.of(2023, 7, 1, 1, 1),
+		response = cardService.selectRangeBasicCard(user.getId(), LocalDateTime.of(2023, 7, 1, 1, 1),
 			LocalDateTime.of(2023, 9, 1, 1, 1));
 		assertThat(response.getUserCardList().size() == 2);
 		log.info("Response : {}", response);
@@ -103,7 +110,7 @@ class CardServiceImplTest {
 						.build();
 		em.persist(card);
 		em.flush();
-		BasicCardRes.BasicCard basicCard = cardService.selectBasicCard(user.getEmail(), card.getId());
+		BasicCardRes.BasicCard basicCard = cardService.selectBasicCard(user.getId(), card.getId());
 		assertThat(basicCard.getCard().getId().equals(card.getId()));
 		assertThat(basicCard.getCard().getName().equals(card.getName()));
 	}
@@ -145,16 +152,16 @@ class CardServiceImplTest {
 			cardList.get(i).setLocalDateTime(LocalDateTime.of(2023, 8 + i, 1, 0, 0));
 		}
 		em.flush();
-		UserCardListRes challengeCardList = cardService.selectRangeChallengeCard(user.getEmail(),
+		UserCardListRes challengeCardList = cardService.selectRangeChallengeCard(user.getId(),
 			LocalDateTime.of(2023, 7, 1, 1, 1), LocalDateTime.of(2023, 7, 1, 1, 1));
 		assertThat(challengeCardList.getUserCardList().size() == 0);
-		challengeCardList = cardService.selectRangeChallengeCard(user.getEmail(),
+		challengeCardList = cardService.selectRangeChallengeCard(user.getId(),
 			LocalDateTime.of(2023, 8, 1, 1, 1), LocalDateTime.of(2023, 8, 1, 1, 1));
 		assertThat(challengeCardList.getUserCardList().size() == 1);
-		challengeCardList = cardService.selectRangeChallengeCard(user.getEmail(),
+		challengeCardList = cardService.selectRangeChallengeCard(user.getId(),
 			LocalDateTime.of(2023, 9, 1, 1, 1), LocalDateTime.of(2023, 9, 1, 1, 1));
 		assertThat(challengeCardList.getUserCardList().size() == 1);
-		challengeCardList = cardService.selectRangeChallengeCard(user.getEmail(),
+		challengeCardList = cardService.selectRangeChallengeCard(user.getId(),
 			LocalDateTime.of(2023, 8, 1, 1, 1), LocalDateTime.of(2023, 9, 1, 1, 1));
 		assertThat(challengeCardList.getUserCardList().size() == 2);
 	}
@@ -188,7 +195,7 @@ class CardServiceImplTest {
 						.build();
 		em.persist(card);
 		em.flush();
-		ChallengeCardRes.ChallengeCard challengeCard = cardService.selectChallengeCard(user.getEmail(), card.getId());
+		ChallengeCardRes.ChallengeCard challengeCard = cardService.selectChallengeCard(user.getId(), card.getId());
 		assertThat(challengeCard.getCard().getId().equals(card.getId()));
 		assertThat(challengeCard.getCard().getName().equals(card.getName()));
 	}
@@ -216,18 +223,153 @@ class CardServiceImplTest {
 		em.flush();
 		card.setLocalDateTime(LocalDateTime.of(2023, 9, 25, 1, 10));
 		em.flush();
-		BasicCardRes.BasicCard basicCard = cardService.selectUserRecentBasicCard(user.getEmail(), LocalDateTime.of(2023, 9, 28, 13, 1));
+		BasicCardRes.BasicCard basicCard = cardService.selectUserRecentBasicCard(user.getId(), LocalDateTime.of(2023, 9, 28, 13, 1));
 		assertThat(basicCard != null && basicCard.getCard() != null);
 		log.info("BasicCard : {}", basicCard.getCard());
 		card.setLocalDateTime(LocalDateTime.of(2023, 9, 23, 1, 10));
 		em.flush();
-		basicCard = cardService.selectUserRecentBasicCard(user.getEmail(), LocalDateTime.of(2023, 9, 28, 13, 1));
+		basicCard = cardService.selectUserRecentBasicCard(user.getId(), LocalDateTime.of(2023, 9, 28, 13, 1));
 		assertThat(basicCard == null);
 		log.info("이번주에 생성한 카드가 없습니다. : {}", basicCard);
 		card.setLocalDateTime(LocalDateTime.of(2022, 12, 30, 1, 10));
 		em.flush();
-		basicCard = cardService.selectUserRecentBasicCard(user.getEmail(), LocalDateTime.of(2023, 1, 1, 13, 1));
+		basicCard = cardService.selectUserRecentBasicCard(user.getId(), LocalDateTime.of(2023, 1, 1, 13, 1));
 		assertThat(basicCard != null && basicCard.getCard() != null);
 		log.info("BasicCard : {}", basicCard.getCard());
 	}
+
+	@Test
+	void 생성된_소비카드_일괄_등록() {
+		User user = User.builder().email("batch@gmail.com").providerType(ProviderType.LOCAL).build();
+		em.persist(user);
+		Card challengeCard = Card.builder().user(user).name("챌린지").cardType(CardType.SPECIAL).build();
+		Card spendingCard = Card.builder().user(user).cardType(CardType.BASIC).build();
+		em.persist(challengeCard);
+		em.persist(spendingCard);
+		em.flush();
+		challengeCard.setLocalDateTime(LocalDateTime.of(2023, 9, 1, 0, 0));
+		em.flush();
+
+		GeneratedSpendingCard generated = GeneratedSpendingCard.builder()
+		                                                       .userId(user.getId())
+		                                                       .cardId(spendingCard.getId())
+		                                                       .name("Rising Sun")
+		                                                       .imagePath("sun.png")
+		                                                       .description("설명")
+		                                                       .date("2023/9/10")
+		                                                       .spendings(List.of(new GeneratedSpending("음식", 10000, 3),
+			                                                       new GeneratedSpending("카페", 20000, 5)))
+		                                                       .build();
+		GeneratedSpendingCard missing = GeneratedSpendingCard.builder().userId(user.getId()).cardId(-1L).build();
+
+		List<Long> userIds = cardService.registerSpendingCards(List.of(generated, missing));
+		em.clear();
+
+		assertThat(userIds).containsExactly(user.getId());
+		Card registered = em.find(Card.class, spendingCard.getId());
+		assertThat(registered.getName()).isEqualTo("Rising Sun");
+		assertThat(registered.getBasicList()).hasSize(2);
+		Card challenged = em.find(Card.class, challengeCard.getId());
+		assertThat(challenged.getChallengeIdx()).isEqualTo(1);
+		assertThat(challenged.getChallengeList()).extracting(Challenge::getAchievementCondition)
+		                                         .containsExactly("카페에서 아껴서 3000원 저축 하기");
+	}
+
+	/**
+	 * 소비 카드 타임라인을 커서로 끝까지 넘겨 본다. 생성일이 같은 카드는 id 역순으로 이어진다.
+	 */
+	@Test
+	void 사용자_소비카드_타임라인_조회() {
+		User user = User.builder().email("timeline@gmail.com").providerType(ProviderType.LOCAL).build();
+		em.persist(user);
+		List<Card> cardList = new ArrayList<>();
+		for (int i = 1; i <= 5; i++) {
+			Card card = Card.builder().user(user).name(i + "번 카드").cardType(CardType.BASIC).build();
+			em.persist(card);
+			cardList.add(card);
+		}
+		em.persist(Card.builder().user(user).name("챌린지 카드").cardType(CardType.SPECIAL).build());
+		em.flush();
+		for (int i = 0; i < cardList.size(); i++) {
+			cardList.get(i).setLocalDateTime(LocalDateTime.of(2023, 9, 1 + Math.min(i, 3), 10, 0));
+		}
+		em.flush();
+
+		List<Long> ids = new ArrayList<>();
+		List<Integer> pageSizes = new ArrayList<>();
+		String cursor = null;
+		do {
+			CardTimelineRes page = cardService.selectBasicCardTimeline(user.getId(), cursor, 2);
+			page.getUserCardList().forEach(userCard -> ids.add(userCard.getId()));
+			pageSizes.add(page.getUserCardList().size());
+			assertThat(page.isHasNext()).isEqualTo(page.getNextCursor() != null);
+			cursor = page.getNextCursor();
+		} while (cursor != null);
+
+		assertThat(pageSizes).containsExactly(2, 2, 1);
+		assertThat(ids).containsExactly(cardList.get(4).getId(), cardList.get(3).getId(), cardList.get(2).getId(),
+			cardList.get(1).getId(), cardList.get(0).getId());
+	}
+
+	@Test
+	void 잘못된_커서로_타임라인_조회() {
+		User user = User.builder().email("timeline@gmail.com").providerType(ProviderType.LOCAL).build();
+		em.persist(user);
+
+		assertThatThrownBy(() -> cardService.selectBasicCardTimeline(user.getId(), "not-a-cursor", 20))
+			.isInstanceOf(InvalidCursorException.class);
+	}
+
+	@Test
+	void 지난_주_거래내역이_없으면_소비카드를_만들지_않음() {
+		User user = User.builder().email("no-deal@gmail.com").providerType(ProviderType.LOCAL).build();
+		em.persist(user);
+		em.flush();
+
+		assertThatThrownBy(() -> cardService.createSpendingCard(user.getId()))
+			.isInstanceOf(NoTransactionException.class);
+		cardService.createScheduledSpendingCard(user.getEmail());
+
+		Long cardCount = em.createQuery("SELECT COUNT(c) FROM Card c WHERE c.user.id = :userId", Long.class)
+		                   .setParameter("userId", user.getId())
+		                   .getSingleResult();
+		assertThat(cardCount).isZero();
+	}
+
+	@Test
+	void 이미_지난_주_소비카드가_있으면_배치에서_다시_만들지_않음() {
+		User user = User.builder().email("resumed@gmail.com").providerType(ProviderType.LOCAL).build();
+		em.persist(user);
+		em.persist(Deal.builder()
+		               .user(user)
+		               .date(CalcDate.calcLastWeek().getStartDate().plusDays(1))
+		               .content("커피")
+		               .amount(4500)
+		               .dealPlaceName("스타벅스")
+		               .build());
+		em.persist(Card.builder().cardType(CardType.BASIC).user(user).build());
+		em.flush();
+
+		cardService.createScheduledSpendingCard(user.getEmail());
+
+		Long cardCount = em.createQuery("SELECT COUNT(c) FROM Card c WHERE c.user.id = :userId", Long.class)
+		                   .setParameter("userId", user.getId())
+		                   .getSingleResult();
+		assertThat(cardCount).isEqualTo(1);
+	}
+
+	@Test
+	void 이미_이번_달_챌린지카드가_있으면_배치에서_다시_만들지_않음() {
+		User user = User.builder().email("resumed-challenge@gmail.com").providerType(ProviderType.LOCAL).build();
+		em.persist(user);
+		em.persist(Card.builder().cardType(CardType.SPECIAL).user(user).name("챌린지").challengeIdx(0).build());
+		em.flush();
+
+		cardService.createChallengeCard(user.getEmail());
+
+		Long cardCount = em.createQuery("SELECT COUNT(c) FROM Card c WHERE c.user.id = :userId", Long.class)
+		                   .setParameter("userId", user.getId())
+		                   .getSingleResult();
+		assertThat(cardCount).isEqualTo(1);
+	}
 }
@@ -0,0 +1,29 @@
+package com.fintech.masoori.domain.card.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashSet;
+
+import org.junit.jupiter.api.Test;
+
+class ChallengeCardNamesTest {
+
+	@Test
+	void 이름_전체는_330개이고_중복이_없다() {
+		assertThat(ChallengeCardNames.all()).hasSize(330);
+		assertThat(new HashSet<>(ChallengeCardNames.all())).hasSize(330);
+	}
+
+	@Test
+	void 무작위_이름은_전체_이름_중_하나() {
+		for (int i = 0; i < 100; i++) {
+			assertThat(ChallengeCardNames.all()).contains(ChallengeCardNames.random());
+		}
+	}
+
+	@Test
+	void 대소문자와_공백_차이는_같은_키() {
+		assertThat(ChallengeCardNames.normalize("  Rising   Wheel of Fortune "))
+			.isEqualTo(ChallengeCardNames.normalize("rising wheel of fortune"));
+	}
+}
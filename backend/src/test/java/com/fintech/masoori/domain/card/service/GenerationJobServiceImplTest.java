@@ -0,0 +1,109 @@
+package com.fintech.masoori.domain.card.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fintech.masoori.domain.card.dto.GenerationJob;
+import com.fintech.masoori.domain.card.dto.GenerationJobStatus;
+import com.fintech.masoori.domain.card.dto.GenerationJobType;
+
+class GenerationJobServiceImplTest {
+
+	private static final String JOB_KEY = "GENERATION_JOB:job-1";
+	private static final String ACTIVE_KEY = "GENERATION_JOB_ACTIVE:SPENDING:1";
+
+	private RedisTemplate<String, String> redisTemplate;
+	private ValueOperations<String, String> valueOperations;
+	private HashOperations<String, Object, Object> hashOperations;
+	private GenerationJobServiceImpl generationJobService;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redisTemplate = mock(RedisTemplate.class);
+		valueOperations = mock(ValueOperations.class);
+		hashOperations = mock(HashOperations.class);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+		generationJobService = new GenerationJobServiceImpl(redisTemplate);
+		ReflectionTestUtils.setField(generationJobService, "timeoutMinutes", 30L);
+		ReflectionTestUtils.setField(generationJobService, "bulkTimeoutMinutes", 360L);
+		ReflectionTestUtils.setField(generationJobService, "ttlHours", 24L);
+	}
+
+	private Map<Object, Object> hash(GenerationJobStatus status, LocalDateTime createdDate,
+		LocalDateTime startedDate) {
+		Map<Object, Object> hash = new HashMap<>();
+		hash.put("jobId", "job-1");
+		hash.put("type", GenerationJobType.SPENDING.name());
+		hash.put("status", status.name());
+		hash.put("userId", "1");
+		hash.put("timeoutMinutes", "360");
+		hash.put("createdDate", createdDate.toString());
+		if (startedDate != null) {
+			hash.put("startedDate", startedDate.toString());
+		}
+		return hash;
+	}
+
+	@Test
+	void 스케줄러_작업은_발행_구간을_기다리는_동안_시간_초과되지_않음() {
+		when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+		generationJobService.tryStart(GenerationJobType.SPENDING, 1L);
+		generationJobService.start(GenerationJobType.CHALLENGE, 1L);
+
+		verify(valueOperations).setIfAbsent(eq(ACTIVE_KEY), anyString(), eq(Duration.ofMinutes(360)));
+		verify(valueOperations).setIfAbsent(eq("GENERATION_JOB_ACTIVE:CHALLENGE:1"), anyString(),
+			eq(Duration.ofMinutes(30)));
+
+		when(hashOperations.entries(JOB_KEY)).thenReturn(
+			hash(GenerationJobStatus.QUEUED, LocalDateTime.now().minusHours(2), null));
+
+		GenerationJob job = generationJobService.getJob(1L, "job-1");
+
+		assertThat(job.getStatus()).isEqualTo(GenerationJobStatus.QUEUED);
+		verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(), any(), any(), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void RUNNING_뒤에는_시작_시각부터_시간_초과를_잼() {
+		when(hashOperations.entries(JOB_KEY)).thenReturn(
+			hash(GenerationJobStatus.RUNNING, LocalDateTime.now().minusHours(5), LocalDateTime.now().minusMinutes(40)));
+
+		generationJobService.getJob(1L, "job-1");
+
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(JOB_KEY)),
+			eq(GenerationJobStatus.FAILED.name()), eq("finishedDate"), anyString(), eq("시간 초과"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void RUNNING_으로_바뀌면_선점_키를_시작_시각부터_다시_잡음() {
+		when(valueOperations.get("GENERATION_JOB_CARD:10")).thenReturn("job-1");
+		when(redisTemplate.execute(any(RedisScript.class), eq(List.of(JOB_KEY)), any(), any(), any(), any()))
+			.thenReturn(1L);
+		when(hashOperations.get(JOB_KEY, "type")).thenReturn(GenerationJobType.SPENDING.name());
+		when(hashOperations.get(JOB_KEY, "userId")).thenReturn("1");
+
+		generationJobService.running(List.of(10L));
+
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(ACTIVE_KEY)), eq("job-1"), eq("1800"));
+	}
+}
@@ -0,0 +1,72 @@
+package com.fintech.masoori.domain.card.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class LocalCardCacheTest {
+
+	@Test
+	void 넣은_결과를_사용자와_view_로_찾는다() {
+		LocalCardCache cache = new LocalCardCache(10, 10, 60000);
+		cache.put(1L, 0, "DETAIL:BASIC:1", "카드1");
+
+		assertThat(cache.get(1L, "DETAIL:BASIC:1")).isEqualTo("카드1");
+		assertThat(cache.get(1L, "DETAIL:BASIC:2")).isNull();
+		assertThat(cache.get(2L, "DETAIL:BASIC:1")).isNull();
+	}
+
+	@Test
+	void 비우면_이전_버전_결과는_다시_넣지_않는다() {
+		LocalCardCache cache = new LocalCardCache(10, 10, 60000);
+		cache.put(1L, 0, "RANGE", "이전 목록");
+
+		cache.invalidate(1L, 1);
+		assertThat(cache.get(1L, "RANGE")).isNull();
+
+		// 비우기 전에 버전 0 으로 읽기 시작한 조회가 늦게 넣는 경우
+		cache.put(1L, 0, "RANGE", "늦게 도착한 이전 목록");
+		assertThat(cache.get(1L, "RANGE")).isNull();
+
+		cache.put(1L, 1, "RANGE", "새 목록");
+		assertThat(cache.get(1L, "RANGE")).isEqualTo("새 목록");
+	}
+
+	@Test
+	void 알림을_먼저_받아도_이전_버전은_넣지_않는다() {
+		LocalCardCache cache = new LocalCardCache(10, 10, 60000);
+		cache.invalidate(1L, 3);
+
+		cache.put(1L, 2, "RANGE", "이전 목록");
+
+		assertThat(cache.get(1L, "RANGE")).isNull();
+	}
+
+	@Test
+	void 사용자와_view_는_최근_사용_순으로_개수를_제한한다() {
+		LocalCardCache cache = new LocalCardCache(2, 2, 60000);
+		cache.put(1L, 0, "A", "1-A");
+		cache.put(1L, 0, "B", "1-B");
+		cache.get(1L, "A");
+		cache.put(1L, 0, "C", "1-C");
+
+		assertThat(cache.get(1L, "A")).isEqualTo("1-A");
+		assertThat(cache.get(1L, "B")).isNull();
+
+		cache.put(2L, 0, "A", "2-A");
+		cache.get(1L, "A");
+		cache.put(3L, 0, "A", "3-A");
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get(1L, "A")).isEqualTo("1-A");
+		assertThat(cache.get(2L, "A")).isNull();
+	}
+
+	@Test
+	void 유지_시간이_지난_결과는_버린다() {
+		LocalCardCache cache = new LocalCardCache(10, 10, 0);
+		cache.put(1L, 0, "RANGE", "목록");
+
+		assertThat(cache.get(1L, "RANGE")).isNull();
+	}
+}
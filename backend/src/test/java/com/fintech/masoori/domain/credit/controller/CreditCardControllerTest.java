@@ -26,6 +26,7 @@ import com.fintech.masoori.domain.credit.repository.CreditCardRepository;
 import com.fintech.masoori.domain.credit.repository.CreditCardUserRepository;
 import com.fintech.masoori.domain.user.entity.User;
 import com.fintech.masoori.domain.user.repository.UserRepository;
+import com.fintech.masoori.global.config.jwt.LoginUser;
 import com.fintech.masoori.global.oauth.ProviderType;
 
 import lombok.extern.slf4j.Slf4j;
@@ -102,7 +103,7 @@ class CreditCardControllerTest {
 
 		ResponseEntity<MonthlyInfoRes> response = creditCardController.selectMonthCreditCardUser(
 			LocalDateTime.now(),
-			auth);
+			new LoginUser(testUser.getId(), testUser.getEmail()));
 
 		log.info("Response : {}", response);
 
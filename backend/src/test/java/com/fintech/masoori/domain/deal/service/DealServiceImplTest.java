@@ -0,0 +1,78 @@
+package com.fintech.masoori.domain.deal.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fintech.masoori.domain.deal.entity.Deal;
+import com.fintech.masoori.domain.user.entity.User;
+import com.fintech.masoori.global.oauth.ProviderType;
+import com.fintech.masoori.global.rabbitMQ.dto.Transaction;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+@Transactional
+class DealServiceImplTest {
+
+	@Autowired
+	EntityManager em;
+	@Autowired
+	DealService dealService;
+
+	@Test
+	void 사용자별_거래내역_일괄_조회() {
+		List<User> userList = new ArrayList<>();
+		for (int i = 1; i <= 3; i++) {
+			User user = User.builder().email("deal" + i + "@gmail.com").providerType(ProviderType.LOCAL).build();
+			em.persist(user);
+			userList.add(user);
+		}
+		// 1번, 3번 사용자만 거래내역이 있다.
+		for (int i = 1; i <= 3; i++) {
+			em.persist(Deal.builder()
+			               .date(LocalDateTime.of(2023, 9, 10 - i, 12, 0))
+			               .amount(1000 * i)
+			               .content("거래" + i)
+			               .dealPlaceName("스타벅스")
+			               .user(userList.get(0))
+			               .build());
+		}
+		em.persist(Deal.builder()
+		               .date(LocalDateTime.of(2023, 9, 5, 12, 0))
+		               .amount(5000)
+		               .content("거래")
+		               .dealPlaceName("이마트")
+		               .user(userList.get(2))
+		               .build());
+		// 기간 밖 거래내역
+		em.persist(Deal.builder()
+		               .date(LocalDateTime.of(2023, 10, 5, 12, 0))
+		               .amount(5000)
+		               .dealPlaceName("이마트")
+		               .user(userList.get(1))
+		               .build());
+		em.flush();
+		em.clear();
+
+		Map<Long, List<Transaction>> result = new LinkedHashMap<>();
+		dealService.forEachUserTransactions(userList.stream().map(User::getId).toList(),
+			LocalDateTime.of(2023, 9, 1, 0, 0), LocalDateTime.of(2023, 9, 30, 23, 59), result::put);
+
+		assertThat(result.keySet()).containsExactly(userList.get(0).getId(), userList.get(1).getId(),
+			userList.get(2).getId());
+		assertThat(result.get(userList.get(0).getId())).extracting(Transaction::getAmount)
+		                                                .containsExactly(3000, 2000, 1000);
+		assertThat(result.get(userList.get(1).getId())).isEmpty();
+		assertThat(result.get(userList.get(2).getId())).hasSize(1);
+	}
+}
@@ -0,0 +1,46 @@
+package com.fintech.masoori.domain.deal.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fintech.masoori.global.rabbitMQ.dto.MerchantAggregate;
+import com.fintech.masoori.global.rabbitMQ.dto.Transaction;
+
+class MerchantAggregatorTest {
+
+	private Transaction transaction(String place, int amount, LocalDateTime date, String content) {
+		return Transaction.builder().dealPlaceName(place).amount(amount).date(date).content(content).build();
+	}
+
+	@Test
+	void 정규화한_가맹점_이름별로_요약() {
+		LocalDateTime monday = LocalDateTime.of(2023, 9, 4, 12, 0);
+		List<Transaction> transactions = List.of(
+			transaction("스타벅스 (강남점)", 4500, monday.plusDays(2), "아메리카노"),
+			transaction("스타벅스", 5000, monday, "라떼"),
+			transaction("(주)스타벅스  ", 6000, monday.plusDays(4), "케이크"),
+			transaction("이마트", 52000, monday.plusDays(1), "장보기"),
+			transaction(null, 1000, monday, "현금"));
+
+		List<MerchantAggregate> aggregates = MerchantAggregator.aggregate(transactions);
+
+		assertThat(aggregates).extracting(MerchantAggregate::getTotalAmount).containsExactly(52000L, 15500L, 1000L);
+		MerchantAggregate starbucks = aggregates.get(1);
+		assertThat(starbucks.getDealPlaceName()).isEqualTo("스타벅스 (강남점)");
+		assertThat(starbucks.getCount()).isEqualTo(3);
+		assertThat(starbucks.getFirstDate()).isEqualTo(monday);
+		assertThat(starbucks.getLastDate()).isEqualTo(monday.plusDays(4));
+		assertThat(starbucks.getSampleContent()).isEqualTo("아메리카노");
+		assertThat(aggregates.get(2).getDealPlaceName()).isEqualTo(MerchantAggregator.UNKNOWN_PLACE);
+	}
+
+	@Test
+	void 전각_공백_대소문자_차이는_같은_가맹점() {
+		assertThat(MerchantAggregator.normalize("ＧＳ２５ 역삼점")).isEqualTo(MerchantAggregator.normalize("gs25역삼점"));
+		assertThat(MerchantAggregator.normalize("㈜쿠팡")).isEqualTo(MerchantAggregator.normalize("쿠팡"));
+	}
+}
@@ -0,0 +1,59 @@
+package com.fintech.masoori.domain.user.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.fintech.masoori.domain.user.exception.UserNotFoundException;
+import com.fintech.masoori.domain.user.repository.UserRepository;
+
+class UserIdResolverTest {
+
+	private UserRepository userRepository() {
+		UserRepository userRepository = mock(UserRepository.class);
+		when(userRepository.findIdByEmail("a@gmail.com")).thenReturn(Optional.of(1L));
+		when(userRepository.findIdByEmail("b@gmail.com")).thenReturn(Optional.of(2L));
+		when(userRepository.findIdByEmail("c@gmail.com")).thenReturn(Optional.of(3L));
+		return userRepository;
+	}
+
+	@Test
+	void 한_번_찾은_이메일은_다시_조회하지_않는다() {
+		UserRepository userRepository = userRepository();
+		UserIdResolver resolver = new UserIdResolver(userRepository, 10);
+
+		assertThat(resolver.resolve("a@gmail.com")).isEqualTo(1L);
+		assertThat(resolver.resolve("a@gmail.com")).isEqualTo(1L);
+
+		verify(userRepository, times(1)).findIdByEmail("a@gmail.com");
+	}
+
+	@Test
+	void 최근_사용_순으로_개수를_제한한다() {
+		UserRepository userRepository = userRepository();
+		UserIdResolver resolver = new UserIdResolver(userRepository, 2);
+		resolver.resolve("a@gmail.com");
+		resolver.resolve("b@gmail.com");
+		resolver.resolve("a@gmail.com");
+		resolver.resolve("c@gmail.com");
+
+		assertThat(resolver.size()).isEqualTo(2);
+		resolver.resolve("a@gmail.com");
+		resolver.resolve("b@gmail.com");
+
+		verify(userRepository, times(1)).findIdByEmail("a@gmail.com");
+		verify(userRepository, times(2)).findIdByEmail("b@gmail.com");
+	}
+
+	@Test
+	void 없는_사용자는_예외() {
+		UserRepository userRepository = userRepository();
+		when(userRepository.findIdByEmail("none@gmail.com")).thenReturn(Optional.empty());
+		UserIdResolver resolver = new UserIdResolver(userRepository, 10);
+
+		assertThatThrownBy(() -> resolver.resolve("none@gmail.com")).isInstanceOf(UserNotFoundException.class);
+	}
+}
@@ -0,0 +1,121 @@
+package com.fintech.masoori.global.notification.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.fintech.masoori.domain.user.entity.User;
+import com.fintech.masoori.domain.user.repository.UserRepository;
+import com.fintech.masoori.global.notification.dto.NotificationType;
+import com.fintech.masoori.global.notification.provider.LocalSmsProvider;
+import com.fintech.masoori.global.notification.provider.SmsProvider;
+import com.fintech.masoori.global.notification.provider.SmsSendException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class NotificationDispatcherTest {
+
+	private NotificationDispatcher dispatcher;
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		dispatcher.destroy();
+	}
+
+	private UserRepository userRepository(User... users) {
+		UserRepository userRepository = mock(UserRepository.class);
+		when(userRepository.findAllById(any())).thenReturn(List.of(users));
+		return userRepository;
+	}
+
+	private User user(Long id, String phoneNumber) {
+		User user = mock(User.class);
+		when(user.getId()).thenReturn(id);
+		when(user.getPhoneNumber()).thenReturn(phoneNumber);
+		return user;
+	}
+
+	private NotificationDispatcher dispatcher(UserRepository userRepository, SmsProvider smsProvider, int groupSize) {
+		// 자동 drain 이 테스트 중에 돌지 않도록 linger 를 길게 둔다.
+		return new NotificationDispatcher(userRepository, smsProvider, new SimpleMeterRegistry(), 1, 100, 60000,
+			groupSize, 3, 10);
+	}
+
+	@Test
+	void 사용자별_알림은_한_통으로_합치고_같은_문구는_묶어서_발송() {
+		LocalSmsProvider smsProvider = new LocalSmsProvider();
+		dispatcher = dispatcher(userRepository(user(1L, "01011111111"), user(2L, "01022222222"),
+			user(3L, "01033333333")), smsProvider, 100);
+
+		dispatcher.submit(List.of(1L, 2L, 3L), NotificationType.TAROT_CARD);
+		dispatcher.submit(List.of(1L), NotificationType.CHALLENGE);
+		dispatcher.submit(List.of(2L), NotificationType.TAROT_CARD);
+		dispatcher.drain();
+
+		await(() -> smsProvider.getSent().size() == 2);
+		assertThat(smsProvider.getSent()).anySatisfy(sms -> {
+			assertThat(sms.getText()).isEqualTo(NotificationType.compose(Set.of(NotificationType.TAROT_CARD)));
+			assertThat(sms.getPhoneNumbers()).containsExactly("01022222222", "01033333333");
+		});
+		assertThat(smsProvider.getSent()).anySatisfy(sms -> {
+			assertThat(sms.getText()).contains("타로 카드", "챌린지");
+			assertThat(sms.getPhoneNumbers()).containsExactly("01011111111");
+		});
+	}
+
+	@Test
+	void group_size_명씩_나눠서_발송() {
+		LocalSmsProvider smsProvider = new LocalSmsProvider();
+		dispatcher = dispatcher(userRepository(user(1L, "01011111111"), user(2L, "01022222222"),
+			user(3L, "01033333333")), smsProvider, 2);
+
+		dispatcher.submit(List.of(1L, 2L, 3L), NotificationType.TAROT_CARD);
+		dispatcher.drain();
+
+		await(() -> smsProvider.getSent().size() == 2);
+		assertThat(smsProvider.getSent()).extracting(sms -> sms.getPhoneNumbers().size())
+		                                 .containsExactlyInAnyOrder(2, 1);
+	}
+
+	@Test
+	void 발송에_실패하면_backoff_후_재시도() {
+		AtomicInteger calls = new AtomicInteger();
+		LocalSmsProvider delegate = new LocalSmsProvider();
+		SmsProvider flaky = (text, phoneNumbers) -> {
+			if (calls.incrementAndGet() < 3) {
+				throw new SmsSendException("일시 오류", null);
+			}
+			delegate.sendGroup(text, phoneNumbers);
+		};
+		dispatcher = dispatcher(userRepository(user(1L, "01011111111")), flaky, 100);
+
+		dispatcher.submit(List.of(1L), NotificationType.CHALLENGE);
+		dispatcher.drain();
+
+		await(() -> delegate.getSent().size() == 1);
+		assertThat(calls).hasValue(3);
+	}
+
+	private void await(BooleanSupplier condition) {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!condition.getAsBoolean()) {
+			if (System.currentTimeMillis() > deadline) {
+				fail("시간 초과");
+			}
+			try {
+				Thread.sleep(10);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+}
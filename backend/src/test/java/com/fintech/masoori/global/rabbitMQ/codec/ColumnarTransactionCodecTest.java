@@ -0,0 +1,78 @@
+package com.fintech.masoori.global.rabbitMQ.codec;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+
+import com.fintech.masoori.global.config.RabbitMQConfig;
+import com.fintech.masoori.global.rabbitMQ.dto.AnalyticsRequestMessage;
+import com.fintech.masoori.global.rabbitMQ.dto.MessageBatch;
+import com.fintech.masoori.global.rabbitMQ.dto.Transaction;
+
+class ColumnarTransactionCodecTest {
+
+	private AnalyticsRequestMessage monthlyMessage(long userId, int rows) {
+		List<Transaction> transactions = new ArrayList<>();
+		LocalDateTime date = LocalDateTime.of(2023, 9, 1, 9, 30);
+		for (int i = 0; i < rows; i++) {
+			transactions.add(Transaction.builder()
+			                            .id(1000L + i)
+			                            .date(date.plusHours(i * 7L))
+			                            .content(i % 3 == 0 ? "점심" : "커피")
+			                            .amount(i % 5 == 0 ? -4500 : 12000 + i)
+			                            .dealPlaceName(i % 2 == 0 ? "스타벅스" : null)
+			                            .build());
+		}
+		return AnalyticsRequestMessage.builder()
+		                              .userId(userId)
+		                              .date("2023/9/1")
+		                              .userMonthlyTransactionList(transactions)
+		                              .build();
+	}
+
+	@Test
+	void 인코딩한_메시지를_그대로_복원() {
+		List<AnalyticsRequestMessage> messages = List.of(monthlyMessage(1L, 120), monthlyMessage(2L, 0),
+			monthlyMessage(3L, 7));
+
+		List<AnalyticsRequestMessage> decoded = ColumnarTransactionCodec.decode(
+			ColumnarTransactionCodec.encode(messages));
+
+		assertThat(decoded).hasSize(3);
+		for (int i = 0; i < messages.size(); i++) {
+			assertThat(decoded.get(i).getUserId()).isEqualTo(messages.get(i).getUserId());
+			assertThat(decoded.get(i).getDate()).isEqualTo(messages.get(i).getDate());
+			assertThat(decoded.get(i).getUserMonthlyTransactionList()).usingRecursiveFieldByFieldElementComparator()
+			                                                          .containsExactlyElementsOf(
+				                                                          messages.get(i).getUserMonthlyTransactionList());
+		}
+	}
+
+	@Test
+	void JSON_보다_작게_인코딩() throws Exception {
+		AnalyticsRequestMessage message = monthlyMessage(1L, 300);
+
+		byte[] json = RabbitMQConfig.messageObjectMapper().writeValueAsBytes(message);
+		byte[] columnar = ColumnarTransactionCodec.encode(List.of(message));
+
+		assertThat(columnar.length * 4).isLessThan(json.length);
+	}
+
+	@Test
+	void 압축과_배치_헤더를_붙여도_복원() {
+		AnalyticsMessageEncoder encoder = new AnalyticsMessageEncoder("columnar", true, 16);
+
+		Message message = encoder.encode(List.of(monthlyMessage(1L, 50), monthlyMessage(2L, 50)), true);
+
+		assertThat(message.getMessageProperties().getContentType()).isEqualTo(WireFormat.COLUMNAR.getContentType());
+		assertThat(message.getMessageProperties().getContentEncoding()).isEqualTo(AnalyticsMessageEncoder.GZIP);
+		assertThat(message.getMessageProperties().<Integer>getHeader(MessageBatch.VERSION_HEADER)).isEqualTo(1);
+		assertThat(AnalyticsMessageEncoder.decode(message)).extracting(AnalyticsRequestMessage::getUserId)
+		                                                   .containsExactly(1L, 2L);
+	}
+}
@@ -0,0 +1,65 @@
+package com.fintech.masoori.global.rabbitMQ.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import com.fintech.masoori.global.rabbitMQ.dto.ClaimCheck;
+
+class ClaimCheckServiceTest {
+
+	private final InMemoryClaimCheckStore store = new InMemoryClaimCheckStore();
+	private final ClaimCheckService claimCheckService = new ClaimCheckService(store, 100, List.of("analytics.req"));
+
+	private Message message(int size) {
+		byte[] body = new byte[size];
+		Arrays.fill(body, (byte)'a');
+		MessageProperties properties = new MessageProperties();
+		properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+		return new Message(body, properties);
+	}
+
+	@Test
+	void 기준보다_큰_본문만_참조로_바꾸고_되돌리기() {
+		Message small = message(100);
+		assertThat(claimCheckService.postProcessMessage(small, null, "", "analytics.req")).isSameAs(small);
+
+		Message checked = claimCheckService.postProcessMessage(message(5000), null, "", "analytics.req");
+		assertThat(checked.getMessageProperties().getContentType()).isEqualTo(ClaimCheck.CONTENT_TYPE);
+		assertThat(checked.getBody().length).isLessThan(500);
+		assertThat(store.payloads).hasSize(1);
+
+		Message resolved = claimCheckService.resolve(checked);
+		assertThat(resolved.getBody()).hasSize(5000);
+		assertThat(resolved.getMessageProperties().getContentType()).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+	}
+
+	@Test
+	void 대상이_아닌_큐는_그대로_발행() {
+		Message large = message(5000);
+
+		assertThat(claimCheckService.postProcessMessage(large, null, "", "spending.req")).isSameAs(large);
+	}
+
+	@Test
+	void 소비자가_풀_수_없는_큐는_설정에서_거부() {
+		assertThatThrownBy(() -> new ClaimCheckService(store, 100, List.of("analytics.req", "spending.req")))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatCode(() -> new ClaimCheckService(store, 100, List.of(""))).doesNotThrowAnyException();
+	}
+
+	@Test
+	void 체크섬이_다르면_거부() {
+		Message checked = claimCheckService.checkIn(message(5000));
+		store.payloads.replaceAll((id, payload) -> new byte[] {1, 2, 3});
+
+		assertThatThrownBy(() -> claimCheckService.resolve(checked))
+			.isInstanceOf(AmqpRejectAndDontRequeueException.class);
+	}
+}
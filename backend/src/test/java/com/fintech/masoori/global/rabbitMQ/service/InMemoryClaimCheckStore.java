@@ -0,0 +1,24 @@
+package com.fintech.masoori.global.rabbitMQ.service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+class InMemoryClaimCheckStore implements ClaimCheckStore {
+	final Map<String, byte[]> payloads = new ConcurrentHashMap<>();
+
+	@Override
+	public String getName() {
+		return "redis";
+	}
+
+	@Override
+	public void put(String id, byte[] payload) {
+		payloads.put(id, payload);
+	}
+
+	@Override
+	public Optional<byte[]> get(String id) {
+		return Optional.ofNullable(payloads.get(id));
+	}
+}
@@ -0,0 +1,141 @@
+package com.fintech.masoori.global.rabbitMQ.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import com.fintech.masoori.global.config.RetryTopologyProperties;
+import com.fintech.masoori.global.rabbitMQ.dto.GeneratedChallengeCard;
+import com.fintech.masoori.global.rabbitMQ.dto.MessageBatch;
+
+class MessageBatchReaderTest {
+
+	private RabbitTemplate rabbitTemplate;
+	private MessageBatchReader messageBatchReader;
+
+	@BeforeEach
+	void setUp() {
+		rabbitTemplate = mock(RabbitTemplate.class);
+		RetryTopologyProperties retryTopologyProperties = new RetryTopologyProperties();
+		retryTopologyProperties.setQueues(List.of("challenge.res"));
+		retryTopologyProperties.setMaxRetries(2);
+		messageBatchReader = new MessageBatchReader(new ClaimCheckService(new InMemoryClaimCheckStore(), 1024, List.of()),
+			new RetryTopologyRecoverer(rabbitTemplate, retryTopologyProperties));
+	}
+
+	private Message message(String body, Integer version) {
+		MessageProperties properties = new MessageProperties();
+		properties.setConsumerQueue("challenge.res");
+		properties.setMessageId("batch-1");
+		properties.setHeader("x-requested-at", "2023-10-01T09:00:00");
+		if (version != null) {
+			properties.setHeader(MessageBatch.VERSION_HEADER, version);
+		}
+		return new Message(body.getBytes(StandardCharsets.UTF_8), properties);
+	}
+
+	@Test
+	void 헤더_없는_메시지는_단건으로_읽기() {
+		List<GeneratedChallengeCard> items = messageBatchReader.read(message("{\"cardId\":1,\"imagePath\":\"a.png\"}", null),
+			GeneratedChallengeCard.class);
+
+		assertThat(items).hasSize(1);
+		assertThat(items.get(0).getCardId()).isEqualTo(1L);
+	}
+
+	@Test
+	void 배치_봉투는_항목_목록으로_읽기() {
+		String body = "{\"version\":1,\"batchId\":\"b1\",\"items\":[{\"cardId\":1},{\"cardId\":2}]}";
+
+		List<GeneratedChallengeCard> items = messageBatchReader.read(message(body, 1), GeneratedChallengeCard.class);
+
+		assertThat(items).extracting(GeneratedChallengeCard::getCardId).containsExactly(1L, 2L);
+	}
+
+	@Test
+	void 모르는_버전은_거부() {
+		assertThatThrownBy(() -> messageBatchReader.read(message("{\"items\":[]}", 99), GeneratedChallengeCard.class))
+			.isInstanceOf(AmqpRejectAndDontRequeueException.class);
+	}
+
+	@Test
+	void 배치는_실패한_항목을_건너뛰고_계속_처리() throws Exception {
+		String body = "{\"version\":1,\"items\":[{\"cardId\":1},{\"cardId\":2},{\"cardId\":3}]}";
+		List<Long> handled = new ArrayList<>();
+
+		messageBatchReader.forEach(message(body, 1), GeneratedChallengeCard.class, item -> {
+			if (item.getCardId() == 2L) {
+				throw new IllegalStateException("fail");
+			}
+			handled.add(item.getCardId());
+		});
+
+		assertThat(handled).containsExactly(1L, 3L);
+	}
+
+	@Test
+	void 배치에서_실패한_항목은_원래_헤더를_가진_단건으로_재시도_큐에_넘김() throws Exception {
+		String body = "{\"version\":1,\"items\":[{\"cardId\":1},{\"cardId\":2}]}";
+
+		messageBatchReader.forEach(message(body, 1), GeneratedChallengeCard.class, item -> {
+			if (item.getCardId() == 2L) {
+				throw new IllegalStateException("fail");
+			}
+		});
+
+		ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+		verify(rabbitTemplate).send(eq("masoori.retry"), eq("challenge.res.retry.1"), captor.capture());
+		Message retried = captor.getValue();
+		assertThat(retried.getMessageProperties().getHeaders())
+			.doesNotContainKey(MessageBatch.VERSION_HEADER)
+			.containsEntry("x-requested-at", "2023-10-01T09:00:00")
+			.containsEntry(RetryTopologyRecoverer.RETRY_COUNT_HEADER, 1);
+		assertThat(retried.getMessageProperties().getMessageId()).isEqualTo("batch-1:1");
+		assertThat(messageBatchReader.read(retried, GeneratedChallengeCard.class))
+			.extracting(GeneratedChallengeCard::getCardId).containsExactly(2L);
+	}
+
+	@Test
+	void 재시도를_다_쓴_배치_항목은_parking_큐로() throws Exception {
+		String body = "{\"version\":1,\"items\":[{\"cardId\":1},{\"cardId\":2}]}";
+		Message batch = message(body, 1);
+		batch.getMessageProperties().setHeader(RetryTopologyRecoverer.RETRY_COUNT_HEADER, 2);
+
+		messageBatchReader.forEach(batch, GeneratedChallengeCard.class, item -> {
+			if (item.getCardId() == 1L) {
+				throw new IllegalStateException("fail");
+			}
+		});
+
+		ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+		verify(rabbitTemplate).send(eq("masoori.parking"), eq("challenge.res"), captor.capture());
+		verify(rabbitTemplate, never()).send(eq("masoori.retry"), anyString(), any(Message.class));
+		assertThat(captor.getValue().getMessageProperties().getHeaders())
+			.containsEntry(RetryTopologyRecoverer.ORIGINAL_QUEUE_HEADER, "challenge.res")
+			.containsEntry(RetryTopologyRecoverer.EXCEPTION_MESSAGE_HEADER, "fail");
+		assertThat(messageBatchReader.read(captor.getValue(), GeneratedChallengeCard.class))
+			.extracting(GeneratedChallengeCard::getCardId).containsExactly(1L);
+	}
+
+	@Test
+	void 단건_메시지는_예외를_그대로_던짐() {
+		assertThatThrownBy(() -> messageBatchReader.forEach(message("{\"cardId\":1}", null),
+			GeneratedChallengeCard.class, item -> {
+				throw new IllegalStateException("fail");
+			})).isInstanceOf(IllegalStateException.class);
+
+		verifyNoInteractions(rabbitTemplate);
+	}
+}
@@ -0,0 +1,70 @@
+package com.fintech.masoori.global.rabbitMQ.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fintech.masoori.global.rabbitMQ.dto.ChallengeRequestMessage;
+import com.fintech.masoori.global.rabbitMQ.dto.OutboxStatus;
+import com.fintech.masoori.global.rabbitMQ.entity.OutboxMessage;
+import com.fintech.masoori.global.rabbitMQ.repository.OutboxMessageRepository;
+
+@SpringBootTest
+@Transactional
+class OutboxServiceImplTest {
+
+	@Autowired
+	OutboxService outboxService;
+
+	@Autowired
+	OutboxMessageRepository outboxMessageRepository;
+
+	@Test
+	void 트랜잭션_안에서_PENDING_으로_저장() {
+		outboxService.save("challenge.req", 10L, ChallengeRequestMessage.builder().cardId(10L).name("Rising Sun").build(),
+			false);
+
+		List<OutboxMessage> pending = outboxMessageRepository.findForRelay(OutboxStatus.PENDING, PageRequest.of(0, 100));
+		OutboxMessage saved = pending.stream().filter(message -> !message.getBatched()).reduce((a, b) -> b).orElseThrow();
+		assertThat(saved.getRoutingKey()).isEqualTo("challenge.req");
+		assertThat(saved.getAggregateId()).isEqualTo(10L);
+		assertThat(saved.getPayloadType()).isEqualTo(ChallengeRequestMessage.class.getName());
+		assertThat(saved.getPayload()).contains("\"name\":\"Rising Sun\"");
+	}
+
+	@Test
+	void 묶음_발행보다_단건_발행을_먼저_가져온다() {
+		outboxService.save("spending.req", 20L, ChallengeRequestMessage.builder().cardId(20L).build(), true);
+		outboxService.save("spending.req.interactive", 21L, ChallengeRequestMessage.builder().cardId(21L).build(),
+			false);
+
+		List<OutboxMessage> pending = outboxMessageRepository.findForRelay(OutboxStatus.PENDING, PageRequest.of(0, 1000));
+		List<Long> aggregateIds = pending.stream().map(OutboxMessage::getAggregateId).toList();
+		assertThat(aggregateIds.indexOf(21L)).isLessThan(aggregateIds.indexOf(20L));
+	}
+
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	void 트랜잭션_밖에서는_저장하지_않음() {
+		assertThatThrownBy(() -> outboxService.save("challenge.req", 10L, new ChallengeRequestMessage(), false))
+			.isInstanceOf(IllegalTransactionStateException.class);
+	}
+
+	@Test
+	void 최대_시도_횟수에_도달하면_FAILED() {
+		OutboxMessage message = OutboxMessage.builder().routingKey("spending.req").payloadType("x").payload("{}").build();
+
+		message.failed(2);
+		assertThat(message.getStatus()).isEqualTo(OutboxStatus.PENDING);
+		message.failed(2);
+		assertThat(message.getStatus()).isEqualTo(OutboxStatus.FAILED);
+	}
+}
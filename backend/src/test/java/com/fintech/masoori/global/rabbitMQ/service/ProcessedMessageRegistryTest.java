@@ -0,0 +1,111 @@
+package com.fintech.masoori.global.rabbitMQ.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fintech.masoori.global.rabbitMQ.exception.MessageInProgressException;
+
+class ProcessedMessageRegistryTest {
+
+	private final Map<String, String> store = new ConcurrentHashMap<>();
+	private ProcessedMessageRegistry registry;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+		ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenAnswer(
+			invocation -> store.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+		when(valueOperations.get(anyString())).thenAnswer(invocation -> store.get(invocation.getArgument(0)));
+		doAnswer(invocation -> store.put(invocation.getArgument(0), invocation.getArgument(1)))
+			.when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), any())).thenAnswer(invocation -> {
+			List<String> keys = invocation.getArgument(1);
+			return store.remove(keys.get(0), invocation.getArgument(2)) ? 1L : 0L;
+		});
+		registry = new ProcessedMessageRegistry(redisTemplate);
+		ReflectionTestUtils.setField(registry, "processingSeconds", 300L);
+		ReflectionTestUtils.setField(registry, "ttlHours", 72L);
+	}
+
+	@Test
+	void 같은_키는_한_번만_처리() throws Exception {
+		AtomicInteger count = new AtomicInteger();
+
+		registry.runOnce("challenge.res", "1", count::incrementAndGet);
+		registry.runOnce("challenge.res", "1", count::incrementAndGet);
+		registry.runOnce("challenge.res", "2", count::incrementAndGet);
+
+		assertThat(count).hasValue(2);
+		assertThat(store).containsEntry("PROCESSED:challenge.res:1", ProcessedMessageRegistry.DONE);
+	}
+
+	@Test
+	void 처리에_실패하면_키를_풀어_재전달_때_다시_처리() throws Exception {
+		assertThatThrownBy(() -> registry.runOnce("analytics.res", "1:2023-09", () -> {
+			throw new IllegalStateException("실패");
+		})).isInstanceOf(IllegalStateException.class);
+
+		AtomicInteger count = new AtomicInteger();
+		registry.runOnce("analytics.res", "1:2023-09", count::incrementAndGet);
+
+		assertThat(count).hasValue(1);
+	}
+
+	@Test
+	void 처리_중인_키는_건너뛰지_않고_재시도_예외() {
+		AtomicInteger count = new AtomicInteger();
+		store.put("PROCESSED:challenge.res:1", ProcessedMessageRegistry.PROCESSING);
+
+		assertThatThrownBy(() -> registry.runOnce("challenge.res", "1", count::incrementAndGet))
+			.isInstanceOf(MessageInProgressException.class);
+
+		assertThat(count).hasValue(0);
+		assertThat(store).containsEntry("PROCESSED:challenge.res:1", ProcessedMessageRegistry.PROCESSING);
+	}
+
+	@Test
+	void 완료된_키는_예외_없이_건너뜀() {
+		registry.complete("challenge.res", "1");
+
+		assertThat(registry.tryClaim("challenge.res", "1")).isFalse();
+	}
+
+	@Test
+	void 일괄_선점은_처음_보는_항목만_돌려주고_처리_중인_항목은_따로_넘긴다() {
+		registry.complete("spending.res", "2");
+		List<Long> inProgress = new ArrayList<>();
+
+		List<Long> claimed = registry.claimAll("spending.res", List.of(1L, 2L, 3L, 1L), String::valueOf,
+			(item, e) -> inProgress.add(item));
+
+		assertThat(claimed).containsExactly(1L, 3L);
+		assertThat(inProgress).containsExactly(1L);
+	}
+
+	@Test
+	void 완료된_키는_release_해도_지워지지_않는다() {
+		registry.complete("spending.res", "1");
+
+		registry.release("spending.res", "1");
+
+		assertThat(store).containsEntry("PROCESSED:spending.res:1", ProcessedMessageRegistry.DONE);
+	}
+}
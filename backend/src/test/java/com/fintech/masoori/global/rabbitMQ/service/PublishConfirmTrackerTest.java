@@ -0,0 +1,106 @@
+package com.fintech.masoori.global.rabbitMQ.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PublishConfirmTrackerTest {
+
+	private RabbitTemplate rabbitTemplate;
+	private SimpleMeterRegistry meterRegistry;
+	private PublishConfirmTracker tracker;
+	private RabbitTemplate.ConfirmCallback confirmCallback;
+
+	@BeforeEach
+	void setUp() {
+		rabbitTemplate = mock(RabbitTemplate.class);
+		when(rabbitTemplate.getExchange()).thenReturn("");
+		meterRegistry = new SimpleMeterRegistry();
+		tracker = new PublishConfirmTracker(rabbitTemplate, meterRegistry, 10, 2, 10000, 100);
+		ArgumentCaptor<RabbitTemplate.ConfirmCallback> captor = ArgumentCaptor.forClass(
+			RabbitTemplate.ConfirmCallback.class);
+		verify(rabbitTemplate).setConfirmCallback(captor.capture());
+		confirmCallback = captor.getValue();
+	}
+
+	private Message message(String id) {
+		MessageProperties properties = new MessageProperties();
+		properties.setMessageId(id);
+		return new Message("{}".getBytes(), properties);
+	}
+
+	private CorrelationData lastCorrelation() {
+		ArgumentCaptor<CorrelationData> captor = ArgumentCaptor.forClass(CorrelationData.class);
+		verify(rabbitTemplate, atLeastOnce()).send(anyString(), anyString(), any(Message.class), captor.capture());
+		return captor.getValue();
+	}
+
+	@Test
+	void ack_받으면_성공과_지연시간_기록() throws Exception {
+		CompletableFuture<Boolean> result = tracker.publish("spending.req", message("outbox-1")).orElseThrow();
+		assertThat(tracker.getInFlight()).isEqualTo(1);
+
+		confirmCallback.confirm(lastCorrelation(), true, null);
+
+		assertThat(result.get(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(tracker.getInFlight()).isZero();
+		assertThat(meterRegistry.get("rabbitmq.publish.confirm.latency").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	void nack_이면_재발행_후_ack_받으면_성공() throws Exception {
+		CompletableFuture<Boolean> result = tracker.publish("spending.req", message("outbox-2")).orElseThrow();
+		CorrelationData first = lastCorrelation();
+
+		confirmCallback.confirm(first, false, "nack");
+		verify(rabbitTemplate, timeout(2000).times(2)).send(anyString(), anyString(), any(Message.class),
+			any(CorrelationData.class));
+		CorrelationData second = lastCorrelation();
+		assertThat(second.getId()).isNotEqualTo(first.getId()).startsWith("outbox-2");
+
+		confirmCallback.confirm(second, true, null);
+		assertThat(result.get(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(meterRegistry.get("rabbitmq.publish.republish").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void 재발행_횟수를_넘기면_실패() throws Exception {
+		CompletableFuture<Boolean> result = tracker.publish("spending.req", message("outbox-3")).orElseThrow();
+
+		for (int attempt = 1; attempt <= 3; attempt++) {
+			verify(rabbitTemplate, timeout(2000).times(attempt)).send(anyString(), anyString(), any(Message.class),
+				any(CorrelationData.class));
+			confirmCallback.confirm(lastCorrelation(), false, "nack");
+		}
+
+		assertThat(result.get(2, TimeUnit.SECONDS)).isFalse();
+		assertThat(tracker.getInFlight()).isZero();
+	}
+
+	@Test
+	void 확인_대기_자리가_없으면_기다리다가_발행하지_않고_돌아옴() {
+		for (int i = 0; i < 10; i++) {
+			assertThat(tracker.publish("spending.req", message("outbox-full-" + i))).isPresent();
+		}
+
+		long start = System.nanoTime();
+		assertThat(tracker.publish("spending.req", message("outbox-full-10"))).isEmpty();
+
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(100);
+		assertThat(tracker.getInFlight()).isEqualTo(10);
+		verify(rabbitTemplate, times(10)).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+	}
+}
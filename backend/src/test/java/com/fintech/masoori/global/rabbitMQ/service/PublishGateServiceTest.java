@@ -0,0 +1,106 @@
+package com.fintech.masoori.global.rabbitMQ.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+
+import com.fintech.masoori.global.config.BackpressureProperties;
+import com.fintech.masoori.global.rabbitMQ.dto.QueueGateState;
+
+class PublishGateServiceTest {
+
+	private static final String QUEUE = "spending.req";
+
+	private AmqpAdmin amqpAdmin;
+	private PublishGateService publishGateService;
+
+	@BeforeEach
+	void setUp() {
+		amqpAdmin = mock(AmqpAdmin.class);
+		BackpressureProperties.Watermark watermark = new BackpressureProperties.Watermark();
+		watermark.setHighWater(100);
+		watermark.setLowWater(20);
+		BackpressureProperties properties = new BackpressureProperties();
+		properties.setPollMillis(50);
+		properties.getQueues().put(QUEUE, watermark);
+		publishGateService = new PublishGateService(amqpAdmin, properties);
+		publishGateService.init();
+	}
+
+	private void depth(int count) {
+		Properties properties = new Properties();
+		properties.put(RabbitAdmin.QUEUE_MESSAGE_COUNT, count);
+		when(amqpAdmin.getQueueProperties(QUEUE)).thenReturn(properties);
+		publishGateService.refresh();
+	}
+
+	private QueueGateState state() {
+		return publishGateService.getStates().get(0);
+	}
+
+	@Test
+	void high_water_미만이면_열린_상태() {
+		depth(99);
+
+		assertThat(state().getPaused()).isFalse();
+		assertThat(state().getDepth()).isEqualTo(99);
+	}
+
+	@Test
+	void high_water_이상이면_닫히고_low_water_초과_구간에서는_닫힌_상태_유지() {
+		depth(100);
+		assertThat(state().getPaused()).isTrue();
+
+		depth(50);
+		assertThat(state().getPaused()).isTrue();
+
+		depth(21);
+		assertThat(state().getPaused()).isTrue();
+	}
+
+	@Test
+	void low_water_이하로_내려가면_다시_열림() {
+		depth(150);
+		depth(20);
+
+		assertThat(state().getPaused()).isFalse();
+	}
+
+	@Test
+	void 닫힌_동안_대기하다가_열리면_돌아옴() throws Exception {
+		depth(100);
+		CompletableFuture<Void> waiting = CompletableFuture.runAsync(() -> publishGateService.awaitOpen(QUEUE));
+
+		assertThatThrownBy(() -> waiting.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+		depth(0);
+		waiting.get(1, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void 조회_실패시_마지막_상태_유지() {
+		depth(100);
+		when(amqpAdmin.getQueueProperties(QUEUE)).thenThrow(new IllegalStateException("connection refused"));
+
+		publishGateService.refresh();
+
+		assertThat(state().getPaused()).isTrue();
+		assertThat(state().getDepth()).isEqualTo(100);
+	}
+
+	@Test
+	void 설정되지_않은_큐는_바로_돌아옴() {
+		depth(100);
+
+		assertThatCode(() -> publishGateService.awaitOpen("challenge.req")).doesNotThrowAnyException();
+	}
+}
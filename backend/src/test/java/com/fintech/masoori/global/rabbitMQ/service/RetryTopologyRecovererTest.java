@@ -0,0 +1,98 @@
+package com.fintech.masoori.global.rabbitMQ.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+
+import com.fintech.masoori.global.config.RetryTopologyProperties;
+import com.fintech.masoori.global.rabbitMQ.exception.MessageInProgressException;
+
+class RetryTopologyRecovererTest {
+
+	private RabbitTemplate rabbitTemplate;
+	private RetryTopologyProperties properties;
+	private RetryTopologyRecoverer recoverer;
+
+	@BeforeEach
+	void setUp() {
+		rabbitTemplate = mock(RabbitTemplate.class);
+		properties = new RetryTopologyProperties();
+		properties.setQueues(List.of("challenge.res"));
+		properties.setMaxRetries(2);
+		recoverer = new RetryTopologyRecoverer(rabbitTemplate, properties);
+	}
+
+	private Message message(Integer retryCount) {
+		MessageProperties messageProperties = new MessageProperties();
+		messageProperties.setConsumerQueue("challenge.res");
+		messageProperties.setMessageId("message-1");
+		if (retryCount != null) {
+			messageProperties.setHeader(RetryTopologyRecoverer.RETRY_COUNT_HEADER, retryCount);
+		}
+		return new Message("{}".getBytes(), messageProperties);
+	}
+
+	private ListenerExecutionFailedException failure(Throwable cause) {
+		return new ListenerExecutionFailedException("실패", cause);
+	}
+
+	@Test
+	void 처음_실패하면_첫_번째_재시도_큐로() {
+		Message message = message(null);
+
+		recoverer.recover(message, failure(new IllegalStateException("DB")));
+
+		verify(rabbitTemplate).send("masoori.retry", "challenge.res.retry.1", message);
+		assertThat(RetryTopologyRecoverer.getRetryCount(message.getMessageProperties())).isEqualTo(1);
+	}
+
+	@Test
+	void 재시도_횟수를_넘기면_parking_큐로() {
+		Message message = message(2);
+
+		recoverer.recover(message, failure(new IllegalStateException("DB")));
+
+		verify(rabbitTemplate).send("masoori.parking", "challenge.res", message);
+		assertThat((String)message.getMessageProperties().getHeader(RetryTopologyRecoverer.EXCEPTION_TYPE_HEADER))
+			.isEqualTo(IllegalStateException.class.getName());
+	}
+
+	@Test
+	void 변환_실패는_재시도_없이_parking_큐로() {
+		Message message = message(null);
+
+		recoverer.recover(message, failure(new AmqpRejectAndDontRequeueException("Unknown batch version")));
+
+		verify(rabbitTemplate).send(eq("masoori.parking"), eq("challenge.res"), any(Message.class));
+	}
+
+	@Test
+	void 다른_소비자가_처리_중이면_재시도_횟수를_쓰지_않고_마지막_재시도_큐로() {
+		Message message = message(2);
+
+		recoverer.recover(message, failure(new MessageInProgressException("challenge.res:1")));
+
+		verify(rabbitTemplate).send("masoori.retry", "challenge.res.retry.2", message);
+		verify(rabbitTemplate, never()).send(eq("masoori.parking"), anyString(), any(Message.class));
+		assertThat(RetryTopologyRecoverer.getRetryCount(message.getMessageProperties())).isEqualTo(2);
+	}
+
+	@Test
+	void 지연_시간은_지수적으로_늘고_최대값을_넘지_않는다() {
+		properties.setMaxDelayMillis(40000);
+
+		assertThat(properties.delayMillis(1)).isEqualTo(5000);
+		assertThat(properties.delayMillis(2)).isEqualTo(15000);
+		assertThat(properties.delayMillis(3)).isEqualTo(40000);
+	}
+}
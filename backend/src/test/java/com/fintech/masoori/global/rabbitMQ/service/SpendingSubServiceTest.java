@@ -0,0 +1,114 @@
+package com.fintech.masoori.global.rabbitMQ.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.dao.CannotAcquireLockException;
+
+import com.fintech.masoori.domain.card.service.CardService;
+import com.fintech.masoori.domain.card.service.GenerationJobService;
+import com.fintech.masoori.global.config.RetryTopologyProperties;
+import com.fintech.masoori.global.notification.service.NotificationDispatcher;
+import com.fintech.masoori.global.rabbitMQ.dto.GeneratedSpendingCard;
+import com.fintech.masoori.global.rabbitMQ.dto.MessageBatch;
+
+class SpendingSubServiceTest {
+
+	private RabbitTemplate rabbitTemplate;
+	private CardService cardService;
+	private ProcessedMessageRegistry processedMessageRegistry;
+	private GenerationJobService generationJobService;
+	private MessageBatchReader messageBatchReader;
+	private SpendingSubService spendingSubService;
+
+	@BeforeEach
+	void setUp() {
+		rabbitTemplate = mock(RabbitTemplate.class);
+		cardService = mock(CardService.class);
+		processedMessageRegistry = mock(ProcessedMessageRegistry.class);
+		generationJobService = mock(GenerationJobService.class);
+		RetryTopologyProperties retryTopologyProperties = new RetryTopologyProperties();
+		retryTopologyProperties.setQueues(List.of("spending.res"));
+		retryTopologyProperties.setMaxRetries(2);
+		messageBatchReader = new MessageBatchReader(new ClaimCheckService(new InMemoryClaimCheckStore(), 1024, List.of()),
+			new RetryTopologyRecoverer(rabbitTemplate, retryTopologyProperties));
+		spendingSubService = new SpendingSubService(cardService, messageBatchReader, mock(NotificationDispatcher.class),
+			processedMessageRegistry, mock(LaneWaitRecorder.class), generationJobService);
+		when(processedMessageRegistry.claimAll(anyString(), anyCollection(), any(), any())).thenAnswer(
+			invocation -> new ArrayList<>((Collection<?>)invocation.getArgument(1)));
+		// 일괄 등록도, 한 건씩 등록도 모두 실패
+		when(cardService.registerSpendingCards(anyList())).thenThrow(new CannotAcquireLockException("deadlock"));
+	}
+
+	private Message batch(Integer retryCount) {
+		String body = "{\"version\":1,\"items\":[{\"userId\":1,\"cardId\":10},{\"userId\":2,\"cardId\":20}]}";
+		MessageProperties properties = new MessageProperties();
+		properties.setConsumerQueue("spending.res");
+		properties.setMessageId("batch-1");
+		properties.setHeader(MessageBatch.VERSION_HEADER, 1);
+		if (retryCount != null) {
+			properties.setHeader(RetryTopologyRecoverer.RETRY_COUNT_HEADER, retryCount);
+		}
+		return new Message(body.getBytes(StandardCharsets.UTF_8), properties);
+	}
+
+	@Test
+	void 등록에_실패한_카드는_재시도_큐로_보내고_작업은_실패로_바꾸지_않음() {
+		spendingSubService.subscribeSpendingQueue(List.of(batch(null)));
+
+		ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+		verify(rabbitTemplate, times(2)).send(eq("masoori.retry"), eq("spending.res.retry.1"), captor.capture());
+		assertThat(captor.getAllValues()).extracting(
+				message -> messageBatchReader.read(message, GeneratedSpendingCard.class).get(0).getCardId())
+			.containsExactly(10L, 20L);
+		verify(processedMessageRegistry).release("spending.res", "10");
+		verify(processedMessageRegistry).release("spending.res", "20");
+		verify(generationJobService, never()).failed(anyList(), anyString());
+	}
+
+	@Test
+	void 재시도를_다_써서_parking_된_카드만_작업을_실패로_바꿈() {
+		spendingSubService.subscribeSpendingQueue(List.of(batch(2)));
+
+		verify(rabbitTemplate, times(2)).send(eq("masoori.parking"), eq("spending.res"), any(Message.class));
+		verify(generationJobService).failed(List.of(10L), "카드 등록 실패");
+		verify(generationJobService).failed(List.of(20L), "카드 등록 실패");
+		verify(generationJobService, never()).done(anyList());
+	}
+
+	@Test
+	void 처리_중_빠져나온_예외는_원본_메시지를_재시도_큐로() {
+		when(processedMessageRegistry.claimAll(anyString(), anyCollection(), any(), any())).thenThrow(
+			new IllegalStateException("redis down"));
+		Message batch = batch(null);
+
+		assertThatCode(() -> spendingSubService.subscribeSpendingQueue(List.of(batch))).doesNotThrowAnyException();
+
+		verify(rabbitTemplate).send("masoori.retry", "spending.res.retry.1", batch);
+		verify(cardService, never()).registerSpendingCards(anyList());
+	}
+
+	@Test
+	void 읽을_수_없는_메시지는_parking() {
+		MessageProperties properties = new MessageProperties();
+		properties.setConsumerQueue("spending.res");
+		Message broken = new Message("not json".getBytes(StandardCharsets.UTF_8), properties);
+
+		spendingSubService.subscribeSpendingQueue(List.of(broken));
+
+		verify(rabbitTemplate).send("masoori.parking", "spending.res", broken);
+		verify(rabbitTemplate, never()).send(eq("masoori.retry"), anyString(), any(Message.class));
+	}
+}
@@ -0,0 +1,40 @@
+package com.fintech.masoori.global.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+class DispatchPlanTest {
+
+	private final LocalDateTime sunday = LocalDateTime.of(2023, 10, 1, 0, 0);
+
+	@Test
+	void user_id_위치에_비례해_발행_시각_배치() {
+		DispatchPlan plan = new DispatchPlan(sunday, Duration.ofHours(4), 1L, 100L);
+
+		assertThat(plan.slotTime(1L)).isEqualTo(sunday);
+		assertThat(plan.slotTime(51L)).isEqualTo(sunday.plusHours(2));
+		assertThat(plan.slotTime(100L)).isBefore(sunday.plusHours(4));
+		// 같은 사용자는 항상 같은 시각
+		assertThat(plan.slotTime(37L)).isEqualTo(new DispatchPlan(sunday, Duration.ofHours(4), 1L, 100L).slotTime(37L));
+	}
+
+	@Test
+	void 범위_밖_사용자는_구간_안으로_고정() {
+		DispatchPlan plan = new DispatchPlan(sunday, Duration.ofHours(4), 10L, 20L);
+
+		assertThat(plan.slotTime(1L)).isEqualTo(sunday);
+		assertThat(plan.slotTime(500L)).isBefore(sunday.plusHours(4));
+	}
+
+	@Test
+	void 구간이_없으면_대기하지_않음() {
+		long start = System.currentTimeMillis();
+		DispatchPlan.IMMEDIATE.awaitSlot(Long.MAX_VALUE);
+		new DispatchPlan(LocalDateTime.now().minusHours(1), Duration.ofMinutes(30), 1L, 10L).awaitSlot(10L);
+		assertThat(System.currentTimeMillis() - start).isLessThan(1000L);
+	}
+}
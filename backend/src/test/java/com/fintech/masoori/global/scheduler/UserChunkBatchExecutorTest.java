@@ -0,0 +1,129 @@
+package com.fintech.masoori.global.scheduler;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fintech.masoori.domain.user.service.UserService;
+import com.fintech.masoori.global.scheduler.dto.BatchJobType;
+import com.fintech.masoori.global.scheduler.dto.BatchResult;
+import com.fintech.masoori.global.scheduler.dto.BatchUser;
+import com.fintech.masoori.global.scheduler.dto.UserIdRange;
+import com.fintech.masoori.global.scheduler.entity.BatchJobRun;
+import com.fintech.masoori.global.scheduler.service.BatchJobRunService;
+import com.fintech.masoori.global.scheduler.service.ShardLeaseService;
+
+class UserChunkBatchExecutorTest {
+
+	private static final BatchJobType JOB = BatchJobType.SPENDING_WEEKLY;
+	private static final String PERIOD = "2023-09-25";
+
+	private UserService userService;
+	private BatchJobRunService batchJobRunService;
+	private ShardLeaseService shardLeaseService;
+	private UserChunkBatchExecutor executor;
+	private final Map<Integer, DispatchPlan> plans = new ConcurrentHashMap<>();
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		userService = mock(UserService.class);
+		batchJobRunService = mock(BatchJobRunService.class);
+		RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+		ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(valueOperations.setIfAbsent(anyString(), anyString(), any())).thenReturn(true);
+		shardLeaseService = new ShardLeaseService(redisTemplate);
+		ReflectionTestUtils.setField(shardLeaseService, "leaseSeconds", 60L);
+		shardLeaseService.init();
+
+		DispatchPlanner dispatchPlanner = spy(new DispatchPlanner(userService));
+		ReflectionTestUtils.setField(dispatchPlanner, "spendingWindowMinutes", 240L);
+		doAnswer(invocation -> {
+			DispatchPlan plan = (DispatchPlan)invocation.callRealMethod();
+			plans.put(invocation.getArgument(2), plan);
+			return plan;
+		}).when(dispatchPlanner).plan(any(), any(), anyInt(), anyInt());
+
+		executor = new UserChunkBatchExecutor(userService, batchJobRunService, shardLeaseService, dispatchPlanner);
+		ReflectionTestUtils.setField(executor, "chunkSize", 10);
+		ReflectionTestUtils.setField(executor, "parallelism", 2);
+		ReflectionTestUtils.setField(executor, "shardCount", 2);
+		executor.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.destroy();
+		shardLeaseService.destroy();
+	}
+
+	private BatchJobRun run(long id, LocalDateTime createdDate) {
+		BatchJobRun run = mock(BatchJobRun.class);
+		when(run.getId()).thenReturn(id);
+		when(run.getCreatedDate()).thenReturn(createdDate);
+		when(run.getLastProcessedUserId()).thenReturn(0L);
+		return run;
+	}
+
+	@Test
+	void 모든_샤드가_주기의_첫_실행_시각을_기준으로_발행_구간을_나눠씀() {
+		// 구간이 이미 지난 시각이라 대기 없이 바로 처리된다.
+		LocalDateTime windowStart = LocalDateTime.now().minusHours(5);
+		BatchJobRun shard0 = run(1L, windowStart);
+		// 1번 샤드는 0번 샤드를 다 처리한 뒤 3시간 늦게 시작
+		BatchJobRun shard1 = run(2L, windowStart.plusHours(3));
+		when(batchJobRunService.startOrResume(JOB, PERIOD, 0)).thenReturn(Optional.of(shard0));
+		when(batchJobRunService.startOrResume(JOB, PERIOD, 1)).thenReturn(Optional.of(shard1));
+		when(batchJobRunService.findWindowStart(JOB, PERIOD)).thenReturn(windowStart);
+		when(userService.findAuthenticatedUserIdRange()).thenReturn(new UserIdRange(1L, 4L));
+		when(userService.findAuthenticatedUserChunk(2, 0, 0L, 10)).thenReturn(
+			List.of(new BatchUser(2L, "b@test.com"), new BatchUser(4L, "d@test.com")));
+		when(userService.findAuthenticatedUserChunk(2, 1, 0L, 10)).thenReturn(
+			List.of(new BatchUser(1L, "a@test.com"), new BatchUser(3L, "c@test.com")));
+		List<Long> handled = new CopyOnWriteArrayList<>();
+
+		List<BatchResult> results = executor.execute(JOB, PERIOD, user -> handled.add(user.getId()));
+
+		assertThat(results).extracting(BatchResult::getShard).containsExactly(0, 1);
+		assertThat(handled).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+		// 240분 구간을 샤드 두 개가 2시간씩 나눠 쓴다.
+		assertThat(plans.get(0).slotTime(1L)).isEqualTo(windowStart);
+		assertThat(plans.get(0).slotTime(4L)).isBefore(windowStart.plusHours(2));
+		assertThat(plans.get(1).slotTime(1L)).isEqualTo(windowStart.plusHours(2));
+		assertThat(plans.get(1).slotTime(4L)).isBefore(windowStart.plusHours(4));
+		verify(batchJobRunService).checkpoint(1L, 4L, 2, 0);
+		verify(batchJobRunService).checkpoint(2L, 3L, 2, 0);
+		verify(batchJobRunService).complete(1L);
+		verify(batchJobRunService).complete(2L);
+	}
+
+	@Test
+	void 다른_서버가_끝낸_샤드는_건너뜀() {
+		BatchJobRun shard1 = run(2L, LocalDateTime.now());
+		when(batchJobRunService.isFinished(JOB, PERIOD, 0)).thenReturn(true);
+		when(batchJobRunService.startOrResume(JOB, PERIOD, 1)).thenReturn(Optional.of(shard1));
+		when(userService.findAuthenticatedUserChunk(2, 1, 0L, 10)).thenReturn(
+			List.of(new BatchUser(1L, "a@test.com")));
+
+		List<BatchResult> results = executor.execute(JOB, PERIOD, user -> {
+		});
+
+		assertThat(results).extracting(BatchResult::getShard).containsExactly(1);
+		verify(batchJobRunService, never()).startOrResume(JOB, PERIOD, 0);
+	}
+}
@@ -0,0 +1,48 @@
+package com.fintech.masoori.global.scheduler.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fintech.masoori.global.scheduler.dto.BatchJobStatus;
+import com.fintech.masoori.global.scheduler.dto.BatchJobType;
+import com.fintech.masoori.global.scheduler.entity.BatchJobRun;
+
+@SpringBootTest
+@Transactional
+class BatchJobRunServiceImplTest {
+
+	@Autowired
+	BatchJobRunService batchJobRunService;
+
+	@Test
+	void 중단된_실행은_체크포인트부터_재개() {
+		BatchJobRun run = batchJobRunService.startOrResume(BatchJobType.SPENDING_WEEKLY, "2023-09-11", 0).orElseThrow();
+		batchJobRunService.checkpoint(run.getId(), 500L, 498, 2);
+
+		Optional<BatchJobRun> resumed = batchJobRunService.startOrResume(BatchJobType.SPENDING_WEEKLY, "2023-09-11", 0);
+		assertThat(resumed).isPresent();
+		assertThat(resumed.get().getId()).isEqualTo(run.getId());
+		assertThat(resumed.get().getLastProcessedUserId()).isEqualTo(500L);
+		assertThat(resumed.get().getFailedCount()).isEqualTo(2);
+		assertThat(batchJobRunService.findInterruptedRuns()).extracting(BatchJobRun::getId).contains(run.getId());
+	}
+
+	@Test
+	void 완료된_주기는_다시_실행하지_않음() {
+		BatchJobRun run = batchJobRunService.startOrResume(BatchJobType.CHALLENGE_MONTHLY, "2023-09", 0).orElseThrow();
+		batchJobRunService.complete(run.getId());
+
+		assertThat(run.getStatus()).isEqualTo(BatchJobStatus.COMPLETED);
+		assertThat(batchJobRunService.isFinished(BatchJobType.CHALLENGE_MONTHLY, "2023-09", 0)).isTrue();
+		assertThat(batchJobRunService.isFinished(BatchJobType.CHALLENGE_MONTHLY, "2023-09", 1)).isFalse();
+		assertThat(batchJobRunService.startOrResume(BatchJobType.CHALLENGE_MONTHLY, "2023-09", 0)).isEmpty();
+		// 다른 주기는 새로 실행
+		assertThat(batchJobRunService.startOrResume(BatchJobType.CHALLENGE_MONTHLY, "2023-10", 0)).isPresent();
+	}
+}
@@ -0,0 +1,49 @@
+import base64
+import hashlib
+import json
+import os
+
+# 백엔드 ClaimCheckService 와 같은 형식. 본문은 store 에 있고 큐에는 참조만 온다.
+claim_check_content_type = "application/vnd.masoori.claim-check+json"
+claim_check_store = os.environ.get("CLAIM_CHECK_STORE", "redis")
+# store 가 file 일 때 백엔드와 공유하는 디렉터리
+claim_check_dir = os.environ.get("CLAIM_CHECK_DIR", "/var/lib/masoori/claim-check")
+redis_key_prefix = "CLAIM_CHECK:"
+
+redis_client = None
+
+
+def _get_payload(claim_check_id):
+    global redis_client
+    if claim_check_store == "file":
+        path = os.path.join(claim_check_dir, claim_check_id)
+        if not os.path.exists(path):
+            return None
+        with open(path, "rb") as f:
+            return f.read()
+    if redis_client is None:
+        import redis
+        redis_client = redis.Redis(
+            host=os.environ.get("REDIS_HOST", "j9b308.p.ssafy.io"),
+            port=int(os.environ.get("REDIS_PORT", "1234")),
+        )
+    value = redis_client.get(redis_key_prefix + claim_check_id)
+    return None if value is None else base64.b64decode(value)
+
+
+# claim-check 메시지면 저장소에서 본문을 가져와 원래 content-type, content-encoding 을 되돌린다.
+# 다른 저장소, 만료, 체크섬 불일치는 다시 받아도 풀 수 없으니 ValueError 로 알린다.
+def ResolveClaimCheck(properties, body):
+    if properties.content_type != claim_check_content_type:
+        return body
+    claim_check = json.loads(body)
+    if claim_check.get('store') != claim_check_store:
+        raise ValueError(f"다른 저장소의 claim check : {claim_check}")
+    payload = _get_payload(claim_check['id'])
+    if payload is None:
+        raise ValueError(f"만료되었거나 없는 claim check : {claim_check}")
+    if hashlib.sha256(payload).hexdigest() != claim_check.get('sha256'):
+        raise ValueError(f"Claim check 체크섬 불일치 : {claim_check}")
+    properties.content_type = claim_check.get('contentType')
+    properties.content_encoding = claim_check.get('contentEncoding')
+    return payload
@@ -0,0 +1,107 @@
+import gzip
+from datetime import datetime, timezone
+
+# 백엔드 ColumnarTransactionCodec / AnalyticsMessageEncoder 와 같은 형식
+columnar_content_type = "application/vnd.masoori.transactions+columnar"
+gzip_content_encoding = "gzip"
+columnar_magic = b"MSRC"
+columnar_version = 1
+
+
+class _Reader:
+    def __init__(self, body):
+        self.body = body
+        self.position = 0
+
+    def raw(self, length):
+        if self.position + length > len(self.body):
+            raise ValueError("columnar 본문이 잘렸습니다.")
+        value = self.body[self.position:self.position + length]
+        self.position += length
+        return value
+
+    def varint(self):
+        value = 0
+        shift = 0
+        while True:
+            b = self.raw(1)[0]
+            value |= (b & 0x7F) << shift
+            shift += 7
+            if b & 0x80 == 0:
+                return value
+
+    # null 은 0, 값은 zigzag 후 +1
+    def nullable_long(self):
+        value = self.varint()
+        if value == 0:
+            return None
+        value -= 1
+        return (value >> 1) ^ -(value & 1)
+
+    def string(self):
+        length = self.varint()
+        if length == 0:
+            return None
+        return self.raw(length - 1).decode("utf-8")
+
+    def dictionary(self):
+        return [self.string() for _ in range(self.varint())]
+
+
+def _lookup(values, index):
+    return None if index == 0 else values[index - 1]
+
+
+def DecodeColumnar(body):
+    reader = _Reader(body)
+    if reader.raw(len(columnar_magic)) != columnar_magic:
+        raise ValueError("columnar 형식이 아닙니다.")
+    version = reader.varint()
+    if version > columnar_version:
+        raise ValueError(f"지원하지 않는 columnar 버전 : {version}")
+
+    messages = []
+    row_counts = []
+    for _ in range(reader.varint()):
+        messages.append({'userId': reader.nullable_long(), 'date': reader.string()})
+        row_counts.append(reader.varint())
+    places = reader.dictionary()
+    contents = reader.dictionary()
+
+    rows = [{} for _ in range(sum(row_counts))]
+    previous_id = 0
+    for row in rows:
+        delta = reader.nullable_long()
+        if delta is not None:
+            previous_id += delta
+            row['id'] = previous_id
+    previous_date = 0
+    for row in rows:
+        delta = reader.nullable_long()
+        row['date'] = None
+        if delta is not None:
+            previous_date += delta
+            row['date'] = datetime.fromtimestamp(previous_date, tz=timezone.utc).strftime("%Y-%m-%dT%H:%M:%S")
+    for row in rows:
+        row['amount'] = reader.nullable_long()
+    for row in rows:
+        row['dealPlaceName'] = _lookup(places, reader.varint())
+    for row in rows:
+        row['content'] = _lookup(contents, reader.varint())
+
+    start = 0
+    for message, row_count in zip(messages, row_counts):
+        message['userMonthlyTransactionList'] = rows[start:start + row_count]
+        start += row_count
+    return messages
+
+
+# content-encoding 이 gzip 이면 푼 본문을 돌려준다.
+def Decompress(properties, body):
+    if properties.content_encoding == gzip_content_encoding:
+        return gzip.decompress(body)
+    return body
+
+
+def IsColumnar(properties):
+    return properties.content_type == columnar_content_type
@@ -16,6 +16,9 @@ from Description.makeCardName import MakeCardName
 from CreditCard.recomandCreditCard import RecommandCreditCard
 from CreditCard.creditCardSearch import CreditCardSearch
 
+from WireFormat.columnar import Decompress, IsColumnar, DecodeColumnar
+from WireFormat.claimCheck import ResolveClaimCheck
+
 # rabbitMQ 변수 정리
 rabbit_mq_server_domain_name = "j9b308.p.ssafy.io"
 rabbit_mq_server_domain_port = 5672
@@ -69,56 +72,85 @@ class MonthlySpendingAndCreditcard(BaseModel):
     spendings: List[GeneratedSpending]
 
 
-# sub 에서 메시지를 받아 처리하는 함수
-def callback(ch, method, properties, body):
-    try:
-        # 이거 쓰면댐 -> Anal
-        request_message_dict = json.loads(body)
-        # 서비스 로직 실행 -> 결과값 res 객체에 넣고 쏘면 댐.
+# MessageBatch 봉투 헤더. 헤더가 없으면 단건 요청이다.
+batch_version_header = "x-batch-version"
+batch_schema_version = 1
 
-        userId = request_message_dict['userId']
-        date = request_message_dict['date']
-        spendList = request_message_dict['userMonthlyTransactionList']
 
-        print(f"UserId : {userId}")
-        print(f"Date : {date}")
-        print(f"SpendList : {spendList}")
+# 요청 한 건을 처리해 응답 큐로 보낸다.
+def handle_request(ch, request_message_dict):
+    userId = request_message_dict['userId']
+    date = request_message_dict['date']
+    spendList = request_message_dict['userMonthlyTransactionList']
 
-        if userId is None:
-            print("UserId is None")
-            ch.basic_ack(delivery_tag=method.delivery_tag)
-            return
+    print(f"UserId : {userId}")
+    print(f"Date : {date}")
+    print(f"SpendList : {spendList}")
 
-        if len(spendList) == 0:
-            print("SpendList Length is 0")
-            ch.basic_ack(delivery_tag=method.delivery_tag)
-            return
+    if userId is None:
+        print("UserId is None")
+        return
+
+    if len(spendList) == 0:
+        print("SpendList Length is 0")
+        return
 
-        categorization = FaissCategorization(spendList)
-        print(f"Categorization : {categorization}")
-        description = SummarizeSpend(categorization)
-        print(f"Description : {description}")
-        summary = ContentSearch(description)
-        print(f"Summary : {summary}")
-        recommandCardList = RecommandCreditCard(summary)
-        print(f"RecommandCardList : {recommandCardList}")
-        cardList = CreditCardSearch(recommandCardList)
-        print(f"CardList : {cardList}")
-
-        res = MonthlySpendingAndCreditcard(
-            userId=userId, 
-            date=date,
-            creditCardList=cardList,
-            spendings=categorization
-        ).json()
-        print(f"Result : {res}")
-        # 메시지 응답 큐 pub
-        ch.basic_publish(exchange="", routing_key=pub_queue_name, body=res)
-
-        # 메시지 처리 완료 시 MQ에 처리 했다고 전달하는 함수
-        ch.basic_ack(delivery_tag=method.delivery_tag)
+    categorization = FaissCategorization(spendList)
+    print(f"Categorization : {categorization}")
+    description = SummarizeSpend(categorization)
+    print(f"Description : {description}")
+    summary = ContentSearch(description)
+    print(f"Summary : {summary}")
+    recommandCardList = RecommandCreditCard(summary)
+    print(f"RecommandCardList : {recommandCardList}")
+    cardList = CreditCardSearch(recommandCardList)
+    print(f"CardList : {cardList}")
+
+    res = MonthlySpendingAndCreditcard(
+        userId=userId, 
+        date=date,
+        creditCardList=cardList,
+        spendings=categorization
+    ).json()
+    print(f"Result : {res}")
+    # 메시지 응답 큐 pub
+    ch.basic_publish(exchange="", routing_key=pub_queue_name, body=res)
+
+
+# sub 에서 메시지를 받아 처리하는 함수
+def callback(ch, method, properties, body):
+    request_headers = properties.headers or {}
+    try:
+        batch_version = request_headers.get(batch_version_header)
+        if batch_version is not None and int(batch_version) > batch_schema_version:
+            # 모르는 봉투 버전은 다시 받아도 처리할 수 없으니 버린다.
+            print(f"Unknown Batch Version : {batch_version}")
+            ch.basic_reject(delivery_tag=method.delivery_tag, requeue=False)
+            return
+        # claim check 를 먼저 풀어야 원래 content-type, content-encoding 을 알 수 있다.
+        body = ResolveClaimCheck(properties, body)
+        body = Decompress(properties, body)
+        if IsColumnar(properties):
+            # columnar 본문은 단건이어도 요청 목록이다.
+            requests = DecodeColumnar(body)
+        elif batch_version is None:
+            requests = [json.loads(body)]
+        else:
+            requests = json.loads(body)['items']
     except Exception as e:
-        print(e)
+        print(f"Invalid Message : {e}")
+        ch.basic_reject(delivery_tag=method.delivery_tag, requeue=False)
+        return
+
+    # 봉투 안 한 건이 실패해도 나머지는 처리하고 봉투는 한 번만 ack 한다.
+    for request_message_dict in requests:
+        try:
+            handle_request(ch, request_message_dict)
+        except Exception as e:
+            print(e)
+
+    # 메시지 처리 완료 시 MQ에 처리 했다고 전달하는 함수
+    ch.basic_ack(delivery_tag=method.delivery_tag)
 
 
 # sub 설정
@@ -2,7 +2,7 @@ import pika
 import json
 import asyncio
 from pydantic import BaseModel
-from typing import List
+from typing import List, Optional
 from datetime import datetime
 
 import os
@@ -34,13 +34,15 @@ channel.queue_declare(queue=pub_queue_name, durable=True)
 
 # reqDto
 class ChallengeRequestMessage(BaseModel):
-    cardId: int
-    verse: str
+    cardId: Optional[int]
+    name: str
+    warmUp: bool = False
 
 
 # resDto 선언
 class GeneratedChallengeCard(BaseModel):
-    cardId: int
+    cardId: Optional[int]
+    name: str
     imagePath: str
 
 
@@ -50,13 +52,15 @@ def callback(ch, method, properties, body):
         # 이거 쓰면댐 -> Anal
         request_message_dict = json.loads(body)
         # 서비스 로직 실행 -> 결과값 res 객체에 넣고 쏘면 댐.
-        cardId = request_message_dict['cardId']
-        keyword = request_message_dict['verse']
+        cardId = request_message_dict.get('cardId')
+        keyword = request_message_dict.get('name') or request_message_dict.get('verse', '')
+        # 미리 생성 요청은 카드 없이 이름별 이미지만 만든다.
+        warmUp = request_message_dict.get('warmUp', False)
 
         print(f"CardId : {cardId}")
         print(f"Keyword : {keyword}")
 
-        if cardId is None:
+        if cardId is None and not warmUp:
             print("CardId is None")
             ch.basic_ack(delivery_tag=method.delivery_tag)
             return
@@ -72,11 +76,12 @@ def callback(ch, method, properties, body):
         print(f"Prompt : {prompt}")
         time = datetime.now().strftime("%Y%m%d%H%M")
         print(f"Time : {time}")
-        imageName = MakePng(str(cardId), time, prompt)
+        imageName = MakePng(str(cardId) if cardId is not None else "warmup", time, prompt)
         print(f"ImageName : {imageName}")
 
         res = GeneratedChallengeCard(
-            cardId=cardId, 
+            cardId=cardId,
+            name=keyword,
             imagePath=f"https://sonagi.site/outputs/{imageName}.png").json()
         print(f"Result : {res}")
         # 메시지 응답 큐 pub
@@ -86,6 +91,8 @@ def callback(ch, method, properties, body):
         ch.basic_ack(delivery_tag=method.delivery_tag)
     except Exception as e:
         print(e)
+        # ack 하지 않으면 prefetch 1 인 워커가 멈춘다. 처리하지 못한 메시지는 버린다.
+        ch.basic_reject(delivery_tag=method.delivery_tag, requeue=False)
 
 
 # sub 설정
@@ -18,13 +18,14 @@ def FaissCategorization(userSpendData):
             if categorize.get(cat) is None:
                 categorize[cat] = []
         for data in addCategory:
-            categorize[data['category']].append({"amount" : data['amount']})
+            # 가맹점 요약이면 count 만큼의 거래로 센다.
+            categorize[data['category']].append({"amount" : data['amount'], "count" : data.get('count', 1)})
         result = []
         for cat in categorize:
             temp = {}
             temp['keyword'] = cat
             totalAmount = 0
-            frequency = len(categorize[cat])
+            frequency = sum(c['count'] for c in categorize[cat])
             for c in categorize[cat]:
                 totalAmount += int(c['amount'])
             temp['totalAmount'] = totalAmount
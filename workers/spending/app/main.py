@@ -2,7 +2,7 @@ import pika
 import json
 import asyncio
 from pydantic import BaseModel
-from typing import List
+from typing import List, Optional
 from datetime import datetime
 
 import os
@@ -21,7 +21,8 @@ from StableDiffusionPrompt.makePNG import MakePng
 rabbit_mq_server_domain_name = "j9b308.p.ssafy.io"
 rabbit_mq_server_domain_port = 5672
 pub_queue_name = "spending.res"
-sub_queue_name = "spending.req"
+# 같은 이미지를 spending.req(배치) 와 spending.req.interactive(사용자 요청) 전용 워커로 나눠 띄운다.
+sub_queue_name = os.environ.get("SUB_QUEUE", "spending.req")
 
 # RabbitMQ 연결 설정
 credentials = pika.PlainCredentials(username="admin", password="masoori")
@@ -45,6 +46,16 @@ class Transaction(BaseModel):
     dealPlaceName: str
 
 
+# 가맹점 하나의 기간 내 거래 요약
+class MerchantAggregate(BaseModel):
+    dealPlaceName: str
+    count: int
+    totalAmount: int
+    firstDate: Optional[str]
+    lastDate: Optional[str]
+    sampleContent: Optional[str]
+
+
 class GeneratedSpending(BaseModel):
     keyword: str
     totalAmount: int
@@ -56,7 +67,10 @@ class SpendingRequestMessage(BaseModel):
     userId: int
     cardId: int
     date : str
-    userWeeklyTransactionList: List[Transaction]
+    userWeeklyTransactionList: List[Transaction] = []
+    # true 면 거래내역 대신 가맹점별 요약(merchantAggregates)만 온다.
+    aggregated: bool = False
+    merchantAggregates: List[MerchantAggregate] = []
 
 
 # resDto 선언
@@ -70,73 +84,119 @@ class GeneratedSpendingCard(BaseModel):
     spendings: List[GeneratedSpending]
 
 
+# MessageBatch 봉투 헤더. 헤더가 없으면 단건 요청이다.
+batch_version_header = "x-batch-version"
+batch_schema_version = 1
+
+
+# 가맹점 요약을 분류용 거래 한 줄로 바꾼다. count 만큼 한 가맹점의 거래로 센다.
+def to_spend_list(merchant_aggregates):
+    return [{
+        'date': aggregate.get('lastDate'),
+        'content': aggregate.get('sampleContent'),
+        'amount': aggregate['totalAmount'],
+        'dealPlaceName': aggregate['dealPlaceName'],
+        'count': aggregate['count'],
+    } for aggregate in merchant_aggregates]
+
+
+# 요청 한 건을 처리해 응답 큐로 보낸다.
+def handle_request(ch, request_message_dict, response_headers):
+    userId = request_message_dict['userId']
+    cardId = request_message_dict['cardId']
+    date = request_message_dict['date']
+    if request_message_dict.get('aggregated'):
+        spendList = to_spend_list(request_message_dict.get('merchantAggregates') or [])
+    else:
+        spendList = request_message_dict['userWeeklyTransactionList']
+    print(f"UserId : {userId}")
+    print(f"CardId : {cardId}")
+    print(f"Date : {date}")
+    print(f"SpendList : {spendList}")
+
+    if userId is None:
+        print("User is None")
+        return
+
+    if cardId is None:
+        print("CardId is None")
+        return
+
+    if len(spendList) == 0:
+        print("SpendList Length is 0")
+        return
+
+    categorization = FaissCategorization(spendList)
+    print(f"Categorization : {categorization}")
+    description = SummarizeSpend(categorization)
+    print(f"Description : {description}")
+    summary = ContentSearch(description)
+    print(f"Summary : {summary}")
+    name = MakeCardName(summary)
+    print(f"Name : {name}")
+    sorted_result = sorted(categorization, key=lambda x: x['totalAmount'], reverse=True)
+    print(f"sorted_result : {sorted_result}")
+    keyword = sorted_result[0]['keyword']
+    print(f"Keyword : {keyword}")
+    promptText = PromptWriting(keyword)
+    print(f"PromptText : {promptText}")
+    prompt = promptText.replace("프롬프트 : ", "")
+    print(f"Prompt : {prompt}")
+    time = datetime.now().strftime("%Y%m%d%H%M")
+    print(f"Time : {time}")
+    imageName = MakePng(str(cardId), time, prompt)
+    print(f"ImagePath : {imageName}")
+
+    res = GeneratedSpendingCard(
+        userId=userId,
+        cardId=cardId,
+        name=name,
+        imagePath=f"https://sonagi.site/outputs/{imageName}.png",
+        description=description,
+        date=date,
+        spendings=categorization).json()
+    print(f"Result : {res}")
+    # 메시지 응답 큐 pub
+    ch.basic_publish(exchange="", routing_key=pub_queue_name, body=res,
+                     properties=pika.BasicProperties(headers=response_headers))
+
+
 # sub 에서 메시지를 받아 처리하는 함수
 def callback(ch, method, properties, body):
+    # 백엔드가 요청 큐 대기 시간을 잴 수 있도록 발행 시각과 꺼낸 시각을 응답 헤더로 돌려준다.
+    picked_at = int(datetime.now().timestamp() * 1000)
+    request_headers = properties.headers or {}
+    response_headers = {
+        "x-requested-at": request_headers.get("x-requested-at"),
+        "x-picked-at": picked_at,
+        "x-source-queue": sub_queue_name,
+    }
     try:
-        # 이거 쓰면댐 -> Anal
         request_message_dict = json.loads(body)
-        # 서비스 로직 실행 -> 결과값 res 객체에 넣고 쏘면 댐.
-        userId = request_message_dict['userId']
-        cardId = request_message_dict['cardId']
-        date = request_message_dict['date']
-        spendList = request_message_dict['userWeeklyTransactionList']
-        print(f"UserId : {userId}")
-        print(f"CardId : {cardId}")
-        print(f"Date : {date}")
-        print(f"SpendList : {spendList}")
-
-        if userId is None:
-            print("User is None")
-            ch.basic_ack(delivery_tag=method.delivery_tag)
-            return
-
-        if cardId is None:
-            print("CardId is None")
-            ch.basic_ack(delivery_tag=method.delivery_tag)
-            return
-
-        if len(spendList) == 0:
-            print("SpendList Length is 0")
-            ch.basic_ack(delivery_tag=method.delivery_tag)
+        batch_version = request_headers.get(batch_version_header)
+        if batch_version is None:
+            requests = [request_message_dict]
+        elif int(batch_version) > batch_schema_version:
+            # 모르는 봉투 버전은 다시 받아도 처리할 수 없으니 버린다.
+            print(f"Unknown Batch Version : {batch_version}")
+            ch.basic_reject(delivery_tag=method.delivery_tag, requeue=False)
             return
-
-        categorization = FaissCategorization(spendList)
-        print(f"Categorization : {categorization}")
-        description = SummarizeSpend(categorization)
-        print(f"Description : {description}")
-        summary = ContentSearch(description)
-        print(f"Summary : {summary}")
-        name = MakeCardName(summary)
-        print(f"Name : {name}")
-        sorted_result = sorted(categorization, key=lambda x: x['totalAmount'], reverse=True)
-        print(f"sorted_result : {sorted_result}")
-        keyword = sorted_result[0]['keyword']
-        print(f"Keyword : {keyword}")
-        promptText = PromptWriting(keyword)
-        print(f"PromptText : {promptText}")
-        prompt = promptText.replace("프롬프트 : ", "")
-        print(f"Prompt : {prompt}")
-        time = datetime.now().strftime("%Y%m%d%H%M")
-        print(f"Time : {time}")
-        imageName = MakePng(str(cardId), time, prompt)
-        print(f"ImagePath : {imageName}")
-
-        res = GeneratedSpendingCard(
-            userId=userId,
-            cardId=cardId,
-            name=name,
-            imagePath=f"https://sonagi.site/outputs/{imageName}.png",
-            description=description,
-            date=date,
-            spendings=categorization).json()
-        print(f"Result : {res}")
-        # 메시지 응답 큐 pub
-        ch.basic_publish(exchange="", routing_key=pub_queue_name, body=res)
-
-        # 메시지 처리 완료 시 MQ에 처리 했다고 전달하는 함수
-        ch.basic_ack(delivery_tag=method.delivery_tag)
+        else:
+            requests = request_message_dict['items']
     except Exception as e:
-        print(e)
+        print(f"Invalid Message : {e}")
+        ch.basic_reject(delivery_tag=method.delivery_tag, requeue=False)
+        return
+
+    # 봉투 안 한 건이 실패해도 나머지는 처리하고 봉투는 한 번만 ack 한다.
+    for request_message_dict in requests:
+        try:
+            handle_request(ch, request_message_dict, response_headers)
+        except Exception as e:
+            print(e)
+
+    # 메시지 처리 완료 시 MQ에 처리 했다고 전달하는 함수
+    ch.basic_ack(delivery_tag=method.delivery_tag)
 
 
 # sub 설정